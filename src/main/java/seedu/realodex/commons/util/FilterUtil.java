@@ -0,0 +1,76 @@
+package seedu.realodex.commons.util;
+
+import static seedu.realodex.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Filters lists, testing the elements of large lists in parallel on the common {@code ForkJoinPool}.
+ */
+public class FilterUtil {
+
+    // fewest elements tested by a single fork-join task
+    private static final int MIN_ELEMENTS_PER_TASK = 1024;
+
+    /**
+     * Returns the elements of {@code list} that satisfy {@code predicate}, in list order.
+     * If {@code list} has at least {@code parallelThreshold} elements, ranges of it are tested in parallel, so
+     * {@code predicate} must then be safe to call from several threads at once.
+     */
+    public static <T> List<T> filter(List<T> list, Predicate<? super T> predicate, int parallelThreshold) {
+        requireAllNonNull(list, predicate);
+        if (list.size() < parallelThreshold) {
+            return list.stream().filter(predicate).collect(Collectors.toList());
+        }
+
+        List<T> elements = new ArrayList<>(list);
+        boolean[] matches = new boolean[elements.size()];
+        ForkJoinPool.commonPool().invoke(new MatchTask<>(elements, predicate, matches, 0, elements.size()));
+
+        List<T> result = new ArrayList<>();
+        for (int i = 0; i < matches.length; i++) {
+            if (matches[i]) {
+                result.add(elements.get(i));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Marks the elements from {@code from} (inclusive) to {@code to} (exclusive) that satisfy the predicate,
+     * splitting the range in halves until it is small enough to test directly.
+     */
+    private static class MatchTask<T> extends RecursiveAction {
+        private final List<T> elements;
+        private final Predicate<? super T> predicate;
+        private final boolean[] matches;
+        private final int from;
+        private final int to;
+
+        MatchTask(List<T> elements, Predicate<? super T> predicate, boolean[] matches, int from, int to) {
+            this.elements = elements;
+            this.predicate = predicate;
+            this.matches = matches;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= MIN_ELEMENTS_PER_TASK) {
+                for (int i = from; i < to; i++) {
+                    matches[i] = predicate.test(elements.get(i));
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new MatchTask<>(elements, predicate, matches, from, middle),
+                    new MatchTask<>(elements, predicate, matches, middle, to));
+        }
+    }
+}
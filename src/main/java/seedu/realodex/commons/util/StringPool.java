@@ -0,0 +1,69 @@
+package seedu.realodex.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Canonicalizes equal strings to a single shared instance so that repeated values, such as the address of a
+ * condominium block shared by many clients, are kept in memory once.
+ * Strings are held weakly and leave the pool once nothing else refers to them.
+ */
+public class StringPool {
+
+    // a String object with compressed references, excluding its character array
+    private static final int STRING_OBJECT_BYTES = 24;
+    private static final int ARRAY_HEADER_BYTES = 16;
+    private static final int OBJECT_ALIGNMENT_BYTES = 8;
+
+    private static final StringPool SHARED_POOL = new StringPool();
+
+    private final Map<String, WeakReference<String>> canonicalStrings = new WeakHashMap<>();
+    private long bytesSaved;
+
+    /**
+     * Returns the pool shared by the whole application.
+     */
+    public static StringPool getSharedPool() {
+        return SHARED_POOL;
+    }
+
+    /**
+     * Returns the canonical instance of {@code string}: the first instance equal to it that was pooled and is
+     * still in use, or {@code string} itself if there is none.
+     */
+    public synchronized String intern(String string) {
+        requireNonNull(string);
+        WeakReference<String> reference = canonicalStrings.get(string);
+        String canonicalString = reference == null ? null : reference.get();
+        if (canonicalString != null) {
+            if (canonicalString != string) {
+                bytesSaved += estimateBytes(string);
+            }
+            return canonicalString;
+        }
+        canonicalStrings.put(string, new WeakReference<>(string));
+        return string;
+    }
+
+    /**
+     * Returns an estimate of the bytes taken by the duplicate strings that were replaced by canonical instances.
+     */
+    public synchronized long getBytesSaved() {
+        return bytesSaved;
+    }
+
+    /**
+     * Returns an estimate of the heap taken by {@code string}, which stores one byte per character unless it has
+     * characters outside Latin-1.
+     */
+    static long estimateBytes(String string) {
+        int bytesPerChar = string.chars().allMatch(c -> c <= 0xFF) ? 1 : 2;
+        long arrayBytes = ARRAY_HEADER_BYTES + (long) string.length() * bytesPerChar;
+        long alignedArrayBytes = (arrayBytes + OBJECT_ALIGNMENT_BYTES - 1)
+                / OBJECT_ALIGNMENT_BYTES * OBJECT_ALIGNMENT_BYTES;
+        return STRING_OBJECT_BYTES + alignedArrayBytes;
+    }
+}
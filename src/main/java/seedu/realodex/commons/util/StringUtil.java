@@ -6,12 +6,18 @@ import static seedu.realodex.commons.util.AppUtil.checkArgument;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
 
 /**
  * Helper functions for handling strings.
  */
 public class StringUtil {
 
+    private static final int SOUNDEX_LENGTH = 4;
+    // Soundex digit of each letter from a to z, with 0 for vowels and y, and - for h and w, which are skipped
+    private static final String SOUNDEX_DIGITS = "0123012-02245501262301-202";
+
     /**
      * Returns true if the {@code sentence} contains the {@code word}.
      *   Ignores case, but a full word match is required.
@@ -65,4 +71,136 @@ public class StringUtil {
             return false;
         }
     }
+
+    /**
+     * Returns {@code s} with each character lower-cased on its own by {@link Character#toLowerCase(char)}.
+     * Unlike {@link String#toLowerCase()}, the result does not depend on the default locale, keeps the length of
+     * {@code s}, and lower-cases each character the same way wherever it appears, so it agrees with comparing
+     * texts character by character.
+     * @throws NullPointerException if {@code s} is null.
+     */
+    public static String toLowerCaseByChar(String s) {
+        requireNonNull(s);
+        char[] chars = new char[s.length()];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(s.charAt(i));
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Returns true if every character of {@code s} is an ASCII character.
+     * @throws NullPointerException if {@code s} is null.
+     */
+    public static boolean isAscii(String s) {
+        requireNonNull(s);
+        for (int i = 0; i < s.length(); i++) {
+            if (s.charAt(i) >= 128) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the Levenshtein distance between {@code first} and {@code second}, the fewest single-character
+     * insertions, deletions and substitutions that turn one into the other.
+     * If the distance is greater than {@code maxDistance}, stops early and returns {@code maxDistance + 1}.
+     * @throws NullPointerException if {@code first} or {@code second} is null.
+     */
+    public static int editDistance(String first, String second, int maxDistance) {
+        requireNonNull(first);
+        requireNonNull(second);
+        if (Math.abs(first.length() - second.length()) > maxDistance) {
+            return maxDistance + 1;
+        }
+
+        int[] previousRow = new int[second.length() + 1];
+        int[] currentRow = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previousRow[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            currentRow[0] = i;
+            int rowMinimum = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int substitutionCost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                currentRow[j] = Math.min(previousRow[j - 1] + substitutionCost,
+                        Math.min(previousRow[j], currentRow[j - 1]) + 1);
+                rowMinimum = Math.min(rowMinimum, currentRow[j]);
+            }
+            if (rowMinimum > maxDistance) {
+                return maxDistance + 1;
+            }
+            int[] swap = previousRow;
+            previousRow = currentRow;
+            currentRow = swap;
+        }
+        return Math.min(previousRow[second.length()], maxDistance + 1);
+    }
+
+    /**
+     * Returns the American Soundex code of {@code word}: its first letter or digit in upper case, followed by the
+     * digits of the consonant sounds after it, padded with zeros to four characters. Words that sound alike, such
+     * as "Smith" and "Smyth", have the same code. Other characters are ignored, and a word without letters or
+     * digits has an empty code.
+     * <br>examples:<pre>
+     *       soundex("Robert") == "R163"
+     *       soundex("Rupert") == "R163"
+     *       soundex("Tymczak") == "T522"
+     *       </pre>
+     * @throws NullPointerException if {@code word} is null.
+     */
+    public static String soundex(String word) {
+        requireNonNull(word);
+        StringBuilder code = new StringBuilder(SOUNDEX_LENGTH);
+        char previousDigit = 0;
+        for (int i = 0; i < word.length() && code.length() < SOUNDEX_LENGTH; i++) {
+            char c = Character.toLowerCase(word.charAt(i));
+            boolean isLetter = c >= 'a' && c <= 'z';
+            if (code.length() == 0) {
+                if (isLetter || Character.isDigit(c)) {
+                    code.append(Character.toUpperCase(c));
+                    previousDigit = isLetter ? SOUNDEX_DIGITS.charAt(c - 'a') : 0;
+                }
+                continue;
+            }
+            if (!isLetter) {
+                continue;
+            }
+            char digit = SOUNDEX_DIGITS.charAt(c - 'a');
+            if (digit == '-') {
+                // h and w do not separate consonants with the same digit
+                continue;
+            }
+            if (digit != '0' && digit != previousDigit) {
+                code.append(digit);
+            }
+            previousDigit = digit;
+        }
+        if (code.length() == 0) {
+            return "";
+        }
+        while (code.length() < SOUNDEX_LENGTH) {
+            code.append('0');
+        }
+        return code.toString();
+    }
+
+    /**
+     * Returns the distinct {@link #soundex(String) Soundex codes} of the whitespace-separated words of
+     * {@code text}, leaving out the empty codes of words without letters or digits.
+     * @throws NullPointerException if {@code text} is null.
+     */
+    public static Set<String> soundexCodesOf(String text) {
+        requireNonNull(text);
+        Set<String> codes = new HashSet<>();
+        for (String word : text.split("\\s+")) {
+            String code = soundex(word);
+            if (!code.isEmpty()) {
+                codes.add(code);
+            }
+        }
+        return codes;
+    }
 }
@@ -1,12 +1,15 @@
 package seedu.realodex.logic;
 
 import java.nio.file.Path;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.realodex.commons.core.GuiSettings;
 import seedu.realodex.logic.commands.CommandResult;
 import seedu.realodex.logic.commands.exceptions.CommandException;
 import seedu.realodex.logic.parser.exceptions.ParseException;
+import seedu.realodex.model.DayClock;
+import seedu.realodex.model.PersonCursor;
 import seedu.realodex.model.ReadOnlyRealodex;
 import seedu.realodex.model.person.Person;
 
@@ -33,6 +36,26 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Returns a cursor over the persons satisfying {@code predicate}, a page of up to {@code pageSize} persons
+     * at a time.
+     *
+     * @see seedu.realodex.model.Model#queryPersons(Predicate, int)
+     */
+    PersonCursor queryPersons(Predicate<Person> predicate, int pageSize);
+
+    /**
+     * Brings the order of the filtered list of persons up to date with today's date.
+     *
+     * @see seedu.realodex.model.Model#refreshForToday()
+     */
+    void refreshForToday();
+
+    /**
+     * Returns the clock that supplies today's date to the model.
+     */
+    DayClock getDayClock();
+
     /**
      * Returns the user prefs' realodex file path.
      */
@@ -3,6 +3,7 @@ package seedu.realodex.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -13,7 +14,9 @@ import seedu.realodex.logic.commands.CommandResult;
 import seedu.realodex.logic.commands.exceptions.CommandException;
 import seedu.realodex.logic.parser.RealodexParser;
 import seedu.realodex.logic.parser.exceptions.ParseException;
+import seedu.realodex.model.DayClock;
 import seedu.realodex.model.Model;
+import seedu.realodex.model.PersonCursor;
 import seedu.realodex.model.ReadOnlyRealodex;
 import seedu.realodex.model.person.Person;
 import seedu.realodex.storage.Storage;
@@ -39,7 +42,7 @@ public class LogicManager implements Logic {
     public LogicManager(Model model, Storage storage) {
         this.model = model;
         this.storage = storage;
-        realodexParser = new RealodexParser();
+        realodexParser = new RealodexParser(model.getDayClock());
     }
 
     @Override
@@ -71,6 +74,21 @@ public class LogicManager implements Logic {
         return model.getFilteredPersonList();
     }
 
+    @Override
+    public PersonCursor queryPersons(Predicate<Person> predicate, int pageSize) {
+        return model.queryPersons(predicate, pageSize);
+    }
+
+    @Override
+    public void refreshForToday() {
+        model.refreshForToday();
+    }
+
+    @Override
+    public DayClock getDayClock() {
+        return model.getDayClock();
+    }
+
     @Override
     public Path getRealodexFilePath() {
         return model.getRealodexFilePath();
@@ -65,7 +65,7 @@ public class DeleteCommand extends Command {
         if (targetIndex != null) {
             personToDelete = DeleteCommandExecutor.deleteByIndex(lastShownList, targetIndex);
         } else {
-            personToDelete = DeleteCommandExecutor.deleteByName(lastShownList, targetName);
+            personToDelete = DeleteCommandExecutor.deleteByName(model, targetName);
         }
 
         model.deletePerson(personToDelete);
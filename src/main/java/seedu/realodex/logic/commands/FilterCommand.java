@@ -2,8 +2,12 @@ package seedu.realodex.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.realodex.logic.parser.CliSyntax.PREFIX_BIRTHDAY;
+import static seedu.realodex.logic.parser.CliSyntax.PREFIX_FAMILY;
+import static seedu.realodex.logic.parser.CliSyntax.PREFIX_FUZZY_NAME;
 import static seedu.realodex.logic.parser.CliSyntax.PREFIX_HOUSINGTYPE;
+import static seedu.realodex.logic.parser.CliSyntax.PREFIX_INCOME;
 import static seedu.realodex.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.realodex.logic.parser.CliSyntax.PREFIX_PHONETIC_NAME;
 import static seedu.realodex.logic.parser.CliSyntax.PREFIX_REMARK;
 import static seedu.realodex.logic.parser.CliSyntax.PREFIX_TAG;
 
@@ -15,7 +19,8 @@ import seedu.realodex.model.Model;
 import seedu.realodex.model.person.Person;
 
 /**
- * Filters and lists all persons in realodex whose name contains the argument keyphrase.
+ * Filters and lists all persons in realodex that match every given field: a name keyphrase, approximate name or
+ * sound-alike name, a remark keyphrase, a tag, a birthday month, a housing type, and income or family size ranges.
  * Keyphrase matching is case-insensitive.
  */
 public class FilterCommand extends Command {
@@ -23,30 +28,41 @@ public class FilterCommand extends Command {
     public static final String COMMAND_WORD = "filter";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Filters all clients by specified field (name, remark, tag, birthday, housing type) "
-            + "with the specified keyphrase (non-empty, case-insensitive) "
-            + "and displays them as a list with index numbers.\n"
-            + "Note that although the fields are listed as optional, ONE field must strictly be present.\n"
+            + ": Filters all clients by specified fields (name, remark, tag, birthday, housing type, income, "
+            + "family size) "
+            + "with the specified keyphrases (non-empty, case-insensitive) "
+            + "and displays the clients matching all of them as a list with index numbers.\n"
+            + "Note that although the fields are listed as optional, at least one field must be present.\n"
             + "Parameters: "
             + "[" + PREFIX_NAME + "KEYPHRASE] "
-            + "[" + PREFIX_REMARK + "REMARK]"
+            + "[" + PREFIX_FUZZY_NAME + "APPROXIMATE-NAME] "
+            + "[" + PREFIX_PHONETIC_NAME + "SOUND-ALIKE-NAME] "
+            + "[" + PREFIX_REMARK + "REMARK] "
             + "[" + PREFIX_TAG + "TAG]\n"
             + "[" + PREFIX_BIRTHDAY + "MONTH] "
-            + "[" + PREFIX_HOUSINGTYPE + "HOUSING-TYPE]\n"
+            + "[" + PREFIX_HOUSINGTYPE + "HOUSING-TYPE] "
+            + "[" + PREFIX_INCOME + "RANGE]... "
+            + "[" + PREFIX_FAMILY + "RANGE]...\n"
             + "Example: " + COMMAND_WORD + " " + PREFIX_NAME + "alice tan";
     public static final String MESSAGE_FILTER_HELP = "Filter Command: "
-            + "Filters clients by ONE specified field (name, remark, tag, birthday, housing type). "
+            + "Filters clients by one or more specified fields (name, remark, tag, birthday, housing type, income, "
+            + "family size), showing clients who match all of them. "
             + "All inputs must be non-empty and are case-insensitive.\n"
             + "Name and remark are filtered with a keyphrase, "
+            + "names can also be filtered approximately with n~/, allowing a few typos, "
+            + "or by how they sound with n@/, "
             + "tags are filtered with a valid tag name (buyer/seller), "
             + "birthdays are filtered in MMM format (jan, feb, mar etc)\n"
             + "and housing type is filtered with a valid housing type (HDB, Condominium, Landed property, Good "
             + "Class Bungalow).\n"
+            + "Income and family size are filtered with up to two bounds (>=N, <=N, >N, <N) or a range (N..M).\n"
             + "Results are displayed as a list with index numbers.\n"
-            + "Format: filter [n/NAME_KEYPHRASE] [r/REMARK_KEYPHRASE] [t/TAG] [b/BIRTHDAY] [h/HOUSING_TYPE]\n"
-            + "Examples: filter n/Jus, filter r/likes coffee, filter t/buyer, filter b/oct, filter h/landed property\n";
-
-    public static final String MESSAGE_FILTER_CONFLICT = "Filter command can only filter by one field.\n";
+            + "Format: filter [n/NAME_KEYPHRASE] [n~/APPROXIMATE_NAME] [n@/SOUND_ALIKE_NAME] [r/REMARK_KEYPHRASE] "
+            + "[t/TAG] [b/BIRTHDAY] [h/HOUSING_TYPE] [i/INCOME_RANGE]... [f/FAMILY_RANGE]...\n"
+            + "Examples: filter n/Jus, filter n~/jonh tann, filter n@/jon smyth, "
+            + "filter r/likes coffee, "
+            + "filter t/buyer, filter b/oct, filter h/landed property, "
+            + "filter i/>=5000 i/<=12000, filter f/3..5, filter t/buyer h/condominium i/>=8000\n";
 
     public static final String MESSAGE_FILTER_EMPTY_REMARK = "Cannot filter by empty remark.\n";
 
@@ -7,6 +7,8 @@ import static seedu.realodex.logic.commands.EditCommand.MESSAGE_EDIT_HELP;
 import static seedu.realodex.logic.commands.FilterCommand.MESSAGE_FILTER_HELP;
 import static seedu.realodex.logic.commands.ListCommand.MESSAGE_LIST_HELP;
 import static seedu.realodex.logic.commands.SortCommand.MESSAGE_SORT_HELP;
+import static seedu.realodex.logic.commands.StatsCommand.MESSAGE_STATS_HELP;
+import static seedu.realodex.logic.commands.UpcomingCommand.MESSAGE_UPCOMING_HELP;
 
 import seedu.realodex.model.Model;
 
@@ -23,7 +25,7 @@ public class HelpCommand extends Command {
 
     public static final String MESSAGE_INDIVIDUAL_COMMANDS_HELP = "Help for Individual Commands: Shows you the help"
             + " message for the specified command in the GUI directly. This is only applicable for the "
-            + "Add, Clear, Delete, Edit, Filter, List and Sort commands.\n"
+            + "Add, Clear, Delete, Edit, Filter, List, Sort, Stats and Upcoming commands.\n"
             + "Format: COMMAND help\n"
             + "Examples: add help, delete help, edit help\n";
 
@@ -65,6 +67,12 @@ public class HelpCommand extends Command {
         case "sort":
             return new CommandResult(MESSAGE_SORT_HELP, false, false);
 
+        case "stats":
+            return new CommandResult(MESSAGE_STATS_HELP, false, false);
+
+        case "upcoming":
+            return new CommandResult(MESSAGE_UPCOMING_HELP, false, false);
+
         default:
             return new CommandResult(SHOWING_HELP_MESSAGE, true, false);
         }
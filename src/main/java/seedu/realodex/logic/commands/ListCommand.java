@@ -6,7 +6,7 @@ import static seedu.realodex.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import seedu.realodex.model.Model;
 
 /**
- * Lists all persons in realodex to the user.
+ * Lists all persons in realodex to the user, in the order in which they are stored.
  */
 public class ListCommand extends Command {
 
@@ -20,6 +20,7 @@ public class ListCommand extends Command {
     public CommandResult execute(Model model) {
         requireNonNull(model);
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        model.clearSort();
         return new CommandResult(MESSAGE_SUCCESS);
     }
 }
@@ -1,43 +1,76 @@
 package seedu.realodex.logic.commands;
 
-import javafx.collections.ObservableList;
-//import seedu.realodex.commons.util.ToStringBuilder;
-import seedu.realodex.logic.commands.exceptions.CommandException;
+import static java.util.Objects.requireNonNull;
+import static seedu.realodex.commons.util.AppUtil.checkArgument;
+
+import java.util.List;
+
+import seedu.realodex.commons.util.ToStringBuilder;
 import seedu.realodex.model.Model;
-import seedu.realodex.model.Realodex;
-import seedu.realodex.model.person.Person;
-import seedu.realodex.model.person.sorting.BirthdayComparator;
+import seedu.realodex.model.person.sorting.SortKey;
 
 /**
- * Command to sort clients by their birthday.
+ * Command to sort the listed clients by one or more of their fields, without changing the order in which
+ * clients are stored.
  */
 public class SortCommand extends Command {
     public static final String COMMAND_WORD = "sort";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts clients by their upcoming birthdays\n"
-            + "Example: sort";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts the listed clients by the given fields, "
+            + "or by their upcoming birthdays if no field is given\n"
+            + "Parameters: [KEY]... (each one of name, income, family, birthday, housing)\n"
+            + "Example: sort, sort housing income";
 
     public static final String MESSAGE_SORT_HELP = "Sort Command: "
-            + "Sorts clients by their birthday\n"
-            + "Format: sort\n";
+            + "Sorts the listed clients by the given fields, each breaking ties of the one before, "
+            + "or by their upcoming birthdays if no field is given\n"
+            + "Fields: name, income, family, birthday, housing\n"
+            + "Format: sort [KEY]...\n"
+            + "Example: sort housing income\n";
+
+    public static final String MESSAGE_SUCCESS = "Sorted list by %1$s!";
+
+    private final List<SortKey> sortKeys;
 
-    public static final String MESSAGE_SUCCESS = "Sorted list by days to their birthday!";
+    /**
+     * Creates a SortCommand to sort the listed clients by each of {@code sortKeys} in turn.
+     */
+    public SortCommand(List<SortKey> sortKeys) {
+        requireNonNull(sortKeys);
+        checkArgument(!sortKeys.isEmpty(), "Sort keys must not be empty");
+        this.sortKeys = List.copyOf(sortKeys);
+    }
 
     /**
-     * Executes the sort command to sort clients by their birthday.
+     * Executes the sort command to sort the listed clients.
      *
      * @param model the current model of the application
      * @return the result of the execution
-     * @throws CommandException if an error occurs during execution
      */
     @Override
-    public CommandResult execute(Model model) throws CommandException {
-        Realodex realodexToUpdate = (Realodex) model.getRealodex();
-        ObservableList<Person> copiedInternalListForSorting =
-                realodexToUpdate.getCopyOfInternalListOfUniquePersonsList();
-        copiedInternalListForSorting.sort(new BirthdayComparator());
-        realodexToUpdate.setPersons(copiedInternalListForSorting);
-        return new CommandResult(MESSAGE_SUCCESS);
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.sortFilteredPersonList(sortKeys);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, SortKey.describe(sortKeys)));
     }
 
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SortCommand)) {
+            return false;
+        }
+
+        SortCommand otherSortCommand = (SortCommand) other;
+        return sortKeys.equals(otherSortCommand.sortKeys);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("sortKeys", sortKeys).toString();
+    }
 }
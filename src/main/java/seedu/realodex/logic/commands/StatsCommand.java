@@ -0,0 +1,120 @@
+package seedu.realodex.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.realodex.model.PersonStatistics.INCOME_BRACKET_LOWER_BOUNDS;
+
+import java.util.Map;
+
+import seedu.realodex.model.Model;
+import seedu.realodex.model.PersonStatistics;
+import seedu.realodex.model.person.HousingType;
+import seedu.realodex.model.person.HousingType.House;
+import seedu.realodex.model.person.Tag.Role;
+
+/**
+ * Shows the number of clients by housing type, tag, income bracket and family size.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String FILTERED_KEYWORD = "filtered";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the number of clients by housing type, tag, income and family size, "
+            + "of all clients or, with \"" + FILTERED_KEYWORD + "\", of the clients listed.\n"
+            + "Parameters: [" + FILTERED_KEYWORD + "]\n"
+            + "Example: " + COMMAND_WORD + " " + FILTERED_KEYWORD;
+
+    public static final String MESSAGE_STATS_HELP = "Stats Command: "
+            + "Shows the number of clients by housing type, tag, income bracket and family size.\n"
+            + "Counts all clients, or only the clients currently listed if \"" + FILTERED_KEYWORD + "\" is given.\n"
+            + "Format: stats [" + FILTERED_KEYWORD + "]\n"
+            + "Examples: stats, stats " + FILTERED_KEYWORD + "\n";
+
+    public static final String MESSAGE_SUCCESS_ALL = "Statistics of all %1$d clients:\n";
+    public static final String MESSAGE_SUCCESS_FILTERED = "Statistics of the %1$d clients listed:\n";
+
+    private final boolean isFilteredOnly;
+
+    /**
+     * Creates a StatsCommand counting only the clients listed if {@code isFilteredOnly}, or all clients otherwise.
+     */
+    public StatsCommand(boolean isFilteredOnly) {
+        this.isFilteredOnly = isFilteredOnly;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        PersonStatistics statistics = isFilteredOnly ? model.getFilteredStatistics() : model.getStatistics();
+        String header = String.format(isFilteredOnly ? MESSAGE_SUCCESS_FILTERED : MESSAGE_SUCCESS_ALL,
+                statistics.getCount());
+        return new CommandResult(header + format(statistics));
+    }
+
+    /**
+     * Returns the counts of {@code statistics}, one line per field.
+     */
+    public static String format(PersonStatistics statistics) {
+        StringBuilder builder = new StringBuilder("Housing type: ");
+        House[] houses = House.values();
+        for (int i = 0; i < houses.length; i++) {
+            appendCount(builder, i, HousingType.of(houses[i]).toString(), statistics.getCount(houses[i]));
+        }
+
+        builder.append("\nTags: ");
+        Role[] roles = Role.values();
+        for (int i = 0; i < roles.length; i++) {
+            appendCount(builder, i, roles[i].toString(), statistics.getCount(roles[i]));
+        }
+
+        builder.append("\nIncome: ");
+        for (int i = 0; i < INCOME_BRACKET_LOWER_BOUNDS.length; i++) {
+            appendCount(builder, i, incomeBracketToString(i), statistics.getIncomeBracketCount(i));
+        }
+
+        builder.append("\nFamily size: ");
+        int i = 0;
+        for (Map.Entry<Integer, Integer> entry : statistics.getFamilySizeCounts().entrySet()) {
+            appendCount(builder, i++, entry.getKey().toString(), entry.getValue());
+        }
+        if (i == 0) {
+            builder.append("-");
+        }
+        return builder.toString();
+    }
+
+    private static void appendCount(StringBuilder builder, int position, String label, int count) {
+        if (position > 0) {
+            builder.append(", ");
+        }
+        builder.append(label).append(": ").append(count);
+    }
+
+    /**
+     * Returns the income bracket at {@code bracket} in the range syntax of the filter command, e.g. "5000..9999".
+     */
+    private static String incomeBracketToString(int bracket) {
+        long lowerBound = INCOME_BRACKET_LOWER_BOUNDS[bracket];
+        if (bracket == INCOME_BRACKET_LOWER_BOUNDS.length - 1) {
+            return ">=" + lowerBound;
+        }
+        return lowerBound + ".." + (INCOME_BRACKET_LOWER_BOUNDS[bracket + 1] - 1);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StatsCommand)) {
+            return false;
+        }
+
+        StatsCommand otherStatsCommand = (StatsCommand) other;
+        return isFilteredOnly == otherStatsCommand.isFilteredOnly;
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.realodex.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.realodex.commons.util.AppUtil.checkArgument;
+
+import java.util.List;
+import java.util.OptionalInt;
+
+import seedu.realodex.model.DayClock;
+import seedu.realodex.model.Model;
+import seedu.realodex.model.person.Person;
+import seedu.realodex.model.person.predicates.BirthdayInDayRangePredicate;
+import seedu.realodex.model.person.sorting.BirthdaySorter;
+
+/**
+ * Lists the clients with the next upcoming birthdays, without changing the order in which clients are stored.
+ */
+public class UpcomingCommand extends Command {
+
+    public static final String COMMAND_WORD = "upcoming";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the clients with the next COUNT upcoming birthdays, from today onwards.\n"
+            + "Parameters: COUNT (must be a positive integer)\n"
+            + "Example: " + COMMAND_WORD + " 20";
+
+    public static final String MESSAGE_UPCOMING_HELP = "Upcoming Command: "
+            + "Lists the clients with the next COUNT upcoming birthdays, from today onwards, "
+            + "without changing the order of the client list.\n"
+            + "Clients sharing a birthday with the last client listed are also listed.\n"
+            + "Format: upcoming COUNT\n"
+            + "Example: upcoming 20\n";
+
+    public static final String MESSAGE_SUCCESS = "Listed the %1$d clients with the next upcoming birthdays:";
+    public static final String MESSAGE_NO_BIRTHDAYS = "No client has a specified birthday.";
+
+    private final int count;
+
+    /**
+     * Creates an UpcomingCommand to list the clients with the next {@code count} birthdays.
+     */
+    public UpcomingCommand(int count) {
+        checkArgument(count > 0, "Count must be positive");
+        this.count = count;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        DayClock dayClock = model.getDayClock();
+        int fromDay = dayClock.getTodayDayOfLeapYear();
+        OptionalInt toDay = model.findDayOfUpcomingBirthday(fromDay, count);
+        if (toDay.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_BIRTHDAYS);
+        }
+
+        BirthdayInDayRangePredicate predicate = new BirthdayInDayRangePredicate(fromDay, toDay.getAsInt());
+        model.updateFilteredPersonList(predicate);
+
+        // only the clients listed are ordered, so this takes O(k log k) for k clients listed
+        List<Person> upcomingPersons = BirthdaySorter.sortByDaysFrom(model.getFilteredPersonList(), fromDay);
+
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_SUCCESS, upcomingPersons.size()));
+        for (int i = 0; i < upcomingPersons.size(); i++) {
+            Person person = upcomingPersons.get(i);
+            message.append("\n").append(i + 1).append(". ").append(person.getName())
+                    .append(": ").append(person.getBirthday().getDaysUntilBirthdayWithRepresentation(dayClock));
+        }
+        return new CommandResult(message.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof UpcomingCommand)) {
+            return false;
+        }
+
+        UpcomingCommand otherUpcomingCommand = (UpcomingCommand) other;
+        return count == otherUpcomingCommand.count;
+    }
+}
@@ -5,6 +5,7 @@ import java.util.List;
 import seedu.realodex.commons.core.index.Index;
 import seedu.realodex.logic.Messages;
 import seedu.realodex.logic.commands.exceptions.CommandException;
+import seedu.realodex.model.Model;
 import seedu.realodex.model.person.Name;
 import seedu.realodex.model.person.Person;
 
@@ -26,13 +27,10 @@ public class DeleteCommandExecutor {
 
     /**
      * Deletes a client from realodex using their full name.
+     * The client is looked up through the model's name index and must be in the displayed list.
      */
-    public static Person deleteByName(List<Person> lastShownList, Name targetName) throws CommandException {
-        for (Person person : lastShownList) {
-            if (person.getName().equals(targetName)) {
-                return person;
-            }
-        }
-        throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_NAME);
+    public static Person deleteByName(Model model, Name targetName) throws CommandException {
+        return model.getFilteredPersonByName(targetName)
+                .orElseThrow(() -> new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_NAME));
     }
 }
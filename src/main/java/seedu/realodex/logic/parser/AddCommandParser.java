@@ -1,5 +1,6 @@
 package seedu.realodex.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.realodex.logic.parser.CliSyntax.PREFIX_ADDRESS;
 import static seedu.realodex.logic.parser.CliSyntax.PREFIX_BIRTHDAY;
 import static seedu.realodex.logic.parser.CliSyntax.PREFIX_EMAIL;
@@ -19,6 +20,7 @@ import java.util.stream.Stream;
 import seedu.realodex.logic.Messages;
 import seedu.realodex.logic.commands.AddCommand;
 import seedu.realodex.logic.parser.exceptions.ParseException;
+import seedu.realodex.model.DayClock;
 import seedu.realodex.model.person.Address;
 import seedu.realodex.model.person.Birthday;
 import seedu.realodex.model.person.Email;
@@ -43,6 +45,16 @@ public class AddCommandParser implements Parser<AddCommand> {
                 PREFIX_FAMILY, PREFIX_EMAIL,
                 PREFIX_TAG, PREFIX_HOUSINGTYPE};
 
+    private final DayClock dayClock;
+
+    /**
+     * Creates an {@code AddCommandParser} that rejects birthdays after the date given by {@code dayClock}.
+     */
+    public AddCommandParser(DayClock dayClock) {
+        requireNonNull(dayClock);
+        this.dayClock = dayClock;
+    }
+
     /**
      * Parses the given {@code String} of arguments in the context of the AddCommand
      * and returns an AddCommand object for execution.
@@ -122,7 +134,7 @@ public class AddCommandParser implements Parser<AddCommand> {
         ParserUtilResult<Birthday> birthdayStored = ParserUtil
                 .parseBirthdayReturnStored(argMultimap
                                                    .getValueOrDefault(PREFIX_BIRTHDAY)
-                                                   .orElseThrow());
+                                                   .orElseThrow(), dayClock.getToday());
         birthdayStored.buildErrorMessage(errorMessageBuilder, "birthday");
         handleErrorMessage(errorMessageBuilder);
 
@@ -8,6 +8,8 @@ public class CliSyntax {
     /* Prefix definitions */
     public static final Prefix PREFIX_NAME = new Prefix("n/");
     public static final Prefix PREFIX_NAME_CAPS = new Prefix("N/");
+    public static final Prefix PREFIX_FUZZY_NAME = new Prefix("n~/");
+    public static final Prefix PREFIX_PHONETIC_NAME = new Prefix("n@/");
     public static final Prefix PREFIX_PHONE = new Prefix("p/");
     public static final Prefix PREFIX_PHONE_CAPS = new Prefix("P/");
     public static final Prefix PREFIX_INCOME = new Prefix("i/");
@@ -21,6 +21,7 @@ import seedu.realodex.commons.core.index.Index;
 import seedu.realodex.logic.commands.EditCommand;
 import seedu.realodex.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.realodex.logic.parser.exceptions.ParseException;
+import seedu.realodex.model.DayClock;
 import seedu.realodex.model.person.Tag;
 
 //@@author UdhayaShan1
@@ -31,6 +32,16 @@ public class EditCommandParser implements Parser<EditCommand> {
 
     public static final String MESSAGE_ERROR_PARSING_TAGS = "Error parsing tags: " + Tag.MESSAGE_CONSTRAINTS;
 
+    private final DayClock dayClock;
+
+    /**
+     * Creates an {@code EditCommandParser} that rejects birthdays after the date given by {@code dayClock}.
+     */
+    public EditCommandParser(DayClock dayClock) {
+        requireNonNull(dayClock);
+        this.dayClock = dayClock;
+    }
+
     /**
      * Parses the given {@code String} of arguments in the context of the EditCommand
      * and returns an EditCommand object for execution.
@@ -78,7 +89,8 @@ public class EditCommandParser implements Parser<EditCommand> {
         parseAndSetField(argMultimap, PREFIX_FAMILY, editPersonDescriptor::setFamily,
                          ParserUtil::parseFamilyReturnStored, errorMessageBuilder, "family");
         parseAndSetField(argMultimap, PREFIX_BIRTHDAY, editPersonDescriptor::setBirthday,
-                         ParserUtil::parseBirthdayReturnStored, errorMessageBuilder, "birthday");
+                         birthday -> ParserUtil.parseBirthdayReturnStored(birthday, dayClock.getToday()),
+                         errorMessageBuilder, "birthday");
         parseAndSetField(argMultimap, PREFIX_HOUSINGTYPE, editPersonDescriptor::setHousingType,
                          ParserUtil::parseHousingTypeReturnStored, errorMessageBuilder, "housing type");
 
@@ -3,17 +3,22 @@ package seedu.realodex.logic.parser;
 import static seedu.realodex.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.realodex.logic.commands.FilterCommand.MESSAGE_FILTER_EMPTY_REMARK;
 import static seedu.realodex.logic.parser.CliSyntax.PREFIX_BIRTHDAY;
+import static seedu.realodex.logic.parser.CliSyntax.PREFIX_FAMILY;
+import static seedu.realodex.logic.parser.CliSyntax.PREFIX_FUZZY_NAME;
 import static seedu.realodex.logic.parser.CliSyntax.PREFIX_HOUSINGTYPE;
+import static seedu.realodex.logic.parser.CliSyntax.PREFIX_INCOME;
 import static seedu.realodex.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.realodex.logic.parser.CliSyntax.PREFIX_PHONETIC_NAME;
 import static seedu.realodex.logic.parser.CliSyntax.PREFIX_REMARK;
 import static seedu.realodex.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.function.Predicate;
 
 import seedu.realodex.logic.commands.FilterCommand;
 import seedu.realodex.logic.parser.exceptions.ParseException;
-import seedu.realodex.model.person.Person;
+import seedu.realodex.model.person.predicates.ConjunctionPredicate;
+import seedu.realodex.model.person.predicates.IndexedPredicate;
 import seedu.realodex.model.person.predicates.PredicateProducer;
 
 /**
@@ -23,10 +28,14 @@ public class FilterCommandParser implements Parser<FilterCommand> {
 
     private static final Prefix[] POSSIBLE_PREFIXES = {
         PREFIX_NAME,
+        PREFIX_FUZZY_NAME,
+        PREFIX_PHONETIC_NAME,
         PREFIX_REMARK,
         PREFIX_TAG,
         PREFIX_BIRTHDAY,
-        PREFIX_HOUSINGTYPE
+        PREFIX_HOUSINGTYPE,
+        PREFIX_INCOME,
+        PREFIX_FAMILY
     };
     /**
      * Parses the given {@code String} of arguments in the context of the FilterCommand
@@ -40,11 +49,17 @@ public class FilterCommandParser implements Parser<FilterCommand> {
 
         validateInput(prefixChecker);
 
-        Prefix presentPrefix = prefixChecker.findPresentPrefix(POSSIBLE_PREFIXES);
-        List<String> keyphrases = argMultimap.getAllValues(presentPrefix);
-        Predicate<Person> predicate = createPredicateForPrefix(presentPrefix, keyphrases);
+        List<IndexedPredicate> predicates = new ArrayList<>();
+        for (Prefix prefix : POSSIBLE_PREFIXES) {
+            if (argMultimap.containsPrefix(prefix)) {
+                predicates.add(createPredicateForPrefix(prefix, argMultimap.getAllValues(prefix)));
+            }
+        }
 
-        return new FilterCommand(predicate);
+        if (predicates.size() == 1) {
+            return new FilterCommand(predicates.get(0));
+        }
+        return new FilterCommand(new ConjunctionPredicate(predicates));
     }
 
     /**
@@ -56,13 +71,14 @@ public class FilterCommandParser implements Parser<FilterCommand> {
      * @throws ParseException if there's an issue creating the predicate.
      */
 
-    private Predicate<Person> createPredicateForPrefix(Prefix presentPrefix, List<String> keyphrases)
+    private IndexedPredicate createPredicateForPrefix(Prefix presentPrefix, List<String> keyphrases)
             throws ParseException {
         checkValidNameIfApplicable(presentPrefix, keyphrases);
         checkValidRemarkIfApplicable(presentPrefix, keyphrases);
         checkValidTagsIfApplicable(presentPrefix, keyphrases);
         checkValidBirthdayIfApplicable(presentPrefix, keyphrases);
         checkValidHousingTypeIfApplicable(presentPrefix, keyphrases);
+        checkValidRangeIfApplicable(presentPrefix, keyphrases);
         PredicateProducer predicateProducer = new PredicateProducer();
         return predicateProducer.createPredicate(presentPrefix, keyphrases);
     }
@@ -75,28 +91,21 @@ public class FilterCommandParser implements Parser<FilterCommand> {
      */
     private void validateInput(PrefixChecker prefixChecker) throws ParseException {
         checkEmptyPreamble(prefixChecker);
-        checkOnlyOnePrefixTypePresent(prefixChecker);
+        checkAnyPrefixPresent(prefixChecker);
         checkNoDuplicatePrefix(prefixChecker);
     }
 
     /**
-     * Checks if exactly one prefix is present in the input arguments. This method ensures that
-     * the command includes at least one recognized prefix and that no more than one is specified,
-     * to maintain the command's specificity.
+     * Checks if at least one prefix is present in the input arguments. Several prefixes may be given,
+     * in which case only clients matching all of them are listed.
      *
      * @param prefixChecker the {@link PrefixChecker} used to validate the presence of prefixes.
-     * @throws ParseException if no prefixes are present or more than one prefix is found.
+     * @throws ParseException if no prefixes are present.
      */
-    private void checkOnlyOnePrefixTypePresent(PrefixChecker prefixChecker) throws ParseException {
-        // Check for at least one prefix present and no empty preamble
+    private void checkAnyPrefixPresent(PrefixChecker prefixChecker) throws ParseException {
         if (!prefixChecker.anyPrefixesPresent(POSSIBLE_PREFIXES)) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
         }
-        if (prefixChecker.moreThanOnePrefixTypePresent(POSSIBLE_PREFIXES)) {
-            throw new ParseException(String.format(
-                    MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_FILTER_CONFLICT
-            ));
-        }
     }
 
     /**
@@ -126,15 +135,16 @@ public class FilterCommandParser implements Parser<FilterCommand> {
     }
 
     /**
-     * Validates name keyphrase if the present prefix is for a name. Each keyphrase must conform
-     * to Name constraints.
+     * Validates name keyphrase if the present prefix is for a name, an approximate name or a sound-alike name.
+     * Each keyphrase must conform to Name constraints.
      *
      * @param presentPrefix The prefix to check if it's name-related.
      * @param keyphrases The list of keyphrases representing potential names.
      * @throws ParseException if any name keyphrase is invalid.
      */
     private void checkValidNameIfApplicable(Prefix presentPrefix, List<String> keyphrases) throws ParseException {
-        if (!presentPrefix.equals(PREFIX_NAME)) {
+        if (!presentPrefix.equals(PREFIX_NAME) && !presentPrefix.equals(PREFIX_FUZZY_NAME)
+                && !presentPrefix.equals(PREFIX_PHONETIC_NAME)) {
             return;
         }
         String name = keyphrases.get(keyphrases.size() - 1);
@@ -206,4 +216,19 @@ public class FilterCommandParser implements Parser<FilterCommand> {
         String month = keyphrases.get(keyphrases.size() - 1);
         ParserUtil.parseMonth(month);
     }
+
+    /**
+     * Validates range keyphrases if the present prefix is for income or family size. Each keyphrase must be
+     * a valid bound of a numeric range.
+     *
+     * @param presentPrefix The prefix to check if it's income or family size-related.
+     * @param keyphrases The list of keyphrases representing bounds of the range.
+     * @throws ParseException if any bound is invalid.
+     */
+    private void checkValidRangeIfApplicable(Prefix presentPrefix, List<String> keyphrases) throws ParseException {
+        if (!presentPrefix.equals(PREFIX_INCOME) && !presentPrefix.equals(PREFIX_FAMILY)) {
+            return;
+        }
+        ParserUtil.parseRange(keyphrases);
+    }
 }
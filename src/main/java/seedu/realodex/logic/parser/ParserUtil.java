@@ -3,12 +3,16 @@ package seedu.realodex.logic.parser;
 import static java.util.Objects.requireNonNull;
 
 import java.text.SimpleDateFormat;
+import java.time.LocalDate;
 import java.util.Collection;
 import java.util.Date;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import seedu.realodex.commons.core.index.Index;
+import seedu.realodex.commons.util.StringPool;
 import seedu.realodex.commons.util.StringUtil;
 import seedu.realodex.logic.parser.exceptions.ParseException;
 import seedu.realodex.model.person.Address;
@@ -21,6 +25,7 @@ import seedu.realodex.model.person.Name;
 import seedu.realodex.model.person.Phone;
 import seedu.realodex.model.person.Remark;
 import seedu.realodex.model.person.Tag;
+import seedu.realodex.model.person.predicates.NumericRange;
 
 
 /**
@@ -30,6 +35,9 @@ public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
 
+    private static final Pattern COMPARISON_BOUND_FORMAT = Pattern.compile("(>=|<=|>|<|)(\\d+)");
+    private static final Pattern BETWEEN_BOUND_FORMAT = Pattern.compile("(\\d+)\\.\\.(\\d+)");
+
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
      * trimmed.
@@ -174,7 +182,7 @@ public class ParserUtil {
         if (!Address.isValidAddress(trimmedAddress)) {
             throw new ParseException(Address.MESSAGE_CONSTRAINTS);
         }
-        return new Address(trimmedAddress);
+        return new Address(StringPool.getSharedPool().intern(trimmedAddress));
     }
 
     /**
@@ -191,7 +199,7 @@ public class ParserUtil {
         if (!Address.isValidAddress(trimmedAddress)) {
             return new ParserUtilResult<>(Address.MESSAGE_CONSTRAINTS, new Address());
         }
-        return new ParserUtilResult<>("", new Address(trimmedAddress));
+        return new ParserUtilResult<>("", new Address(StringPool.getSharedPool().intern(trimmedAddress)));
     }
 
     /**
@@ -206,7 +214,7 @@ public class ParserUtil {
         if (!Email.isValidEmail(trimmedEmail)) {
             throw new ParseException(Email.MESSAGE_CONSTRAINTS);
         }
-        return new Email(trimmedEmail);
+        return new Email(StringPool.getSharedPool().intern(trimmedEmail));
     }
 
 
@@ -224,7 +232,7 @@ public class ParserUtil {
         if (!Email.isValidEmail(trimmedEmail)) {
             return new ParserUtilResult<>(Email.MESSAGE_CONSTRAINTS, new Email());
         }
-        return new ParserUtilResult<>("", new Email(trimmedEmail));
+        return new ParserUtilResult<>("", new Email(StringPool.getSharedPool().intern(trimmedEmail)));
     }
 
     /**
@@ -271,7 +279,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -298,7 +306,7 @@ public class ParserUtil {
         if (!HousingType.isValidHousingType(trimmedHousingType)) {
             throw new ParseException(HousingType.MESSAGE_CONSTRAINTS);
         }
-        return new HousingType(trimmedHousingType);
+        return HousingType.of(trimmedHousingType);
     }
 
     /**
@@ -312,9 +320,9 @@ public class ParserUtil {
         requireNonNull(housingType);
         String trimmedHousingType = housingType.trim();
         if (!HousingType.isValidHousingType(trimmedHousingType)) {
-            return new ParserUtilResult<>(HousingType.MESSAGE_CONSTRAINTS, new HousingType());
+            return new ParserUtilResult<>(HousingType.MESSAGE_CONSTRAINTS, HousingType.of(HousingType.DEFAULT_HOUSE));
         }
-        return new ParserUtilResult<>("", new HousingType(housingType));
+        return new ParserUtilResult<>("", HousingType.of(trimmedHousingType));
     }
 
     /**
@@ -324,7 +332,59 @@ public class ParserUtil {
      */
     public static Remark parseRemark(String remark) {
         String trimmedRemark = remark.trim();
-        return new Remark(trimmedRemark);
+        return Remark.of(StringPool.getSharedPool().intern(trimmedRemark));
+    }
+
+    /**
+     * Parses {@code Collection<String> bounds} into the {@code NumericRange} of numbers satisfying every bound.
+     * Each bound is one of {@code >=N}, {@code <=N}, {@code >N}, {@code <N}, {@code N..M} or {@code N}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if any of the given bounds is invalid.
+     */
+    public static NumericRange parseRange(Collection<String> bounds) throws ParseException {
+        requireNonNull(bounds);
+        NumericRange range = NumericRange.ALL;
+        for (String bound : bounds) {
+            range = range.intersect(parseBound(bound.trim()));
+        }
+        return range;
+    }
+
+    private static NumericRange parseBound(String bound) throws ParseException {
+        Matcher betweenMatcher = BETWEEN_BOUND_FORMAT.matcher(bound);
+        if (betweenMatcher.matches()) {
+            return new NumericRange(parseBoundValue(betweenMatcher.group(1)),
+                    parseBoundValue(betweenMatcher.group(2)));
+        }
+        Matcher comparisonMatcher = COMPARISON_BOUND_FORMAT.matcher(bound);
+        if (!comparisonMatcher.matches()) {
+            throw new ParseException(NumericRange.MESSAGE_CONSTRAINTS);
+        }
+        String operator = comparisonMatcher.group(1);
+        long value = parseBoundValue(comparisonMatcher.group(2));
+        switch (operator) {
+        case ">=":
+            return new NumericRange(value, Long.MAX_VALUE);
+        case "<=":
+            return new NumericRange(0, value);
+        case ">":
+            return value == Long.MAX_VALUE
+                    ? new NumericRange(Long.MAX_VALUE, 0)
+                    : new NumericRange(value + 1, Long.MAX_VALUE);
+        case "<":
+            return new NumericRange(0, value - 1);
+        default:
+            return new NumericRange(value, value);
+        }
+    }
+
+    private static long parseBoundValue(String value) throws ParseException {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new ParseException(NumericRange.MESSAGE_CONSTRAINTS);
+        }
     }
 
     /**
@@ -346,13 +406,13 @@ public class ParserUtil {
      * Leading and trailing whitespaces will be trimmed.
      *
      * @param birthday The birthday string to parse.
+     * @param today The latest date the birthday may fall on.
      * @return A ParserUtilResult containing the parsed Birthday or an exception message.
-     * @throws ParseException if the given {@code birthday} is invalid.
      */
-    public static ParserUtilResult<Birthday> parseBirthdayReturnStored(String birthday) {
-        if (!Birthday.isValidBirthday(birthday)) {
-            return new ParserUtilResult<>(Birthday.MESSAGE_CONSTRAINTS, new Birthday());
+    public static ParserUtilResult<Birthday> parseBirthdayReturnStored(String birthday, LocalDate today) {
+        if (!Birthday.isValidBirthday(birthday, today)) {
+            return new ParserUtilResult<>(Birthday.MESSAGE_CONSTRAINTS, Birthday.of(""));
         }
-        return new ParserUtilResult<>("", new Birthday(birthday));
+        return new ParserUtilResult<>("", Birthday.of(birthday));
     }
 }
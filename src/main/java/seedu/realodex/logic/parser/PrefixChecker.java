@@ -1,5 +1,7 @@
 package seedu.realodex.logic.parser;
 
+import static seedu.realodex.logic.parser.CliSyntax.PREFIX_FAMILY;
+import static seedu.realodex.logic.parser.CliSyntax.PREFIX_INCOME;
 import static seedu.realodex.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.stream.Stream;
@@ -96,14 +98,15 @@ public class PrefixChecker {
     /**
      * Identifies if the given prefix is a special case that is subject to different duplication rules.
      * For example, tag prefixes are allowed to appear more than once but at most twice
-     * without being considered duplicates.
+     * without being considered duplicates, and so are income and family prefixes, which take a lower
+     * and an upper bound.
      *
      * @param prefix The {@link Prefix} to be checked.
      * @return {@code true} if the prefix is a special case, {@code false} otherwise.
      */
     protected boolean isSpecialCasePrefix(Prefix prefix) {
         assert(prefix != null);
-        return prefix.equals(PREFIX_TAG);
+        return prefix.equals(PREFIX_TAG) || prefix.equals(PREFIX_INCOME) || prefix.equals(PREFIX_FAMILY);
     }
 
     /**
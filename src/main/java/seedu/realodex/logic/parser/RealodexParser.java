@@ -1,5 +1,6 @@
 package seedu.realodex.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.realodex.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.realodex.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
@@ -18,7 +19,10 @@ import seedu.realodex.logic.commands.FilterCommand;
 import seedu.realodex.logic.commands.HelpCommand;
 import seedu.realodex.logic.commands.ListCommand;
 import seedu.realodex.logic.commands.SortCommand;
+import seedu.realodex.logic.commands.StatsCommand;
+import seedu.realodex.logic.commands.UpcomingCommand;
 import seedu.realodex.logic.parser.exceptions.ParseException;
+import seedu.realodex.model.DayClock;
 
 /**
  * Parses user input.
@@ -31,6 +35,17 @@ public class RealodexParser {
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
     private static final Logger logger = LogsCenter.getLogger(RealodexParser.class);
 
+    private final DayClock dayClock;
+
+    /**
+     * Creates a {@code RealodexParser} that reads today's date, such as for validating birthdays, from
+     * {@code dayClock}.
+     */
+    public RealodexParser(DayClock dayClock) {
+        requireNonNull(dayClock);
+        this.dayClock = dayClock;
+    }
+
     /**
      * Parses user input into command for execution.
      *
@@ -63,13 +78,13 @@ public class RealodexParser {
             if (isHelp) {
                 return new HelpCommandParser().parse(commandWord);
             }
-            return new AddCommandParser().parse(arguments);
+            return new AddCommandParser(dayClock).parse(arguments);
 
         case EditCommand.COMMAND_WORD:
             if (isHelp) {
                 return new HelpCommandParser().parse(commandWord);
             }
-            return new EditCommandParser().parse(arguments);
+            return new EditCommandParser(dayClock).parse(arguments);
 
         case DeleteCommand.COMMAND_WORD:
             if (isHelp) {
@@ -108,7 +123,19 @@ public class RealodexParser {
             if (isHelp) {
                 return new HelpCommandParser().parse(commandWord);
             }
-            return new SortCommand();
+            return new SortCommandParser().parse(arguments);
+
+        case StatsCommand.COMMAND_WORD:
+            if (isHelp) {
+                return new HelpCommandParser().parse(commandWord);
+            }
+            return new StatsCommandParser().parse(arguments);
+
+        case UpcomingCommand.COMMAND_WORD:
+            if (isHelp) {
+                return new HelpCommandParser().parse(commandWord);
+            }
+            return new UpcomingCommandParser().parse(arguments);
 
         case ExitCommand.COMMAND_WORD:
             return new ExitCommand();
@@ -0,0 +1,41 @@
+package seedu.realodex.logic.parser;
+
+import static seedu.realodex.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.realodex.logic.commands.SortCommand;
+import seedu.realodex.logic.parser.exceptions.ParseException;
+import seedu.realodex.model.person.sorting.SortKey;
+
+/**
+ * Parses input arguments and creates a new SortCommand object
+ */
+public class SortCommandParser implements Parser<SortCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SortCommand
+     * and returns a SortCommand object for execution.
+     * Without arguments, clients are sorted by their upcoming birthdays.
+     *
+     * @throws ParseException if an argument is not a sort key, or a sort key is given more than once
+     */
+    public SortCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new SortCommand(List.of(SortKey.BIRTHDAY));
+        }
+
+        List<SortKey> sortKeys = new ArrayList<>();
+        for (String keyword : trimmedArgs.split("\\s+")) {
+            Optional<SortKey> sortKey = SortKey.fromKeyword(keyword);
+            if (sortKey.isEmpty() || sortKeys.contains(sortKey.get())) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+            }
+            sortKeys.add(sortKey.get());
+        }
+        return new SortCommand(sortKeys);
+    }
+}
@@ -0,0 +1,29 @@
+package seedu.realodex.logic.parser;
+
+import static seedu.realodex.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.realodex.logic.commands.StatsCommand;
+import seedu.realodex.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new StatsCommand object
+ */
+public class StatsCommandParser implements Parser<StatsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the StatsCommand
+     * and returns a StatsCommand object for execution.
+     *
+     * @throws ParseException if the arguments are neither empty nor the filtered keyword
+     */
+    public StatsCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new StatsCommand(false);
+        }
+        if (trimmedArgs.equalsIgnoreCase(StatsCommand.FILTERED_KEYWORD)) {
+            return new StatsCommand(true);
+        }
+        throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE));
+    }
+}
@@ -0,0 +1,27 @@
+package seedu.realodex.logic.parser;
+
+import static seedu.realodex.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.realodex.commons.util.StringUtil;
+import seedu.realodex.logic.commands.UpcomingCommand;
+import seedu.realodex.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new UpcomingCommand object
+ */
+public class UpcomingCommandParser implements Parser<UpcomingCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the UpcomingCommand
+     * and returns an UpcomingCommand object for execution.
+     *
+     * @throws ParseException if the argument is not a positive integer
+     */
+    public UpcomingCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedArgs)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, UpcomingCommand.MESSAGE_USAGE));
+        }
+        return new UpcomingCommand(Integer.parseInt(trimmedArgs));
+    }
+}
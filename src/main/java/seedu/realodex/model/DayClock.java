@@ -0,0 +1,94 @@
+package seedu.realodex.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import seedu.realodex.model.person.Birthday;
+
+/**
+ * Supplies today's date to the model from a {@code Clock}, and notifies listeners when the day changes.
+ * Today's date only moves on when {@link #checkForNewDay()} finds that the clock has reached a new day, so that
+ * everything worked out for a day agrees on which day it is.
+ * The number of days until a birthday on each day of a leap year is worked out once a day, so that counting down
+ * to a person's birthday is a lookup.
+ */
+public class DayClock {
+
+    private final Clock clock;
+    private final List<Consumer<LocalDate>> dayChangeListeners = new ArrayList<>();
+    // indexed by day within a leap year, from 1 to Birthday.DAYS_IN_LEAP_YEAR
+    private final int[] daysUntilDayOfLeapYear = new int[Birthday.DAYS_IN_LEAP_YEAR + 1];
+    private LocalDate today;
+    private int todayDayOfLeapYear;
+
+    /**
+     * Creates a {@code DayClock} that reads the date from {@code clock}.
+     */
+    public DayClock(Clock clock) {
+        requireNonNull(clock);
+        this.clock = clock;
+        setToday(LocalDate.now(clock));
+    }
+
+    /**
+     * Returns a {@code DayClock} that reads the date from the system clock in the default time zone.
+     */
+    public static DayClock systemDefault() {
+        return new DayClock(Clock.systemDefaultZone());
+    }
+
+    public LocalDate getToday() {
+        return today;
+    }
+
+    /**
+     * Returns the day of today within a leap year, from 1 to {@value Birthday#DAYS_IN_LEAP_YEAR}.
+     */
+    public int getTodayDayOfLeapYear() {
+        return todayDayOfLeapYear;
+    }
+
+    /**
+     * Returns the number of days from today to the next birthday on {@code dayOfLeapYear},
+     * a day within a leap year as in {@link Birthday#getDayOfLeapYear()}.
+     */
+    public int getDaysUntil(int dayOfLeapYear) {
+        assert dayOfLeapYear >= 1 && dayOfLeapYear <= Birthday.DAYS_IN_LEAP_YEAR;
+        return daysUntilDayOfLeapYear[dayOfLeapYear];
+    }
+
+    /**
+     * Registers {@code listener} to be given the new date whenever the day changes.
+     */
+    public void addDayChangeListener(Consumer<LocalDate> listener) {
+        requireNonNull(listener);
+        dayChangeListeners.add(listener);
+    }
+
+    /**
+     * Moves today on to the clock's current date and notifies the listeners if the day has changed.
+     * Returns true if the day has changed.
+     */
+    public boolean checkForNewDay() {
+        LocalDate now = LocalDate.now(clock);
+        if (now.equals(today)) {
+            return false;
+        }
+        setToday(now);
+        dayChangeListeners.forEach(listener -> listener.accept(now));
+        return true;
+    }
+
+    private void setToday(LocalDate today) {
+        this.today = today;
+        this.todayDayOfLeapYear = Birthday.toDayOfLeapYear(today.getMonthValue() - 1, today.getDayOfMonth());
+        for (int day = 1; day <= Birthday.DAYS_IN_LEAP_YEAR; day++) {
+            daysUntilDayOfLeapYear[day] = Birthday.getDaysUntil(day, today);
+        }
+    }
+}
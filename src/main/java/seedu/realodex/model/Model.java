@@ -1,11 +1,16 @@
 package seedu.realodex.model;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.realodex.commons.core.GuiSettings;
+import seedu.realodex.model.person.Name;
 import seedu.realodex.model.person.Person;
+import seedu.realodex.model.person.sorting.SortKey;
 
 /**
  * The API of the Model component.
@@ -76,6 +81,11 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Returns the person with the given {@code name} if that person is in the filtered person list.
+     */
+    Optional<Person> getFilteredPersonByName(Name name);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -85,4 +95,55 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Sorts the filtered person list by each of {@code sortKeys} in turn, keeping it sorted as persons are added,
+     * edited and deleted and as its filter is updated. The order in which persons are stored is left unchanged.
+     * @throws NullPointerException if {@code sortKeys} is null.
+     * @throws IllegalArgumentException if {@code sortKeys} is empty.
+     */
+    void sortFilteredPersonList(List<SortKey> sortKeys);
+
+    /**
+     * Stops sorting the filtered person list, so that it shows persons in the order in which they are stored.
+     */
+    void clearSort();
+
+    /**
+     * Checks the day clock for a new day. If the day has changed, the filtered person list is brought up to date
+     * with today's date if it is sorted by the days until birthdays, and the day clock's listeners are notified.
+     */
+    void refreshForToday();
+
+    /**
+     * Returns the clock that supplies today's date to the model.
+     */
+    DayClock getDayClock();
+
+    /**
+     * Returns a cursor over the persons satisfying {@code predicate}, in list order, that returns up to
+     * {@code pageSize} persons at a time. Unlike the filtered person list, results are only looked up as pages
+     * are requested, and the filtered person list is left unchanged.
+     * @throws NullPointerException if {@code predicate} is null.
+     * @throws IllegalArgumentException if {@code pageSize} is not positive.
+     */
+    PersonCursor queryPersons(Predicate<Person> predicate, int pageSize);
+
+    /**
+     * Returns the day on which the {@code count}-th birthday on or after {@code fromDay} falls, or the day of the
+     * last birthday if fewer persons have one, wrapping around the end of the year. Days are counted within a leap
+     * year as in {@link seedu.realodex.model.person.Birthday#getDayOfLeapYear()}.
+     * Returns an empty {@code OptionalInt} if no person has a birthday.
+     */
+    OptionalInt findDayOfUpcomingBirthday(int fromDay, int count);
+
+    /**
+     * Returns the statistics of all persons, kept up to date as persons are added, edited and deleted.
+     */
+    PersonStatistics getStatistics();
+
+    /**
+     * Returns the statistics of the persons in the filtered person list, kept up to date as the list changes.
+     */
+    PersonStatistics getFilteredStatistics();
+
 }
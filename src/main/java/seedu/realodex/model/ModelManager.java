@@ -1,17 +1,29 @@
 package seedu.realodex.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.realodex.commons.util.AppUtil.checkArgument;
 import static seedu.realodex.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import seedu.realodex.commons.core.GuiSettings;
 import seedu.realodex.commons.core.LogsCenter;
+import seedu.realodex.commons.util.FilterUtil;
+import seedu.realodex.model.person.Birthday;
+import seedu.realodex.model.person.Name;
 import seedu.realodex.model.person.Person;
+import seedu.realodex.model.person.predicates.IndexedPredicate;
+import seedu.realodex.model.person.sorting.SortKey;
 
 /**
  * Represents the in-memory model of the realodex data.
@@ -20,19 +32,41 @@ public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
     private final Realodex realodex;
     private final UserPrefs userPrefs;
-    private final FilteredList<Person> filteredPersons;
+    private final DayClock dayClock;
+    private final ObservableList<Person> filteredPersons = FXCollections.observableArrayList();
+    private final ObservableList<Person> unmodifiableFilteredPersons =
+            FXCollections.unmodifiableObservableList(filteredPersons);
+    private final PersonStatistics filteredStatistics = new PersonStatistics();
+    private Predicate<Person> predicate = PREDICATE_SHOW_ALL_PERSONS;
+    private List<SortKey> sortKeys = List.of();
+    // the day from which the days until birthdays were counted when the filtered person list was last sorted
+    private int sortFromDay;
+    private Optional<Comparator<Person>> comparator = Optional.empty();
+    // while the filtered person list is unsorted, the position in realodex's person list of each filtered person
+    private int[] filteredPositions = new int[0];
 
     /**
-     * Initializes a ModelManager with the given realodex and userPrefs.
+     * Initializes a ModelManager with the given realodex and userPrefs, reading today's date from the system clock.
      */
     public ModelManager(ReadOnlyRealodex realodex, ReadOnlyUserPrefs userPrefs) {
-        requireAllNonNull(realodex, userPrefs);
+        this(realodex, userPrefs, DayClock.systemDefault());
+    }
+
+    /**
+     * Initializes a ModelManager with the given realodex, userPrefs and dayClock.
+     */
+    public ModelManager(ReadOnlyRealodex realodex, ReadOnlyUserPrefs userPrefs, DayClock dayClock) {
+        requireAllNonNull(realodex, userPrefs, dayClock);
 
         logger.fine("Initializing with realodex: " + realodex + " and user prefs " + userPrefs);
 
         this.realodex = new Realodex(realodex);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredPersons = new FilteredList<>(this.realodex.getPersonList());
+        this.dayClock = dayClock;
+        dayClock.addDayChangeListener(today -> refreshForDay(dayClock.getTodayDayOfLeapYear()));
+        this.realodex.getPersonList().addListener(this::updateFilteredPersons);
+        filteredPersons.addListener(this::updateFilteredStatistics);
+        refreshFilteredPersons();
     }
 
     public ModelManager() {
@@ -113,18 +147,317 @@ public class ModelManager implements Model {
     //=========== Filtered Person List Accessors =============================================================
 
     /**
-     * Returns an unmodifiable view of the list of {@code Person} backed by the internal list of
-     * {@code versionedAddressBook}
+     * Returns an unmodifiable view of the persons in {@code realodex} that satisfy the current predicate.
+     * The view is refreshed whenever {@code realodex} changes.
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return unmodifiableFilteredPersons;
+    }
+
+    @Override
+    public Optional<Person> getFilteredPersonByName(Name name) {
+        requireNonNull(name);
+        return realodex.getPersonByName(name).filter(predicate);
     }
 
+    /**
+     * {@inheritDoc}
+     * If {@code predicate} is the current predicate, the filtered person list is already up to date and is kept.
+     * If {@code predicate} provably matches only persons that the current predicate matches, such as a filter by a
+     * longer keyphrase of the same field or by an added field, only the currently filtered persons are tested.
+     */
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        if (predicate.equals(this.predicate)) {
+            return;
+        }
+        boolean isNarrowing = predicate instanceof IndexedPredicate
+                && ((IndexedPredicate) predicate).implies(this.predicate);
+        this.predicate = predicate;
+        if (isNarrowing) {
+            List<Person> persons =
+                    FilterUtil.filter(filteredPersons, predicate, userPrefs.getParallelFilterThreshold());
+            if (comparator.isEmpty()) {
+                int[] positions = findPositions(persons, filteredPersons);
+                for (int i = 0; i < positions.length; i++) {
+                    positions[i] = filteredPositions[positions[i]];
+                }
+                filteredPositions = positions;
+            }
+            filteredPersons.setAll(persons);
+        } else {
+            refreshFilteredPersons();
+        }
+    }
+
+    @Override
+    public void sortFilteredPersonList(List<SortKey> sortKeys) {
+        sortFilteredPersonList(sortKeys, dayClock.getTodayDayOfLeapYear());
+    }
+
+    /**
+     * Sorts the filtered person list by each of {@code sortKeys} in turn, counting the days until birthdays from
+     * {@code fromDay}, a day within a leap year as in {@link Birthday#getDayOfLeapYear()}.
+     */
+    void sortFilteredPersonList(List<SortKey> sortKeys, int fromDay) {
+        requireNonNull(sortKeys);
+        checkArgument(!sortKeys.isEmpty(), "Sort keys must not be empty");
+        this.sortKeys = List.copyOf(sortKeys);
+        setSortFromDay(fromDay);
+        filteredPositions = new int[0];
+        List<Person> sortedPersons = new ArrayList<>(filteredPersons);
+        sortedPersons.sort(comparator.get());
+        filteredPersons.setAll(sortedPersons);
+    }
+
+    @Override
+    public void clearSort() {
+        if (comparator.isEmpty()) {
+            return;
+        }
+        sortKeys = List.of();
+        comparator = Optional.empty();
+        refreshFilteredPersons();
+    }
+
+    @Override
+    public void refreshForToday() {
+        dayClock.checkForNewDay();
+    }
+
+    @Override
+    public DayClock getDayClock() {
+        return dayClock;
+    }
+
+    /**
+     * Brings the order of the filtered person list up to date with {@code today}, a day within a leap year.
+     * If the persons are sorted by the days until their birthdays first, the birthdays that have passed since the
+     * list was last sorted are found by binary search and rotated from the front of the list to just before the
+     * unspecified birthdays, as a single list change and without comparing persons again.
+     */
+    void refreshForDay(int today) {
+        if (!sortKeys.contains(SortKey.BIRTHDAY) || today == sortFromDay) {
+            return;
+        }
+        int previousFromDay = sortFromDay;
+        setSortFromDay(today);
+        if (sortKeys.get(0) != SortKey.BIRTHDAY) {
+            List<Person> sortedPersons = new ArrayList<>(filteredPersons);
+            sortedPersons.sort(comparator.get());
+            filteredPersons.setAll(sortedPersons);
+            return;
+        }
+
+        int daysPassed = Math.floorMod(today - previousFromDay, Birthday.DAYS_IN_LEAP_YEAR);
+        int passedEnd = countPersonsWithBirthdayWithin(previousFromDay, daysPassed);
+        int specifiedEnd = countPersonsWithBirthdayWithin(previousFromDay, Birthday.DAYS_IN_LEAP_YEAR);
+        List<Person> rotatedPersons = new ArrayList<>(filteredPersons.size());
+        rotatedPersons.addAll(filteredPersons.subList(passedEnd, specifiedEnd));
+        rotatedPersons.addAll(filteredPersons.subList(0, passedEnd));
+        rotatedPersons.addAll(filteredPersons.subList(specifiedEnd, filteredPersons.size()));
+        filteredPersons.setAll(rotatedPersons);
+    }
+
+    private void setSortFromDay(int fromDay) {
+        sortFromDay = fromDay;
+        comparator = Optional.of(SortKey.comparing(sortKeys, fromDay));
+    }
+
+    /**
+     * Returns the number of persons at the front of the filtered person list, sorted by the days until their
+     * birthdays from {@code fromDay} first, whose birthdays are fewer than {@code days} days from {@code fromDay}.
+     */
+    private int countPersonsWithBirthdayWithin(int fromDay, int days) {
+        int low = 0;
+        int high = filteredPersons.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (filteredPersons.get(middle).getBirthday().getDaysFrom(fromDay) < days) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    public PersonCursor queryPersons(Predicate<Person> predicate, int pageSize) {
+        return realodex.queryPersons(predicate, pageSize);
+    }
+
+    @Override
+    public OptionalInt findDayOfUpcomingBirthday(int fromDay, int count) {
+        return realodex.getBirthdayIndex().findDayOfNthBirthday(fromDay, count);
+    }
+
+    /**
+     * Replaces the filtered person list with the persons in {@code realodex} that satisfy the current predicate,
+     * in the current order, as a single list change.
+     */
+    private void refreshFilteredPersons() {
+        List<Person> persons = realodex.filterPersons(predicate, userPrefs.getParallelFilterThreshold());
+        if (comparator.isPresent()) {
+            persons = new ArrayList<>(persons);
+            persons.sort(comparator.get());
+        } else {
+            filteredPositions = findPositions(persons, realodex.getPersonList());
+        }
+        filteredPersons.setAll(persons);
+    }
+
+    /**
+     * Returns the position in {@code list} of each of {@code persons}, which must appear in {@code list} in the
+     * same order.
+     */
+    private static int[] findPositions(List<Person> persons, List<Person> list) {
+        int[] positions = new int[persons.size()];
+        int position = 0;
+        for (int i = 0; i < positions.length; i++) {
+            while (list.get(position) != persons.get(i)) {
+                position++;
+            }
+            positions[i] = position++;
+        }
+        return positions;
+    }
+
+    /**
+     * Brings the filtered person list up to date with a change to the persons in {@code realodex}.
+     * Only the persons added, edited or deleted are tested against the predicate. While the list is unsorted, they
+     * are moved into or out of the position of their neighbours in realodex; while it is sorted, a single person is
+     * moved into or out of its sorted position, without sorting the list again, by binary search in both cases.
+     * Other changes, such as replacing all the persons, refresh the whole list.
+     */
+    private void updateFilteredPersons(ListChangeListener.Change<? extends Person> change) {
+        if (comparator.isEmpty()) {
+            updateUnsortedFilteredPersons(change);
+            return;
+        }
+        while (change.next()) {
+            if (change.getRemovedSize() > 1 || change.getAddedSize() > 1) {
+                refreshFilteredPersons();
+                return;
+            }
+            for (Person removedPerson : change.getRemoved()) {
+                int position = findSortedPosition(removedPerson);
+                if (position < filteredPersons.size() && filteredPersons.get(position).equals(removedPerson)) {
+                    filteredPersons.remove(position);
+                }
+            }
+            for (Person addedPerson : change.getAddedSubList()) {
+                if (predicate.test(addedPerson)) {
+                    filteredPersons.add(findSortedPosition(addedPerson), addedPerson);
+                }
+            }
+        }
+    }
+
+    private void updateUnsortedFilteredPersons(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated() || change.getRemovedSize() > 1) {
+                refreshFilteredPersons();
+                return;
+            }
+            int from = change.getFrom();
+            int position = findUnsortedPosition(from);
+            boolean isRemoved = change.wasRemoved() && position < filteredPositions.length
+                    && filteredPositions[position] == from;
+            List<Person> addedPersons = new ArrayList<>();
+            List<Integer> addedPositions = new ArrayList<>();
+            List<? extends Person> changedPersons = change.getAddedSubList();
+            for (int i = 0; i < changedPersons.size(); i++) {
+                if (predicate.test(changedPersons.get(i))) {
+                    addedPersons.add(changedPersons.get(i));
+                    addedPositions.add(from + i);
+                }
+            }
+
+            int keptEnd = isRemoved ? position + 1 : position;
+            int shift = change.getAddedSize() - change.getRemovedSize();
+            int[] positions = new int[filteredPositions.length - (keptEnd - position) + addedPositions.size()];
+            System.arraycopy(filteredPositions, 0, positions, 0, position);
+            for (int i = 0; i < addedPositions.size(); i++) {
+                positions[position + i] = addedPositions.get(i);
+            }
+            for (int i = keptEnd; i < filteredPositions.length; i++) {
+                positions[i - keptEnd + position + addedPositions.size()] = filteredPositions[i] + shift;
+            }
+            filteredPositions = positions;
+
+            if (isRemoved && addedPersons.size() == 1) {
+                filteredPersons.set(position, addedPersons.get(0));
+                continue;
+            }
+            if (isRemoved) {
+                filteredPersons.remove(position);
+            }
+            if (!addedPersons.isEmpty()) {
+                filteredPersons.addAll(position, addedPersons);
+            }
+        }
+    }
+
+    /**
+     * Returns the position in the unsorted filtered person list of the first person at or after position
+     * {@code position} of realodex's person list, by binary search.
+     */
+    private int findUnsortedPosition(int position) {
+        int low = 0;
+        int high = filteredPositions.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (filteredPositions[middle] < position) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the position of {@code person} in the sorted filtered person list if it is there,
+     * or the position at which it would be inserted to keep the list sorted otherwise.
+     */
+    private int findSortedPosition(Person person) {
+        Comparator<Person> order = comparator.get();
+        int low = 0;
+        int high = filteredPersons.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (order.compare(filteredPersons.get(middle), person) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    //=========== Statistics =================================================================================
+
+    @Override
+    public PersonStatistics getStatistics() {
+        return realodex.getStatistics();
+    }
+
+    @Override
+    public PersonStatistics getFilteredStatistics() {
+        return filteredStatistics;
+    }
+
+    /**
+     * Counts the persons added to the filtered person list and stops counting those removed from it.
+     */
+    private void updateFilteredStatistics(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            change.getRemoved().forEach(filteredStatistics::remove);
+            change.getAddedSubList().forEach(filteredStatistics::add);
+        }
     }
 
 
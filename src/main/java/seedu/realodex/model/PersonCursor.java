@@ -0,0 +1,96 @@
+package seedu.realodex.model;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+import seedu.realodex.model.person.Person;
+
+/**
+ * Iterates over the persons in a {@code Realodex} that satisfy a predicate, in list order, a page of persons at a
+ * time. Persons are only looked up, and tested if needed, as pages are requested, so a caller that stops early
+ * does not pay for the rest of the results.
+ * A cursor is fail-fast: once the realodex is modified, requesting another page throws
+ * {@code ConcurrentModificationException}.
+ */
+public class PersonCursor implements Iterator<List<Person>> {
+
+    private final Realodex realodex;
+    private final Predicate<? super Person> predicate;
+    // slots known to satisfy the predicate, or null if every slot must be tested
+    private final BitSet matchingSlots;
+    private final int pageSize;
+    private final int expectedModificationCount;
+    private int nextSlot;
+
+    /**
+     * Creates a cursor over the persons in {@code realodex} satisfying {@code predicate}. If
+     * {@code matchingSlots} is not null, it must hold exactly the slots of those persons, and no person is tested.
+     */
+    PersonCursor(Realodex realodex, Predicate<? super Person> predicate, BitSet matchingSlots, int pageSize) {
+        this.realodex = realodex;
+        this.predicate = predicate;
+        this.matchingSlots = matchingSlots;
+        this.pageSize = pageSize;
+        this.expectedModificationCount = realodex.getModificationCount();
+        this.nextSlot = findMatch(0);
+    }
+
+    /**
+     * Returns true if there is at least one more person to return.
+     *
+     * @throws ConcurrentModificationException if the realodex was modified after this cursor was created.
+     */
+    @Override
+    public boolean hasNext() {
+        checkNotModified();
+        return nextSlot >= 0;
+    }
+
+    /**
+     * Returns the next page of persons, which holds {@code pageSize} persons unless it is the last page.
+     *
+     * @throws NoSuchElementException if every person has been returned.
+     * @throws ConcurrentModificationException if the realodex was modified after this cursor was created.
+     */
+    @Override
+    public List<Person> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        List<Person> page = new ArrayList<>();
+        while (nextSlot >= 0 && page.size() < pageSize) {
+            page.add(realodex.getPersonInSlot(nextSlot));
+            nextSlot = findMatch(nextSlot + 1);
+        }
+        return page;
+    }
+
+    /**
+     * Returns the first slot from {@code fromSlot} onwards holding a person that satisfies the predicate, or -1 if
+     * there is none.
+     */
+    private int findMatch(int fromSlot) {
+        if (matchingSlots != null) {
+            return matchingSlots.nextSetBit(fromSlot);
+        }
+        int slotCount = realodex.getSlotCount();
+        for (int slot = fromSlot; slot < slotCount; slot++) {
+            Person person = realodex.getPersonInSlot(slot);
+            if (person != null && predicate.test(person)) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private void checkNotModified() {
+        if (realodex.getModificationCount() != expectedModificationCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package seedu.realodex.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import seedu.realodex.model.index.PersonIndex;
+import seedu.realodex.model.person.HousingType.House;
+import seedu.realodex.model.person.Person;
+import seedu.realodex.model.person.Tag;
+import seedu.realodex.model.person.Tag.Role;
+
+/**
+ * Counts of persons by housing type, tag, income bracket and family size, updated as each person is added or
+ * removed so that reading them takes time independent of the number of persons.
+ * Registered as a {@code PersonIndex} to follow every change to a {@code Realodex}.
+ */
+public class PersonStatistics implements PersonIndex {
+
+    /** Lowest income of each income bracket, in increasing order. The last bracket has no upper bound. */
+    public static final long[] INCOME_BRACKET_LOWER_BOUNDS = {0, 5000, 10000, 20000, 50000, 100000};
+
+    private int count;
+    private final int[] housingTypeCounts = new int[House.values().length];
+    private final int[] roleCounts = new int[Role.values().length];
+    private final int[] incomeBracketCounts = new int[INCOME_BRACKET_LOWER_BOUNDS.length];
+    private final SortedMap<Integer, Integer> familySizeCounts = new TreeMap<>();
+
+    @Override
+    public void add(int slot, Person person) {
+        add(person);
+    }
+
+    @Override
+    public void remove(int slot, Person person) {
+        remove(person);
+    }
+
+    /**
+     * Counts {@code person}.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        update(person, 1);
+    }
+
+    /**
+     * Stops counting {@code person}, which must have been counted.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        assert count > 0;
+        update(person, -1);
+    }
+
+    @Override
+    public void clear() {
+        count = 0;
+        Arrays.fill(housingTypeCounts, 0);
+        Arrays.fill(roleCounts, 0);
+        Arrays.fill(incomeBracketCounts, 0);
+        familySizeCounts.clear();
+    }
+
+    private void update(Person person, int delta) {
+        count += delta;
+        housingTypeCounts[person.getHousingType().getHouse().ordinal()] += delta;
+        for (Tag tag : person.getTags()) {
+            roleCounts[tag.tagName.ordinal()] += delta;
+        }
+        incomeBracketCounts[incomeBracketOf(person.getIncome().getValue())] += delta;
+        familySizeCounts.merge(person.getFamily().getValue(), delta, (oldCount, unused) -> {
+            int newCount = oldCount + delta;
+            return newCount == 0 ? null : newCount;
+        });
+    }
+
+    /**
+     * Returns the index in {@link #INCOME_BRACKET_LOWER_BOUNDS} of the bracket containing {@code income}.
+     */
+    public static int incomeBracketOf(long income) {
+        int bracket = INCOME_BRACKET_LOWER_BOUNDS.length - 1;
+        while (income < INCOME_BRACKET_LOWER_BOUNDS[bracket]) {
+            bracket--;
+        }
+        return bracket;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the number of persons preferring {@code house}.
+     */
+    public int getCount(House house) {
+        return housingTypeCounts[house.ordinal()];
+    }
+
+    /**
+     * Returns the number of persons tagged with {@code role}.
+     */
+    public int getCount(Role role) {
+        return roleCounts[role.ordinal()];
+    }
+
+    /**
+     * Returns the number of persons whose income is in the bracket at {@code bracket} of
+     * {@link #INCOME_BRACKET_LOWER_BOUNDS}.
+     */
+    public int getIncomeBracketCount(int bracket) {
+        return incomeBracketCounts[bracket];
+    }
+
+    /**
+     * Returns the number of persons with each family size, in increasing order of size. Sizes that no person has
+     * are left out.
+     */
+    public SortedMap<Integer, Integer> getFamilySizeCounts() {
+        return Collections.unmodifiableSortedMap(familySizeCounts);
+    }
+}
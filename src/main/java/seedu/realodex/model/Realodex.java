@@ -1,13 +1,34 @@
 package seedu.realodex.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.realodex.commons.util.AppUtil.checkArgument;
 
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import seedu.realodex.commons.util.FilterUtil;
 import seedu.realodex.commons.util.ToStringBuilder;
+import seedu.realodex.model.index.BirthdayIndex;
+import seedu.realodex.model.index.BkTreeIndex;
+import seedu.realodex.model.index.EnumBitmapIndex;
+import seedu.realodex.model.index.NumericIndex;
+import seedu.realodex.model.index.PhoneticIndex;
+import seedu.realodex.model.index.QueryCache;
+import seedu.realodex.model.index.TrigramIndex;
+import seedu.realodex.model.person.HousingType.House;
+import seedu.realodex.model.person.Name;
 import seedu.realodex.model.person.Person;
+import seedu.realodex.model.person.Tag;
+import seedu.realodex.model.person.Tag.Role;
 import seedu.realodex.model.person.UniquePersonList;
+import seedu.realodex.model.person.predicates.IndexedPredicate;
 
 /**
  * Wraps all data at the realodex level
@@ -16,6 +37,19 @@ import seedu.realodex.model.person.UniquePersonList;
 public class Realodex implements ReadOnlyRealodex {
 
     private final UniquePersonList persons;
+    private final EnumBitmapIndex<House> housingTypeIndex =
+            new EnumBitmapIndex<>(House.class, person -> Collections.singleton(person.getHousingType().getHouse()));
+    private final EnumBitmapIndex<Role> tagIndex = new EnumBitmapIndex<>(Role.class, Realodex::rolesOf);
+    private final TrigramIndex nameTrigramIndex = new TrigramIndex(person -> person.getName().fullName);
+    private final BkTreeIndex nameBkTreeIndex = new BkTreeIndex(person -> person.getName().fullName);
+    private final PhoneticIndex namePhoneticIndex = new PhoneticIndex(person -> person.getName().getSoundexCodes());
+    private final TrigramIndex remarkTrigramIndex = new TrigramIndex(person -> person.getRemark().remarkName);
+    private final BirthdayIndex birthdayIndex = new BirthdayIndex();
+    private final NumericIndex incomeIndex = new NumericIndex(person -> person.getIncome().getValue());
+    private final NumericIndex familyIndex = new NumericIndex(person -> person.getFamily().getValue());
+    private final PersonStatistics statistics = new PersonStatistics();
+    private final QueryCache queryCache = new QueryCache(QueryCache.DEFAULT_CAPACITY);
+    private int modificationCount;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -26,6 +60,18 @@ public class Realodex implements ReadOnlyRealodex {
      */
     {
         persons = new UniquePersonList();
+        persons.addIndex(housingTypeIndex);
+        persons.addIndex(tagIndex);
+        persons.addIndex(nameTrigramIndex);
+        persons.addIndex(nameBkTreeIndex);
+        persons.addIndex(namePhoneticIndex);
+        persons.addIndex(remarkTrigramIndex);
+        persons.addIndex(birthdayIndex);
+        persons.addIndex(incomeIndex);
+        persons.addIndex(familyIndex);
+        persons.addIndex(statistics);
+        persons.addIndex(queryCache);
+        persons.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> modificationCount++);
     }
 
     public Realodex() {}
@@ -67,6 +113,14 @@ public class Realodex implements ReadOnlyRealodex {
         return persons.contains(person);
     }
 
+    /**
+     * Returns the person in realodex with the given {@code name}, if any.
+     */
+    public Optional<Person> getPersonByName(Name name) {
+        requireNonNull(name);
+        return persons.getPersonByName(name);
+    }
+
     /**
      * Adds a person to realodex.
      * The person must not already exist in realodex.
@@ -75,6 +129,14 @@ public class Realodex implements ReadOnlyRealodex {
         persons.add(p);
     }
 
+    /**
+     * Adds all of {@code persons} to realodex as a single bulk operation.
+     * None of the persons may already exist in realodex, and {@code persons} must not contain duplicate persons.
+     */
+    public void addPersons(List<Person> persons) {
+        this.persons.addAll(persons);
+    }
+
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in realodex.
@@ -94,6 +156,125 @@ public class Realodex implements ReadOnlyRealodex {
         persons.remove(key);
     }
 
+    //// query operations
+
+    /**
+     * Returns the persons in realodex that satisfy {@code predicate}, in list order.
+     * Predicates that are {@code IndexedPredicate}s are answered from the indexes without testing every person.
+     */
+    public List<Person> filterPersons(Predicate<? super Person> predicate) {
+        return filterPersons(predicate, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the persons in realodex that satisfy {@code predicate}, in list order.
+     * Predicates that are {@code IndexedPredicate}s are answered from the indexes without testing every person,
+     * and the results of recently used ones are reused.
+     * Other predicates test every person, in parallel if there are at least {@code parallelThreshold} persons.
+     *
+     * @see FilterUtil#filter(List, Predicate, int)
+     */
+    public List<Person> filterPersons(Predicate<? super Person> predicate, int parallelThreshold) {
+        requireNonNull(predicate);
+        if (predicate instanceof IndexedPredicate) {
+            BitSet slots = queryCache.get((IndexedPredicate) predicate, cached -> cached.lookUp(this));
+            return persons.getPersonsInSlots(slots);
+        }
+        return FilterUtil.filter(getPersonList(), predicate, parallelThreshold);
+    }
+
+    /**
+     * Returns the person occupying {@code slot}, or null if the slot is empty.
+     *
+     * @see seedu.realodex.model.index.PersonIndex
+     */
+    public Person getPersonInSlot(int slot) {
+        return persons.getPersonInSlot(slot);
+    }
+
+    /**
+     * Returns one more than the highest slot that may be occupied by a person.
+     */
+    public int getSlotCount() {
+        return persons.getSlotCount();
+    }
+
+    /**
+     * Returns a cursor over the persons in realodex that satisfy {@code predicate}, in list order, that returns
+     * up to {@code pageSize} persons at a time. Predicates that are {@code IndexedPredicate}s are answered from
+     * the indexes; other predicates are tested against each person only as pages are requested.
+     *
+     * @throws IllegalArgumentException if {@code pageSize} is not positive.
+     */
+    public PersonCursor queryPersons(Predicate<? super Person> predicate, int pageSize) {
+        requireNonNull(predicate);
+        checkArgument(pageSize > 0, "Page size must be positive");
+        BitSet matchingSlots = null;
+        if (predicate instanceof IndexedPredicate) {
+            matchingSlots = queryCache.get((IndexedPredicate) predicate, cached -> cached.lookUp(this));
+        }
+        return new PersonCursor(this, predicate, matchingSlots, pageSize);
+    }
+
+    /**
+     * Returns the number of changes made to the persons in realodex so far.
+     */
+    int getModificationCount() {
+        return modificationCount;
+    }
+
+    public QueryCache getQueryCache() {
+        return queryCache;
+    }
+
+    public PersonStatistics getStatistics() {
+        return statistics;
+    }
+
+    public EnumBitmapIndex<House> getHousingTypeIndex() {
+        return housingTypeIndex;
+    }
+
+    public EnumBitmapIndex<Role> getTagIndex() {
+        return tagIndex;
+    }
+
+    public TrigramIndex getNameTrigramIndex() {
+        return nameTrigramIndex;
+    }
+
+    public BkTreeIndex getNameBkTreeIndex() {
+        return nameBkTreeIndex;
+    }
+
+    public PhoneticIndex getNamePhoneticIndex() {
+        return namePhoneticIndex;
+    }
+
+    public TrigramIndex getRemarkTrigramIndex() {
+        return remarkTrigramIndex;
+    }
+
+    public BirthdayIndex getBirthdayIndex() {
+        return birthdayIndex;
+    }
+
+    public NumericIndex getIncomeIndex() {
+        return incomeIndex;
+    }
+
+    public NumericIndex getFamilyIndex() {
+        return familyIndex;
+    }
+
+    private static Set<Role> rolesOf(Person person) {
+        Set<Role> roles = EnumSet.noneOf(Role.class);
+        for (Tag tag : person.getTags()) {
+            roles.add(tag.tagName);
+        }
+        return roles;
+    }
+
     //// util methods
 
     @Override
@@ -13,8 +13,12 @@ import seedu.realodex.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final int DEFAULT_PARALLEL_FILTER_THRESHOLD = 10_000;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path realodexFilePath = Paths.get("data" , "realodex.json");
+    // number of clients from which filters that scan the whole list test clients in parallel
+    private int parallelFilterThreshold = DEFAULT_PARALLEL_FILTER_THRESHOLD;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +40,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setRealodexFilePath(newUserPrefs.getRealodexFilePath());
+        setParallelFilterThreshold(newUserPrefs.getParallelFilterThreshold());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +61,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.realodexFilePath = realodexFilePath;
     }
 
+    public int getParallelFilterThreshold() {
+        return parallelFilterThreshold;
+    }
+
+    public void setParallelFilterThreshold(int parallelFilterThreshold) {
+        this.parallelFilterThreshold = parallelFilterThreshold;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +82,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && realodexFilePath.equals(otherUserPrefs.realodexFilePath);
+                && realodexFilePath.equals(otherUserPrefs.realodexFilePath)
+                && parallelFilterThreshold == otherUserPrefs.parallelFilterThreshold;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, realodexFilePath);
+        return Objects.hash(guiSettings, realodexFilePath, parallelFilterThreshold);
     }
 
     @Override
@@ -82,6 +96,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + realodexFilePath);
+        sb.append("\nParallel filter threshold : " + parallelFilterThreshold);
         return sb.toString();
     }
 
@@ -0,0 +1,129 @@
+package seedu.realodex.model.index;
+
+import java.util.BitSet;
+import java.util.Calendar;
+import java.util.OptionalInt;
+
+import seedu.realodex.model.person.Birthday;
+import seedu.realodex.model.person.Person;
+
+/**
+ * Indexes persons by the month and by the day of their birthday.
+ * Persons without a specified birthday are not in any bucket.
+ */
+public class BirthdayIndex implements PersonIndex {
+
+    private static final int MONTHS_IN_YEAR = 12;
+
+    private final BitSet[] slotsByMonth = new BitSet[MONTHS_IN_YEAR];
+    // bucket 0 is unused so that days can index the array directly
+    private final SlotList[] slotsByDay = new SlotList[Birthday.DAYS_IN_LEAP_YEAR + 1];
+
+    /**
+     * Creates an empty index.
+     */
+    public BirthdayIndex() {
+        for (int month = 0; month < MONTHS_IN_YEAR; month++) {
+            slotsByMonth[month] = new BitSet();
+        }
+        for (int day = 1; day <= Birthday.DAYS_IN_LEAP_YEAR; day++) {
+            slotsByDay[day] = new SlotList();
+        }
+    }
+
+    @Override
+    public void add(int slot, Person person) {
+        Birthday birthday = person.getBirthday();
+        birthday.getMonth().ifPresent(month -> slotsByMonth[month].set(slot));
+        birthday.getDayOfLeapYear().ifPresent(day -> slotsByDay[day].add(slot));
+    }
+
+    @Override
+    public void remove(int slot, Person person) {
+        Birthday birthday = person.getBirthday();
+        birthday.getMonth().ifPresent(month -> slotsByMonth[month].clear(slot));
+        birthday.getDayOfLeapYear().ifPresent(day -> slotsByDay[day].remove(slot));
+    }
+
+    @Override
+    public void clear() {
+        for (BitSet slots : slotsByMonth) {
+            slots.clear();
+        }
+        for (int day = 1; day <= Birthday.DAYS_IN_LEAP_YEAR; day++) {
+            slotsByDay[day] = new SlotList();
+        }
+    }
+
+    /**
+     * Returns the slots of the persons whose birthday is in {@code month}, from {@code Calendar.JANUARY} to
+     * {@code Calendar.DECEMBER}.
+     */
+    public BitSet getMonth(int month) {
+        assert month >= Calendar.JANUARY && month <= Calendar.DECEMBER;
+        return (BitSet) slotsByMonth[month].clone();
+    }
+
+    /**
+     * Returns the number of persons whose birthday is in {@code month}.
+     */
+    public int countMonth(int month) {
+        assert month >= Calendar.JANUARY && month <= Calendar.DECEMBER;
+        return slotsByMonth[month].cardinality();
+    }
+
+    /**
+     * Returns the number of persons whose birthday is on a day from {@code fromDay} to {@code toDay} inclusive.
+     * Days are counted within a leap year as in {@link Birthday#getDayOfLeapYear()}.
+     */
+    public int countDays(int fromDay, int toDay) {
+        assert fromDay >= 1 && toDay <= Birthday.DAYS_IN_LEAP_YEAR;
+        int count = 0;
+        for (int day = fromDay; day <= toDay; day++) {
+            count += slotsByDay[day].size();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the day on which the {@code n}-th birthday on or after {@code fromDay} falls, wrapping around from
+     * the end of the year to its start, or the day of the last such birthday if fewer than {@code n} persons have
+     * a birthday. Returns an empty {@code OptionalInt} if no person has a birthday.
+     * Only the buckets of the days up to the {@code n}-th birthday are visited, so this takes time independent
+     * of the number of persons.
+     */
+    public OptionalInt findDayOfNthBirthday(int fromDay, int n) {
+        assert fromDay >= 1 && fromDay <= Birthday.DAYS_IN_LEAP_YEAR && n > 0;
+        int count = 0;
+        int lastDay = -1;
+        for (int offset = 0; offset < Birthday.DAYS_IN_LEAP_YEAR; offset++) {
+            int day = (fromDay - 1 + offset) % Birthday.DAYS_IN_LEAP_YEAR + 1;
+            int birthdaysOnDay = slotsByDay[day].size();
+            if (birthdaysOnDay == 0) {
+                continue;
+            }
+            count += birthdaysOnDay;
+            lastDay = day;
+            if (count >= n) {
+                break;
+            }
+        }
+        return lastDay < 0 ? OptionalInt.empty() : OptionalInt.of(lastDay);
+    }
+
+    /**
+     * Returns the slots of the persons whose birthday is on a day from {@code fromDay} to {@code toDay} inclusive.
+     * Days are counted within a leap year as in {@link Birthday#getDayOfLeapYear()}.
+     */
+    public BitSet getDays(int fromDay, int toDay) {
+        assert fromDay >= 1 && toDay <= Birthday.DAYS_IN_LEAP_YEAR;
+        BitSet slots = new BitSet();
+        for (int day = fromDay; day <= toDay; day++) {
+            SlotList slotsOnDay = slotsByDay[day];
+            for (int i = 0; i < slotsOnDay.size(); i++) {
+                slots.set(slotsOnDay.get(i));
+            }
+        }
+        return slots;
+    }
+}
@@ -0,0 +1,176 @@
+package seedu.realodex.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import seedu.realodex.commons.util.StringUtil;
+import seedu.realodex.model.person.Person;
+
+/**
+ * Indexes persons by a text field in a BK-tree so that texts within a given edit distance of a query are found
+ * without computing the distance to every text. Texts are compared ignoring case.
+ * Each node holds a distinct text, and each child is kept under its edit distance from the node. By the triangle
+ * inequality, a search only needs to descend into children whose distance differs from the query's distance to
+ * the node by at most the search radius.
+ */
+public class BkTreeIndex implements PersonIndex {
+
+    private final Function<Person, String> textOf;
+    private Node root;
+    // nodes are kept when their last person is removed, as they still route searches to their children
+    private int nodeCount;
+    private int liveNodeCount;
+
+    /**
+     * Creates an empty index of the texts returned by {@code textOf}.
+     */
+    public BkTreeIndex(Function<Person, String> textOf) {
+        requireNonNull(textOf);
+        this.textOf = textOf;
+    }
+
+    @Override
+    public void add(int slot, Person person) {
+        addText(slot, normalize(textOf.apply(person)));
+    }
+
+    @Override
+    public void remove(int slot, Person person) {
+        Node node = find(normalize(textOf.apply(person)));
+        assert node != null && node.slots.get(slot);
+        node.slots.clear(slot);
+        if (node.slots.isEmpty()) {
+            liveNodeCount--;
+            if (nodeCount > 2 * liveNodeCount + 1) {
+                rebuild();
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        root = null;
+        nodeCount = 0;
+        liveNodeCount = 0;
+    }
+
+    /**
+     * Returns the slots of the persons whose text is within {@code maxDistance} edits of {@code query},
+     * ignoring case.
+     */
+    public BitSet search(String query, int maxDistance) {
+        requireNonNull(query);
+        String needle = normalize(query);
+        BitSet matches = new BitSet();
+        if (root == null) {
+            return matches;
+        }
+
+        List<Node> pending = new ArrayList<>();
+        pending.add(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.remove(pending.size() - 1);
+            int distance = distance(node.text, needle);
+            if (distance <= maxDistance) {
+                matches.or(node.slots);
+            }
+            for (int childDistance = Math.max(1, distance - maxDistance);
+                    childDistance <= distance + maxDistance; childDistance++) {
+                Node child = node.children.get(childDistance);
+                if (child != null) {
+                    pending.add(child);
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the number of distinct texts held by indexed persons.
+     */
+    public int size() {
+        return liveNodeCount;
+    }
+
+    private Node find(String text) {
+        Node node = root;
+        while (node != null && !node.text.equals(text)) {
+            node = node.children.get(distance(node.text, text));
+        }
+        return node;
+    }
+
+    /**
+     * Rebuilds the tree from the nodes that still hold persons, dropping the others.
+     */
+    private void rebuild() {
+        List<Node> liveNodes = new ArrayList<>();
+        List<Node> pending = new ArrayList<>();
+        if (root != null) {
+            pending.add(root);
+        }
+        while (!pending.isEmpty()) {
+            Node node = pending.remove(pending.size() - 1);
+            pending.addAll(node.children.values());
+            if (!node.slots.isEmpty()) {
+                liveNodes.add(node);
+            }
+        }
+
+        clear();
+        for (Node node : liveNodes) {
+            for (int slot = node.slots.nextSetBit(0); slot >= 0; slot = node.slots.nextSetBit(slot + 1)) {
+                addText(slot, node.text);
+            }
+        }
+    }
+
+    private void addText(int slot, String text) {
+        if (root == null) {
+            root = new Node(text);
+            nodeCount++;
+        }
+        Node node = root;
+        while (!node.text.equals(text)) {
+            int distance = distance(node.text, text);
+            Node child = node.children.get(distance);
+            if (child == null) {
+                child = new Node(text);
+                node.children.put(distance, child);
+                nodeCount++;
+            }
+            node = child;
+        }
+        if (node.slots.isEmpty()) {
+            liveNodeCount++;
+        }
+        node.slots.set(slot);
+    }
+
+    private static int distance(String first, String second) {
+        return StringUtil.editDistance(first, second, Math.max(first.length(), second.length()));
+    }
+
+    /**
+     * Lower-cases {@code text} the same way as the predicates that test persons one by one, whatever the locale.
+     */
+    private static String normalize(String text) {
+        return StringUtil.toLowerCaseByChar(text);
+    }
+
+    private static class Node {
+        private final String text;
+        private final BitSet slots = new BitSet();
+        private final Map<Integer, Node> children = new HashMap<>();
+
+        Node(String text) {
+            this.text = text;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package seedu.realodex.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Function;
+
+import seedu.realodex.model.person.Person;
+
+/**
+ * Indexes persons by the values of an enum-backed field, keeping one bitset of slots per enum value.
+ *
+ * @param <E> the enum type of the indexed field.
+ */
+public class EnumBitmapIndex<E extends Enum<E>> implements PersonIndex {
+
+    private final Map<E, BitSet> slotsByValue;
+    private final Function<Person, Collection<E>> valuesOf;
+    private final BitSet indexedSlots = new BitSet();
+
+    /**
+     * Creates an index over the values of {@code enumClass} that {@code valuesOf} extracts from each person.
+     */
+    public EnumBitmapIndex(Class<E> enumClass, Function<Person, Collection<E>> valuesOf) {
+        requireNonNull(enumClass);
+        requireNonNull(valuesOf);
+        this.slotsByValue = new EnumMap<>(enumClass);
+        for (E value : enumClass.getEnumConstants()) {
+            slotsByValue.put(value, new BitSet());
+        }
+        this.valuesOf = valuesOf;
+    }
+
+    @Override
+    public void add(int slot, Person person) {
+        for (E value : valuesOf.apply(person)) {
+            slotsByValue.get(value).set(slot);
+        }
+        indexedSlots.set(slot);
+    }
+
+    @Override
+    public void remove(int slot, Person person) {
+        for (E value : valuesOf.apply(person)) {
+            slotsByValue.get(value).clear(slot);
+        }
+        indexedSlots.clear(slot);
+    }
+
+    @Override
+    public void clear() {
+        slotsByValue.values().forEach(BitSet::clear);
+        indexedSlots.clear();
+    }
+
+    /**
+     * Returns the slots of the persons with {@code value}.
+     */
+    public BitSet get(E value) {
+        requireNonNull(value);
+        return (BitSet) slotsByValue.get(value).clone();
+    }
+
+    /**
+     * Returns the slots of the persons with every one of {@code values}.
+     * If {@code values} is empty, returns the slots of all indexed persons.
+     */
+    public BitSet getAll(Collection<E> values) {
+        requireNonNull(values);
+        Iterator<E> iterator = values.iterator();
+        if (!iterator.hasNext()) {
+            return (BitSet) indexedSlots.clone();
+        }
+        BitSet slots = get(iterator.next());
+        while (iterator.hasNext() && !slots.isEmpty()) {
+            slots.and(slotsByValue.get(iterator.next()));
+        }
+        return slots;
+    }
+
+    /**
+     * Returns the number of persons with {@code value}.
+     */
+    public int count(E value) {
+        requireNonNull(value);
+        return slotsByValue.get(value).cardinality();
+    }
+
+    /**
+     * Returns an upper bound on the number of persons with every one of {@code values}, without intersecting
+     * their slots. If {@code values} is empty, returns the number of indexed persons.
+     */
+    public int estimateCountAll(Collection<E> values) {
+        requireNonNull(values);
+        int estimate = indexedSlots.cardinality();
+        for (E value : values) {
+            estimate = Math.min(estimate, count(value));
+        }
+        return estimate;
+    }
+}
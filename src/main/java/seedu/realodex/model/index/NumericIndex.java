@@ -0,0 +1,81 @@
+package seedu.realodex.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.ToLongFunction;
+
+import seedu.realodex.model.person.Person;
+
+/**
+ * Indexes persons by a numeric field, kept sorted so that the persons with values in a range are found by
+ * visiting only the values in that range.
+ */
+public class NumericIndex implements PersonIndex {
+
+    private final ToLongFunction<Person> valueOf;
+    private final NavigableMap<Long, SlotList> slotsByValue = new TreeMap<>();
+
+    /**
+     * Creates an empty index of the values returned by {@code valueOf}.
+     */
+    public NumericIndex(ToLongFunction<Person> valueOf) {
+        requireNonNull(valueOf);
+        this.valueOf = valueOf;
+    }
+
+    @Override
+    public void add(int slot, Person person) {
+        slotsByValue.computeIfAbsent(valueOf.applyAsLong(person), value -> new SlotList()).add(slot);
+    }
+
+    @Override
+    public void remove(int slot, Person person) {
+        long value = valueOf.applyAsLong(person);
+        SlotList slots = slotsByValue.get(value);
+        if (slots == null) {
+            return;
+        }
+        slots.remove(slot);
+        if (slots.isEmpty()) {
+            slotsByValue.remove(value);
+        }
+    }
+
+    @Override
+    public void clear() {
+        slotsByValue.clear();
+    }
+
+    /**
+     * Returns the slots of the persons whose value is from {@code min} to {@code max} inclusive.
+     */
+    public BitSet getRange(long min, long max) {
+        BitSet result = new BitSet();
+        if (min > max) {
+            return result;
+        }
+        for (SlotList slots : slotsByValue.subMap(min, true, max, true).values()) {
+            for (int i = 0; i < slots.size(); i++) {
+                result.set(slots.get(i));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of persons whose value is from {@code min} to {@code max} inclusive.
+     */
+    public int countRange(long min, long max) {
+        if (min > max) {
+            return 0;
+        }
+        int count = 0;
+        for (SlotList slots : slotsByValue.subMap(min, true, max, true).values()) {
+            count += slots.size();
+        }
+        return count;
+    }
+}
@@ -0,0 +1,28 @@
+package seedu.realodex.model.index;
+
+import seedu.realodex.model.person.Person;
+
+/**
+ * A secondary index over the persons of a {@code UniquePersonList}.
+ * Persons are identified by the slot they occupy in the list. Slots are stable while a person stays in the list
+ * and increase in list order, so iterating slots in ascending order visits persons in list order.
+ *
+ * @see seedu.realodex.model.person.UniquePersonList#addIndex(PersonIndex)
+ */
+public interface PersonIndex {
+
+    /**
+     * Records that {@code person} now occupies {@code slot}.
+     */
+    void add(int slot, Person person);
+
+    /**
+     * Records that {@code person} no longer occupies {@code slot}.
+     */
+    void remove(int slot, Person person);
+
+    /**
+     * Removes every person from the index.
+     */
+    void clear();
+}
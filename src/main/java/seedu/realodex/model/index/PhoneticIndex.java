@@ -0,0 +1,86 @@
+package seedu.realodex.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import seedu.realodex.commons.util.StringUtil;
+import seedu.realodex.model.person.Person;
+
+/**
+ * Indexes persons by the Soundex codes of the words of a text field, so that words that sound alike are found by
+ * looking up their code instead of encoding every person's text at query time.
+ */
+public class PhoneticIndex implements PersonIndex {
+
+    private final Function<Person, Set<String>> codesOf;
+    private final Map<String, BitSet> slotsByCode = new HashMap<>();
+
+    /**
+     * Creates an index over the Soundex codes that {@code codesOf} gives for each person, such as those of
+     * {@link StringUtil#soundexCodesOf(String)} for one of the person's text fields.
+     */
+    public PhoneticIndex(Function<Person, Set<String>> codesOf) {
+        requireNonNull(codesOf);
+        this.codesOf = codesOf;
+    }
+
+    @Override
+    public void add(int slot, Person person) {
+        for (String code : codesOf.apply(person)) {
+            slotsByCode.computeIfAbsent(code, unused -> new BitSet()).set(slot);
+        }
+    }
+
+    @Override
+    public void remove(int slot, Person person) {
+        for (String code : codesOf.apply(person)) {
+            BitSet slots = slotsByCode.get(code);
+            slots.clear(slot);
+            if (slots.isEmpty()) {
+                slotsByCode.remove(code);
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        slotsByCode.clear();
+    }
+
+    /**
+     * Returns the slots of the persons whose text has a word sounding like each word of {@code keyphrase}.
+     */
+    public BitSet search(String keyphrase) {
+        BitSet matches = null;
+        for (String code : StringUtil.soundexCodesOf(keyphrase)) {
+            BitSet slots = slotsByCode.get(code);
+            if (slots == null) {
+                return new BitSet();
+            }
+            if (matches == null) {
+                matches = (BitSet) slots.clone();
+            } else {
+                matches.and(slots);
+            }
+        }
+        return matches == null ? new BitSet() : matches;
+    }
+
+    /**
+     * Returns an upper bound on the number of persons {@link #search} would return for {@code keyphrase}: the
+     * number of persons having the rarest code among the words of the keyphrase.
+     */
+    public int estimateCount(String keyphrase) {
+        int estimate = Integer.MAX_VALUE;
+        for (String code : StringUtil.soundexCodesOf(keyphrase)) {
+            BitSet slots = slotsByCode.get(code);
+            estimate = Math.min(estimate, slots == null ? 0 : slots.cardinality());
+        }
+        return estimate == Integer.MAX_VALUE ? 0 : estimate;
+    }
+}
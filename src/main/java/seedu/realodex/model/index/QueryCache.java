@@ -0,0 +1,94 @@
+package seedu.realodex.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import seedu.realodex.model.person.Person;
+import seedu.realodex.model.person.predicates.IndexedPredicate;
+
+/**
+ * Remembers the slots matching the most recently used predicates, evicting the least recently used predicate once
+ * {@code capacity} predicates are remembered. Predicates are told apart by {@code equals}, so a filter that is
+ * repeated finds the results of its earlier run.
+ * The cache is registered as a {@code PersonIndex} and patches every remembered result as persons are added and
+ * removed, so results stay correct without being recomputed. Cached predicates must therefore depend only on the
+ * person they test.
+ */
+public class QueryCache implements PersonIndex {
+
+    public static final int DEFAULT_CAPACITY = 16;
+
+    private final Map<IndexedPredicate, BitSet> slotsByPredicate;
+    private int hitCount;
+    private int missCount;
+
+    /**
+     * Creates an empty cache that remembers the results of up to {@code capacity} predicates.
+     */
+    public QueryCache(int capacity) {
+        this.slotsByPredicate = new LinkedHashMap<>(capacity, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<IndexedPredicate, BitSet> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the slots matching {@code predicate}, computing them with {@code lookUp} only if they are not
+     * remembered.
+     */
+    public BitSet get(IndexedPredicate predicate, Function<IndexedPredicate, BitSet> lookUp) {
+        requireNonNull(predicate);
+        requireNonNull(lookUp);
+        BitSet slots = slotsByPredicate.get(predicate);
+        if (slots != null) {
+            hitCount++;
+        } else {
+            missCount++;
+            slots = lookUp.apply(predicate);
+            slotsByPredicate.put(predicate, slots);
+        }
+        return (BitSet) slots.clone();
+    }
+
+    @Override
+    public void add(int slot, Person person) {
+        for (Map.Entry<IndexedPredicate, BitSet> entry : slotsByPredicate.entrySet()) {
+            if (entry.getKey().test(person)) {
+                entry.getValue().set(slot);
+            }
+        }
+    }
+
+    @Override
+    public void remove(int slot, Person person) {
+        for (BitSet slots : slotsByPredicate.values()) {
+            slots.clear(slot);
+        }
+    }
+
+    @Override
+    public void clear() {
+        slotsByPredicate.clear();
+    }
+
+    /**
+     * Returns the number of predicates whose results are remembered.
+     */
+    public int size() {
+        return slotsByPredicate.size();
+    }
+
+    public int getHitCount() {
+        return hitCount;
+    }
+
+    public int getMissCount() {
+        return missCount;
+    }
+}
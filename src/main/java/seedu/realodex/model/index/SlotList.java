@@ -0,0 +1,61 @@
+package seedu.realodex.model.index;
+
+import java.util.Arrays;
+
+/**
+ * A sorted set of slots stored in a growable {@code int} array.
+ * Slots are mostly added in ascending order, which makes additions amortised O(1); other additions and removals
+ * shift the slots after them.
+ */
+class SlotList {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private int[] slots = new int[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Adds {@code slot} if it is not already in the list.
+     */
+    void add(int slot) {
+        int index = Arrays.binarySearch(slots, 0, size, slot);
+        if (index >= 0) {
+            return;
+        }
+        int insertionPoint = -index - 1;
+        if (size == slots.length) {
+            slots = Arrays.copyOf(slots, size * 2);
+        }
+        System.arraycopy(slots, insertionPoint, slots, insertionPoint + 1, size - insertionPoint);
+        slots[insertionPoint] = slot;
+        size++;
+    }
+
+    /**
+     * Removes {@code slot} if it is in the list.
+     */
+    void remove(int slot) {
+        int index = Arrays.binarySearch(slots, 0, size, slot);
+        if (index < 0) {
+            return;
+        }
+        System.arraycopy(slots, index + 1, slots, index, size - index - 1);
+        size--;
+    }
+
+    boolean contains(int slot) {
+        return Arrays.binarySearch(slots, 0, size, slot) >= 0;
+    }
+
+    int get(int index) {
+        return slots[index];
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+}
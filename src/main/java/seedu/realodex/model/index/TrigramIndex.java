@@ -0,0 +1,162 @@
+package seedu.realodex.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import seedu.realodex.commons.util.StringUtil;
+import seedu.realodex.model.person.Person;
+
+/**
+ * Indexes persons by the trigrams (runs of three characters) of a text field, for case-insensitive substring
+ * search. A search intersects the posting lists of the trigrams of the keyphrase and only checks the persons
+ * in that intersection, instead of every person.
+ */
+public class TrigramIndex implements PersonIndex {
+
+    private static final int GRAM_LENGTH = 3;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Function<Person, String> textOf;
+    private final Map<Long, SlotList> postings = new HashMap<>();
+    // normalized text of the person in each slot, null for empty slots
+    private String[] texts = new String[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Creates an index over the text that {@code textOf} extracts from each person.
+     */
+    public TrigramIndex(Function<Person, String> textOf) {
+        requireNonNull(textOf);
+        this.textOf = textOf;
+    }
+
+    @Override
+    public void add(int slot, Person person) {
+        String text = normalize(textOf.apply(person));
+        if (slot >= texts.length) {
+            texts = Arrays.copyOf(texts, Math.max(slot + 1, texts.length * 2));
+        }
+        texts[slot] = text;
+        size++;
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            postings.computeIfAbsent(trigramAt(text, i), unused -> new SlotList()).add(slot);
+        }
+    }
+
+    @Override
+    public void remove(int slot, Person person) {
+        String text = texts[slot];
+        texts[slot] = null;
+        size--;
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            Long trigram = trigramAt(text, i);
+            SlotList slots = postings.get(trigram);
+            if (slots == null) {
+                // repeated trigram whose posting list was already removed
+                continue;
+            }
+            slots.remove(slot);
+            if (slots.isEmpty()) {
+                postings.remove(trigram);
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        postings.clear();
+        texts = new String[INITIAL_CAPACITY];
+        size = 0;
+    }
+
+    /**
+     * Returns an upper bound on the number of persons whose text contains {@code keyphrase}, ignoring case,
+     * without searching for them: the length of the shortest posting list among the trigrams of the keyphrase.
+     */
+    public int estimateCount(String keyphrase) {
+        requireNonNull(keyphrase);
+        String needle = normalize(keyphrase);
+        if (needle.length() < GRAM_LENGTH) {
+            return size;
+        }
+        int estimate = size;
+        for (int i = 0; i + GRAM_LENGTH <= needle.length(); i++) {
+            SlotList slots = postings.get(trigramAt(needle, i));
+            estimate = Math.min(estimate, slots == null ? 0 : slots.size());
+        }
+        return estimate;
+    }
+
+    /**
+     * Returns the slots of the persons whose text contains {@code keyphrase}, ignoring case.
+     */
+    public BitSet search(String keyphrase) {
+        requireNonNull(keyphrase);
+        String needle = normalize(keyphrase);
+        if (needle.length() < GRAM_LENGTH) {
+            return scan(needle);
+        }
+
+        List<SlotList> lists = new ArrayList<>();
+        for (int i = 0; i + GRAM_LENGTH <= needle.length(); i++) {
+            SlotList slots = postings.get(trigramAt(needle, i));
+            if (slots == null) {
+                return new BitSet();
+            }
+            lists.add(slots);
+        }
+        lists.sort(Comparator.comparingInt(SlotList::size));
+
+        BitSet matches = new BitSet();
+        SlotList candidates = lists.get(0);
+        for (int i = 0; i < candidates.size(); i++) {
+            int slot = candidates.get(i);
+            if (isInAll(slot, lists) && texts[slot].contains(needle)) {
+                matches.set(slot);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the slots of the persons whose text contains {@code needle}, checking every person.
+     * Used for keyphrases too short to have a trigram.
+     */
+    private BitSet scan(String needle) {
+        BitSet matches = new BitSet();
+        for (int slot = 0; slot < texts.length; slot++) {
+            if (texts[slot] != null && texts[slot].contains(needle)) {
+                matches.set(slot);
+            }
+        }
+        return matches;
+    }
+
+    private static boolean isInAll(int slot, List<SlotList> lists) {
+        for (int i = 1; i < lists.size(); i++) {
+            if (!lists.get(i).contains(slot)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Lower-cases {@code text} the same way as the predicates that test persons one by one, whatever the locale.
+     */
+    private static String normalize(String text) {
+        return StringUtil.toLowerCaseByChar(text);
+    }
+
+    private static Long trigramAt(String text, int index) {
+        return ((long) text.charAt(index) << 32) | ((long) text.charAt(index + 1) << 16) | text.charAt(index + 2);
+    }
+}
@@ -1,18 +1,28 @@
 package seedu.realodex.model.person;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.realodex.commons.util.AppUtil.checkArgument;
+import static seedu.realodex.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.text.DateFormat;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.Year;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.time.format.FormatStyle;
+import java.time.format.ResolverStyle;
 import java.util.Calendar;
-import java.util.Date;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.OptionalInt;
+
+import seedu.realodex.model.DayClock;
 
 
 /**
- * Represents a Birthday in the Realodex
+ * Represents a Birthday in the Realodex.
+ * The date is kept as a day count from 1970-01-01, with its month and day within a leap year worked out once
+ * when the birthday is created. Birthdays are immutable and safe to share and create across threads.
  */
 //@@author 4llysa
 public class Birthday {
@@ -25,63 +35,162 @@ public class Birthday {
     // for filter purposes
     public static final String FILTER_MONTH_MESSAGE_CONSTRAINTS = "Birth Month should be in MMM format.\n"
             + "Example: b/Sep";
-    public static final SimpleDateFormat INPUT_DATE_FORMATTER = new SimpleDateFormat(INPUT_DATE_PATTERN);
-    public static final DateFormat DATE_FORMAT = DateFormat.getDateInstance(DateFormat.MEDIUM);
-    private final Optional<Date> optionalBirthday;
+    // accepts one or two digit days and full or short month names in any case, as SimpleDateFormat used to
+    public static final DateTimeFormatter INPUT_DATE_FORMATTER = new DateTimeFormatterBuilder()
+            .parseCaseInsensitive()
+            .appendPattern("d[MMMM][MMM]uuuu")
+            .toFormatter(Locale.ENGLISH)
+            .withResolverStyle(ResolverStyle.STRICT);
+    public static final DateTimeFormatter OUTPUT_DATE_FORMATTER =
+            DateTimeFormatter.ofPattern("ddMMMuuuu", Locale.ENGLISH);
+    public static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofLocalizedDate(FormatStyle.MEDIUM);
+    public static final int DAYS_IN_LEAP_YEAR = 366;
+    // number of days in a leap year before the first day of each month
+    private static final int[] DAYS_BEFORE_MONTH_IN_LEAP_YEAR = {0, 31, 60, 91, 121, 152, 182, 213, 244, 274, 305, 335};
+    private static final int DAY_OF_LEAP_YEAR_OF_FEBRUARY_29 = 60;
+    private static final int EARLIEST_YEAR = 1000;
+    private static final int NO_EPOCH_DAY = Integer.MIN_VALUE;
+    private static final int NO_MONTH = -1;
+    private static final int NO_DAY = -1;
+    private static final Birthday EMPTY_BIRTHDAY = new Birthday();
+
+    private final int epochDay;
+    // computed once so that month filters and sorts do not work out the date for every person they test
+    private final int month;
+    private final int dayOfLeapYear;
+
     /**
-     * Constructs a {@code Birthday}.
+     * Constructs a {@code Birthday}, which is unspecified if {@code birthday} is not a date.
      *
      * @param birthday A valid birthday.
      */
     public Birthday(String birthday) {
-        SimpleDateFormat formatter = new SimpleDateFormat(INPUT_DATE_PATTERN, Locale.ENGLISH);
-        formatter.setLenient(false);
-        Optional<Date> birthdayDate;
-        try {
-            birthdayDate = Optional.of(formatter.parse(birthday));
-            assert birthdayDate.isPresent();
-        } catch (ParseException e) {
-            birthdayDate = Optional.empty();
-        }
-        this.optionalBirthday = birthdayDate;
+        this(parse(birthday).map(date -> (int) date.toEpochDay()).orElse(NO_EPOCH_DAY));
     }
 
     /**
      * Constructs a default {@code Birthday}.
      */
     public Birthday() {
-        this("");
+        this(NO_EPOCH_DAY);
+    }
+
+    private Birthday(int epochDay) {
+        this.epochDay = epochDay;
+        if (epochDay == NO_EPOCH_DAY) {
+            this.month = NO_MONTH;
+            this.dayOfLeapYear = NO_DAY;
+        } else {
+            LocalDate date = LocalDate.ofEpochDay(epochDay);
+            this.month = date.getMonthValue() - 1;
+            this.dayOfLeapYear = toDayOfLeapYear(month, date.getDayOfMonth());
+        }
     }
+
     /**
-     * Returns the optional birthday date.
-     *
-     * @return The optional birthday date.
+     * Returns a {@code Birthday} of {@code birthday}, sharing a single instance for unspecified birthdays.
+     */
+    public static Birthday of(String birthday) {
+        requireNonNull(birthday);
+        return birthday.isBlank() ? EMPTY_BIRTHDAY : new Birthday(birthday);
+    }
+
+    /**
+     * Returns the {@code Birthday} on the date {@code epochDay} days after 1970-01-01.
+     */
+    public static Birthday ofEpochDay(int epochDay) {
+        checkArgument(epochDay != NO_EPOCH_DAY, "Epoch day is out of range");
+        return new Birthday(epochDay);
+    }
+
+    /**
+     * Returns the date of {@code birthday}, or an empty {@code Optional} if it is not a date.
+     */
+    private static Optional<LocalDate> parse(String birthday) {
+        requireNonNull(birthday);
+        try {
+            return Optional.of(LocalDate.parse(birthday.trim(), INPUT_DATE_FORMATTER));
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the date of the birthday, or an empty {@code Optional} if the birthday is not specified.
+     */
+    public Optional<LocalDate> getDate() {
+        return epochDay == NO_EPOCH_DAY ? Optional.empty() : Optional.of(LocalDate.ofEpochDay(epochDay));
+    }
+
+    /**
+     * Returns the date of the birthday as a day count from 1970-01-01,
+     * or an empty {@code OptionalInt} if the birthday is not specified.
+     */
+    public OptionalInt getEpochDay() {
+        return epochDay == NO_EPOCH_DAY ? OptionalInt.empty() : OptionalInt.of(epochDay);
+    }
+
+    /**
+     * Returns the month of the birthday, from {@code Calendar.JANUARY} to {@code Calendar.DECEMBER},
+     * or an empty {@code OptionalInt} if the birthday is not specified.
      */
-    public Optional<Date> getOptionalBirthday() {
-        return optionalBirthday;
+    public OptionalInt getMonth() {
+        return month == NO_MONTH ? OptionalInt.empty() : OptionalInt.of(month);
     }
 
     /**
-     * Returns if a given string is a valid birthday.
+     * Returns true if the birthday is specified and falls in {@code month},
+     * from {@code Calendar.JANUARY} to {@code Calendar.DECEMBER}.
+     */
+    public boolean isInMonth(int month) {
+        return this.month != NO_MONTH && this.month == month;
+    }
+
+    /**
+     * Returns the day of the birthday within a leap year, from 1 to {@value #DAYS_IN_LEAP_YEAR}, or an empty
+     * {@code OptionalInt} if the birthday is not specified. Every date, including 29 February, has its own day.
+     */
+    public OptionalInt getDayOfLeapYear() {
+        return dayOfLeapYear == NO_DAY ? OptionalInt.empty() : OptionalInt.of(dayOfLeapYear);
+    }
+
+    /**
+     * Returns the number of days from {@code fromDay} to the birthday, both counted within a leap year as in
+     * {@link #getDayOfLeapYear()} and wrapping around from the end of the year to its start, or
+     * {@value #DAYS_IN_LEAP_YEAR} if the birthday is not specified, so that unspecified birthdays come last.
+     * Unlike {@link #getDaysUntilBirthday(DayClock)}, this reads only fields computed when the birthday was created.
+     */
+    public int getDaysFrom(int fromDay) {
+        assert fromDay >= 1 && fromDay <= DAYS_IN_LEAP_YEAR;
+        if (dayOfLeapYear == NO_DAY) {
+            return DAYS_IN_LEAP_YEAR;
+        }
+        return (dayOfLeapYear - fromDay + DAYS_IN_LEAP_YEAR) % DAYS_IN_LEAP_YEAR;
+    }
+
+    /**
+     * Returns the day within a leap year, from 1 to {@value #DAYS_IN_LEAP_YEAR}, of the date in {@code month},
+     * from {@code Calendar.JANUARY} to {@code Calendar.DECEMBER}, and {@code dayOfMonth}.
+     */
+    public static int toDayOfLeapYear(int month, int dayOfMonth) {
+        assert month >= Calendar.JANUARY && month <= Calendar.DECEMBER;
+        return DAYS_BEFORE_MONTH_IN_LEAP_YEAR[month] + dayOfMonth;
+    }
+
+    /**
+     * Returns if a given string is a valid birthday, one that is blank or a date no later than {@code today}.
      *
      * @param birthday the string to be validated as a birthday.
+     * @param today the latest date the birthday may fall on, such as {@link DayClock#getToday()}.
      */
-    public static boolean isValidBirthday(String birthday) {
-        requireNonNull(birthday);
-        if (birthday.isBlank() || birthday.isEmpty()) {
+    public static boolean isValidBirthday(String birthday, LocalDate today) {
+        requireAllNonNull(birthday, today);
+        if (birthday.isBlank()) {
             return true;
         }
-        try {
-            SimpleDateFormat formatter = new SimpleDateFormat(INPUT_DATE_PATTERN, Locale.ENGLISH);
-            formatter.setLenient(false);
-            Date parsedDate = formatter.parse(birthday.trim());
-            Date currentDate = new Date();
-            Calendar calendar = Calendar.getInstance();
-            calendar.setTime(parsedDate);
-            return !parsedDate.after(currentDate) && calendar.get(Calendar.YEAR) >= 1000;
-        } catch (ParseException e) {
-            return false;
-        }
+        return parse(birthday)
+                .filter(date -> !date.isAfter(today) && date.getYear() >= EARLIEST_YEAR)
+                .isPresent();
     }
 
     @Override
@@ -96,19 +205,19 @@ public class Birthday {
         }
 
         Birthday otherBirthday = (Birthday) other;
-        return optionalBirthday.equals(otherBirthday.optionalBirthday);
+        return epochDay == otherBirthday.epochDay;
     }
 
     @Override
     public int hashCode() {
-        return optionalBirthday.hashCode();
+        return Integer.hashCode(epochDay);
     }
 
     /**
      * Format state as text for viewing.
      */
     public String toString() {
-        return optionalBirthday.map(INPUT_DATE_FORMATTER::format).orElse("");
+        return getDate().map(OUTPUT_DATE_FORMATTER::format).orElse("");
     }
 
     //@@author UdhayaShan1
@@ -116,57 +225,53 @@ public class Birthday {
      * Format state as text for representation.
      */
     public String toStringWithRepresentation() {
-        return optionalBirthday.map(date -> "Birthday: " + DATE_FORMAT.format(date))
+        return getDate().map(date -> "Birthday: " + DATE_FORMAT.format(date))
                 .orElse("No specified Birthday.");
     }
 
     /**
-     * Returns the number of days from the current system date to the birthday.
-     * If the birthday has already passed this year, it returns the number of days
-     * from the current date of next year to the birthday.
+     * Returns the number of days from today, as supplied by {@code dayClock}, to the birthday.
+     * If the birthday has already passed this year, it returns the number of days until the birthday next year.
+     * A birthday on 29 February falls on 1 March in years without one.
+     * Returns 0 if the birthday is not specified.
+     * The count is looked up from those {@code dayClock} works out once a day.
      */
-    public Long getDaysUntilBirthday() {
-        Date currentDate = new Date(); // Current system date
-        Date birthdayDate = optionalBirthday.orElse(currentDate); // If birthday is not present, use current date
-
-        // Remove time component from the dates for accurate comparison
-        Calendar currentCal = returnInstanceOfCalendar(currentDate);
-        Calendar birthdayCal = returnInstanceOfCalendar(birthdayDate);
-
-        int currentYear = currentCal.get(Calendar.YEAR);
-        int currentMonth = currentCal.get(Calendar.MONTH);
-        int currentDay = currentCal.get(Calendar.DAY_OF_MONTH);
-        int birthdayMonth = birthdayCal.get(Calendar.MONTH);
-        int birthdayDay = birthdayCal.get(Calendar.DAY_OF_MONTH);
+    public long getDaysUntilBirthday(DayClock dayClock) {
+        return dayOfLeapYear == NO_DAY ? 0L : dayClock.getDaysUntil(dayOfLeapYear);
+    }
 
-        // Check if the birthday has already passed this year
-        if (currentMonth > birthdayMonth || (currentMonth == birthdayMonth && currentDay > birthdayDay)) {
-            // If yes, set the birthday year to the next year
-            birthdayCal.set(Calendar.YEAR, currentYear + 1);
-        } else {
-            birthdayCal.set(Calendar.YEAR, currentYear);
+    /**
+     * Returns the number of days from {@code today} to the next birthday on {@code dayOfLeapYear}, a day within a
+     * leap year as in {@link #getDayOfLeapYear()}. A birthday on 29 February falls on 1 March in years without one.
+     */
+    public static int getDaysUntil(int dayOfLeapYear, LocalDate today) {
+        assert dayOfLeapYear >= 1 && dayOfLeapYear <= DAYS_IN_LEAP_YEAR;
+        LocalDate nextBirthday = getBirthdayInYear(dayOfLeapYear, today.getYear());
+        if (nextBirthday.isBefore(today)) {
+            nextBirthday = getBirthdayInYear(dayOfLeapYear, today.getYear() + 1);
         }
+        return (int) (nextBirthday.toEpochDay() - today.toEpochDay());
+    }
 
-        // Calculate the difference in milliseconds between the two dates and convert it to days
-        long diff = birthdayCal.getTimeInMillis() - currentCal.getTimeInMillis();
-        return diff / (1000 * 60 * 60 * 24); // Convert milliseconds to days
+    /**
+     * Returns the date on which a birthday on {@code dayOfLeapYear} falls in {@code year}.
+     */
+    private static LocalDate getBirthdayInYear(int dayOfLeapYear, int year) {
+        boolean hasDayOfYear = Year.isLeap(year) || dayOfLeapYear <= DAY_OF_LEAP_YEAR_OF_FEBRUARY_29;
+        // in other years, 29 February and 1 March both fall on the 60th day
+        return LocalDate.ofYearDay(year, hasDayOfYear ? dayOfLeapYear : dayOfLeapYear - 1);
     }
 
-    public String getDaysUntilBirthdayWithRepresentation() {
-        if (this.optionalBirthday.isPresent()) {
-            return getDaysUntilBirthday() + " More Days Till Their Birthday!";
+    /**
+     * Returns the number of days from today, as supplied by {@code dayClock}, to the birthday for display.
+     *
+     * @see #getDaysUntilBirthday(DayClock)
+     */
+    public String getDaysUntilBirthdayWithRepresentation(DayClock dayClock) {
+        if (epochDay != NO_EPOCH_DAY) {
+            return getDaysUntilBirthday(dayClock) + " More Days Till Their Birthday!";
         }
         return "Birthday is unspecified!";
     }
-
-    private Calendar returnInstanceOfCalendar(Date date) {
-        Calendar toReturn = Calendar.getInstance();
-        toReturn.setTime(date);
-        toReturn.set(Calendar.HOUR_OF_DAY, 0);
-        toReturn.set(Calendar.MINUTE, 0);
-        toReturn.set(Calendar.SECOND, 0);
-        toReturn.set(Calendar.MILLISECOND, 0);
-        return toReturn;
-    }
 }
 //@@author
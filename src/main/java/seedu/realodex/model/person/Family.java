@@ -10,12 +10,13 @@ import static seedu.realodex.commons.util.AppUtil.checkArgument;
 public class Family {
 
     /** Message for constraints on family size. */
-    public static final String MESSAGE_CONSTRAINTS = "Family size should be at least 1";
+    public static final String MESSAGE_CONSTRAINTS = "Family size should be at least 1 and at most "
+            + Integer.MAX_VALUE;
     public static final String VALIDATION_REGEX = "^0*[1-9]\\d*$";
     public static final String DEFAULT_FAMILY = "1";
 
     /** The family size. */
-    private String familySize;
+    private final int familySize;
 
 
     /**
@@ -26,25 +27,48 @@ public class Family {
     public Family(String familySize) {
         requireNonNull(familySize);
         checkArgument(isValidFamily(familySize), MESSAGE_CONSTRAINTS);
-        this.familySize = familySize;
+        this.familySize = Integer.parseInt(familySize);
     }
 
     public Family() {
-        this.familySize = DEFAULT_FAMILY;
+        this(DEFAULT_FAMILY);
+    }
+
+    public int getValue() {
+        return familySize;
     }
 
     /**
      * Checks if the given family size is a valid value.
      *
      * @param familySize The family size to check.
-     * @return True if the family size is greater than or equal to zero, false otherwise.
+     * @return True if the family size is at least 1 and fits in an {@code int}, false otherwise.
      */
     public static boolean isValidFamily(String familySize) {
         // Ensure the family size matches the validation regex
         if (!familySize.matches(VALIDATION_REGEX)) {
             return false;
         }
-        return !familySize.equals("0");
+        try {
+            Integer.parseInt(familySize);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns {@code familySize}, or the largest valid family size if it is a positive whole number too large to be
+     * a family size. Family sizes of any size were once accepted, so this lets such saved values be loaded.
+     *
+     * @param familySize The family size to clamp.
+     * @return The family size within the valid range, or {@code familySize} if it is not a positive whole number.
+     */
+    public static String clampToValidRange(String familySize) {
+        if (familySize.matches(VALIDATION_REGEX) && !isValidFamily(familySize)) {
+            return Integer.toString(Integer.MAX_VALUE);
+        }
+        return familySize;
     }
 
     /**
@@ -54,7 +78,7 @@ public class Family {
      */
     @Override
     public String toString() {
-        return familySize.toString();
+        return Integer.toString(familySize);
     }
 
     /**
@@ -81,6 +105,11 @@ public class Family {
             return false; // instanceof handles nulls
         }
         Family otherFamily = (Family) other;
-        return familySize.equals(otherFamily.familySize); // state check
+        return familySize == otherFamily.familySize; // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(familySize);
     }
 }
@@ -3,6 +3,11 @@ package seedu.realodex.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.realodex.commons.util.AppUtil.checkArgument;
 
+import java.util.EnumMap;
+import java.util.Map;
+
+import seedu.realodex.commons.util.StringUtil;
+
 /**
  * Represents a Housing Type in the realodex.
  * Guarantees: immutable; name is valid as declared in {@link #isValidHousingType(String)}
@@ -13,7 +18,11 @@ public class HousingType {
             + "'LANDED PROPERTY' or 'GOOD CLASS BUNGALOW'";
     public static final String VALIDATION_REGEX = "[\\p{Alnum} ]+";
     public static final House DEFAULT_HOUSE = House.HDB;
-    private House housingType;
+    private static final Map<House, HousingType> CANONICAL_HOUSING_TYPES = new EnumMap<>(House.class);
+    private static final Map<House, String> HOUSE_NAMES = new EnumMap<>(House.class);
+    private static final House[] HOUSES = House.values();
+
+    private final House housingType;
 
     /**
      * Represents the different types of houses.
@@ -22,6 +31,13 @@ public class HousingType {
         HDB, CONDOMINIUM, LANDED_PROPERTY, GOOD_CLASS_BUNGALOW
     }
 
+    static {
+        for (House house : House.values()) {
+            CANONICAL_HOUSING_TYPES.put(house, new HousingType(house));
+            HOUSE_NAMES.put(house, house.name().replace('_', ' '));
+        }
+    }
+
     /**
      * Constructs a {@code HousingType}.
      *
@@ -30,23 +46,60 @@ public class HousingType {
     public HousingType(String housingType) {
         requireNonNull(housingType);
         checkArgument(isValidHousingType(housingType), MESSAGE_CONSTRAINTS);
-        this.housingType = House.valueOf(housingType.toUpperCase().replace(" ", "_"));
+        this.housingType = findHouse(housingType);
+    }
+
+    private HousingType(House house) {
+        this.housingType = house;
     }
 
     public HousingType() {
         this.housingType = DEFAULT_HOUSE;
     }
 
+    /**
+     * Returns the shared {@code HousingType} of the given {@code house}.
+     */
+    public static HousingType of(House house) {
+        requireNonNull(house);
+        return CANONICAL_HOUSING_TYPES.get(house);
+    }
+
+    /**
+     * Returns the shared {@code HousingType} with the given name.
+     *
+     * @param housingType A valid housing type.
+     */
+    public static HousingType of(String housingType) {
+        requireNonNull(housingType);
+        House house = findHouse(housingType);
+        checkArgument(house != null, MESSAGE_CONSTRAINTS);
+        return CANONICAL_HOUSING_TYPES.get(house);
+    }
+
+    public House getHouse() {
+        return housingType;
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidHousingType(String test) {
-        try {
-            House.valueOf(test.toUpperCase().replace(" ", "_"));
-        } catch (IllegalArgumentException e) {
-            return false;
+        requireNonNull(test);
+        return findHouse(test) != null;
+    }
+
+    /**
+     * Returns the house whose name, with underscores read as spaces, is {@code name} ignoring case,
+     * or null if there is none. Only ASCII names match, as required by {@link #VALIDATION_REGEX}.
+     */
+    private static House findHouse(String name) {
+        for (House house : HOUSES) {
+            if (HOUSE_NAMES.get(house).equalsIgnoreCase(name)) {
+                return StringUtil.isAscii(name) ? house : null;
+            }
         }
-        return test.matches(VALIDATION_REGEX);
+        return null;
     }
 
     /**
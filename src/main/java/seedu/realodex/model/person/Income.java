@@ -10,12 +10,13 @@ import static seedu.realodex.commons.util.AppUtil.checkArgument;
 public class Income {
 
     /** Message for constraints on income. */
-    public static final String MESSAGE_CONSTRAINTS = "Income should be an integer and should be at least 0";
+    public static final String MESSAGE_CONSTRAINTS = "Income should be an integer and should be at least 0 "
+            + "and at most " + Long.MAX_VALUE;
     public static final String VALIDATION_REGEX = "^[0-9]+$";
     public static final String DEFAULT_INCOME = "0";
 
     /** The income value. */
-    private final String incomeValue;
+    private final long incomeValue;
 
     /**
      * Constructs an {@code Income} instance with the given income value.
@@ -25,21 +26,48 @@ public class Income {
     public Income(String incomeValue) {
         requireNonNull(incomeValue);
         checkArgument(isValidIncome(incomeValue), MESSAGE_CONSTRAINTS);
-        this.incomeValue = incomeValue;
+        this.incomeValue = Long.parseLong(incomeValue);
     }
 
     public Income() {
-        this.incomeValue = DEFAULT_INCOME;
+        this(DEFAULT_INCOME);
+    }
+
+    public long getValue() {
+        return incomeValue;
     }
 
     /**
      * Checks if the given income value is a valid value.
      *
      * @param incomeValue The income value to check.
-     * @return True if the income value is greater than or equal to zero, false otherwise.
+     * @return True if the income value is greater than or equal to zero and fits in a {@code long},
+     *         false otherwise.
      */
     public static boolean isValidIncome(String incomeValue) {
-        return incomeValue.matches(VALIDATION_REGEX);
+        if (!incomeValue.matches(VALIDATION_REGEX)) {
+            return false;
+        }
+        try {
+            Long.parseLong(incomeValue);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns {@code incomeValue}, or the largest valid income if it is a whole number too large to be an income.
+     * Incomes of any size were once accepted, so this lets such saved values be loaded.
+     *
+     * @param incomeValue The income value to clamp.
+     * @return The income value within the valid range, or {@code incomeValue} if it is not a whole number.
+     */
+    public static String clampToValidRange(String incomeValue) {
+        if (incomeValue.matches(VALIDATION_REGEX) && !isValidIncome(incomeValue)) {
+            return Long.toString(Long.MAX_VALUE);
+        }
+        return incomeValue;
     }
 
     /**
@@ -49,7 +77,7 @@ public class Income {
      */
     @Override
     public String toString() {
-        return incomeValue.toString();
+        return Long.toString(incomeValue);
     }
 
     /**
@@ -76,6 +104,11 @@ public class Income {
             return false; // instanceof handles nulls
         }
         Income otherIncome = (Income) other;
-        return incomeValue.equals(otherIncome.incomeValue); // state check
+        return incomeValue == otherIncome.incomeValue; // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(incomeValue);
     }
 }
@@ -3,6 +3,11 @@ package seedu.realodex.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.realodex.commons.util.AppUtil.checkArgument;
 
+import java.util.Collections;
+import java.util.Set;
+
+import seedu.realodex.commons.util.StringUtil;
+
 /**
  * Represents a Person's name in realodex.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -23,6 +28,9 @@ public class Name {
 
     private final String defaultValidName = DEFAULT_NAME;
 
+    // Soundex codes of the words of the name, encoded when first needed
+    private volatile Set<String> soundexCodes;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -46,6 +54,21 @@ public class Name {
     }
 
 
+    /**
+     * Returns the distinct Soundex codes of the words of the name.
+     * The codes are encoded once, when the name is first indexed or tested, and reused after that.
+     *
+     * @see StringUtil#soundexCodesOf(String)
+     */
+    public Set<String> getSoundexCodes() {
+        Set<String> codes = soundexCodes;
+        if (codes == null) {
+            codes = Collections.unmodifiableSet(StringUtil.soundexCodesOf(fullName));
+            soundexCodes = codes;
+        }
+        return codes;
+    }
+
     @Override
     public String toString() {
         return fullName;
@@ -0,0 +1,124 @@
+package seedu.realodex.model.person;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Maps the persons of a {@code UniquePersonList} to their positions in the list.
+ * Each person occupies a slot that is handed out in list order and kept until the person is removed, so the
+ * position of a person is the number of occupied slots before its own. Occupancy is kept in a Fenwick tree,
+ * which answers that count and records removals in O(log n).
+ */
+class PositionIndex {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private Person[] slots = new Person[INITIAL_CAPACITY];
+    // 1-based Fenwick tree over slot occupancy
+    private int[] tree = new int[INITIAL_CAPACITY + 1];
+    private int slotCount;
+    private int size;
+
+    /**
+     * Appends {@code person} to a new slot after all existing slots and returns that slot.
+     */
+    int append(Person person) {
+        if (slotCount == slots.length) {
+            grow(slotCount * 2);
+        }
+        int slot = slotCount++;
+        slots[slot] = person;
+        update(slot, 1);
+        size++;
+        return slot;
+    }
+
+    /**
+     * Returns the person occupying {@code slot}, or null if the slot is empty.
+     */
+    Person get(int slot) {
+        return slot < slotCount ? slots[slot] : null;
+    }
+
+    /**
+     * Replaces the person occupying {@code slot}.
+     */
+    void set(int slot, Person person) {
+        assert slots[slot] != null;
+        slots[slot] = person;
+    }
+
+    /**
+     * Empties {@code slot}.
+     */
+    void remove(int slot) {
+        assert slots[slot] != null;
+        slots[slot] = null;
+        update(slot, -1);
+        size--;
+    }
+
+    /**
+     * Returns the position in the list of the person occupying {@code slot}.
+     */
+    int positionOf(int slot) {
+        assert slots[slot] != null;
+        int position = 0;
+        for (int i = slot; i > 0; i -= i & -i) {
+            position += tree[i];
+        }
+        return position;
+    }
+
+    /**
+     * Returns the number of slots handed out, including empty ones.
+     */
+    int getSlotCount() {
+        return slotCount;
+    }
+
+    /**
+     * Returns true if empty slots outnumber occupied ones enough that the slots should be reassigned.
+     */
+    boolean isSparse() {
+        return slotCount > INITIAL_CAPACITY && slotCount > 2 * size;
+    }
+
+    /**
+     * Reassigns slots so that the person at position {@code i} of {@code persons} occupies slot {@code i}.
+     */
+    void reset(List<Person> persons) {
+        int capacity = Math.max(INITIAL_CAPACITY, persons.size());
+        slots = persons.toArray(new Person[capacity]);
+        slotCount = persons.size();
+        size = persons.size();
+        rebuildTree(capacity);
+    }
+
+    private void grow(int capacity) {
+        slots = Arrays.copyOf(slots, capacity);
+        rebuildTree(capacity);
+    }
+
+    /**
+     * Rebuilds the Fenwick tree from slot occupancy in O(capacity).
+     */
+    private void rebuildTree(int capacity) {
+        tree = new int[capacity + 1];
+        for (int i = 1; i <= capacity; i++) {
+            if (i <= slotCount && slots[i - 1] != null) {
+                tree[i]++;
+            }
+            int parent = i + (i & -i);
+            if (parent <= capacity) {
+                tree[parent] += tree[i];
+            }
+        }
+    }
+
+    private void update(int slot, int delta) {
+        for (int i = slot + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+}
@@ -9,6 +9,8 @@ public class Remark {
 
     public static final String MESSAGE_CONSTRAINTS = "Remarks should be non-empty";
 
+    private static final Remark EMPTY_REMARK = new Remark("");
+
     public final String remarkName;
 
     /**
@@ -21,6 +23,14 @@ public class Remark {
         this.remarkName = remarkName;
     }
 
+    /**
+     * Returns a {@code Remark} of {@code remarkName}, sharing a single instance for the empty remark.
+     */
+    public static Remark of(String remarkName) {
+        requireNonNull(remarkName);
+        return remarkName.isEmpty() ? EMPTY_REMARK : new Remark(remarkName);
+    }
+
     /**
      * Validates if the given string is a valid remark. In the current implementation (as of v1.2),
      * this method does not perform any actual validation checks and will always return true.
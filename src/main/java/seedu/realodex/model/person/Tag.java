@@ -3,6 +3,11 @@ package seedu.realodex.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.realodex.commons.util.AppUtil.checkArgument;
 
+import java.util.EnumMap;
+import java.util.Map;
+
+import seedu.realodex.commons.util.StringUtil;
+
 /**
  * Represents a Tag in the realodex.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -12,6 +17,9 @@ public class Tag {
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be either 'buyer' or 'seller'";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    private static final Map<Role, Tag> CANONICAL_TAGS = new EnumMap<>(Role.class);
+    private static final Role[] ROLES = Role.values();
+
     public final Role tagName;
 
     /**
@@ -35,6 +43,12 @@ public class Tag {
         }
     }
 
+    static {
+        for (Role role : Role.values()) {
+            CANONICAL_TAGS.put(role, new Tag(role));
+        }
+    }
+
     /**
      * Constructs a {@code Tag}.
      *
@@ -43,19 +57,52 @@ public class Tag {
     public Tag(String tagName) {
         requireNonNull(tagName);
         checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
-        this.tagName = Role.valueOf(tagName.toUpperCase());
+        this.tagName = findRole(tagName);
+    }
+
+    private Tag(Role role) {
+        this.tagName = role;
+    }
+
+    /**
+     * Returns the shared {@code Tag} of the given {@code role}.
+     */
+    public static Tag of(Role role) {
+        requireNonNull(role);
+        return CANONICAL_TAGS.get(role);
+    }
+
+    /**
+     * Returns the shared {@code Tag} with the given tag name.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        requireNonNull(tagName);
+        Role role = findRole(tagName);
+        checkArgument(role != null, MESSAGE_CONSTRAINTS);
+        return CANONICAL_TAGS.get(role);
     }
 
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        try {
-            Role.valueOf(test.toUpperCase());
-        } catch (IllegalArgumentException e) {
-            return false;
+        requireNonNull(test);
+        return findRole(test) != null;
+    }
+
+    /**
+     * Returns the role whose name is {@code name} ignoring case, or null if there is none.
+     * Only ASCII names match, as required by {@link #VALIDATION_REGEX}.
+     */
+    private static Role findRole(String name) {
+        for (Role role : ROLES) {
+            if (role.name().equalsIgnoreCase(name)) {
+                return StringUtil.isAscii(name) ? role : null;
+            }
         }
-        return test.matches(VALIDATION_REGEX);
+        return null;
     }
 
     @Override
@@ -3,11 +3,17 @@ package seedu.realodex.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.realodex.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.realodex.model.index.PersonIndex;
 import seedu.realodex.model.person.exceptions.DuplicatePersonException;
 import seedu.realodex.model.person.exceptions.PersonNotFoundException;
 
@@ -18,22 +24,39 @@ import seedu.realodex.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * A name-keyed index of list slots is kept alongside the backing list so that identity lookups, updates and
+ * removals do not require a scan of the list. Registered {@code PersonIndex}es are updated before each change to
+ * the backing list is published.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final ArrayList<Person> backingList = new ArrayList<>();
+    private final ObservableList<Person> internalList = FXCollections.observableList(backingList);
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final PositionIndex positions = new PositionIndex();
+    private final List<PersonIndex> indexes = new ArrayList<>();
+    private Map<Name, Integer> nameIndex = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return nameIndex.containsKey(toCheck.getName());
+    }
+
+    /**
+     * Returns the person in the list with the given {@code name}, if any.
+     */
+    public Optional<Person> getPersonByName(Name name) {
+        requireNonNull(name);
+        Integer slot = nameIndex.get(name);
+        return slot == null ? Optional.empty() : Optional.of(positions.get(slot));
     }
 
     /**
@@ -45,9 +68,34 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        int slot = positions.append(toAdd);
+        nameIndex.put(toAdd.getName(), slot);
+        indexes.forEach(index -> index.add(slot, toAdd));
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds all persons in {@code toAdd} to the end of the list as a single list change.
+     * None of the persons may already exist in the list, and {@code toAdd} must not contain duplicate persons.
+     */
+    public void addAll(List<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        Map<Name, Integer> addedIndex = indexByName(toAdd, positions.getSlotCount());
+        for (Name name : addedIndex.keySet()) {
+            if (nameIndex.containsKey(name)) {
+                throw new DuplicatePersonException();
+            }
+        }
+
+        for (Person person : toAdd) {
+            int slot = positions.append(person);
+            indexes.forEach(index -> index.add(slot, person));
+        }
+        nameIndex.putAll(addedIndex);
+        backingList.ensureCapacity(backingList.size() + toAdd.size());
+        internalList.addAll(toAdd);
+    }
+
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
@@ -56,16 +104,20 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
-            throw new PersonNotFoundException();
-        }
+        int slot = slotOf(target);
 
         if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        positions.set(slot, editedPerson);
+        nameIndex.remove(target.getName());
+        nameIndex.put(editedPerson.getName(), slot);
+        indexes.forEach(index -> {
+            index.remove(slot, target);
+            index.add(slot, editedPerson);
+        });
+        internalList.set(positions.positionOf(slot), editedPerson);
     }
 
     /**
@@ -74,13 +126,21 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
-            throw new PersonNotFoundException();
+        int slot = slotOf(toRemove);
+        int position = positions.positionOf(slot);
+
+        positions.remove(slot);
+        nameIndex.remove(toRemove.getName());
+        indexes.forEach(index -> index.remove(slot, toRemove));
+        internalList.remove(position);
+        if (positions.isSparse()) {
+            reindex(backingList);
         }
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        reindex(replacement.backingList);
         internalList.setAll(replacement.internalList);
     }
 
@@ -90,13 +150,65 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
-        }
+        Map<Name, Integer> newIndex = indexByName(persons, 0);
 
+        positions.reset(persons);
+        nameIndex = newIndex;
+        resetIndexes(persons);
+        backingList.ensureCapacity(persons.size());
         internalList.setAll(persons);
     }
 
+    /**
+     * Registers {@code index} to be kept up to date with the persons in this list, and adds the persons
+     * currently in the list to it.
+     */
+    public void addIndex(PersonIndex index) {
+        requireNonNull(index);
+        indexes.add(index);
+        index.clear();
+        for (int slot = 0; slot < positions.getSlotCount(); slot++) {
+            Person person = positions.get(slot);
+            if (person != null) {
+                index.add(slot, person);
+            }
+        }
+    }
+
+    /**
+     * Returns the persons occupying {@code slots}, in list order.
+     *
+     * @see PersonIndex
+     */
+    public List<Person> getPersonsInSlots(BitSet slots) {
+        requireNonNull(slots);
+        List<Person> persons = new ArrayList<>(slots.cardinality());
+        for (int slot = slots.nextSetBit(0); slot >= 0; slot = slots.nextSetBit(slot + 1)) {
+            Person person = positions.get(slot);
+            assert person != null;
+            persons.add(person);
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the person occupying {@code slot}, or null if the slot is empty.
+     *
+     * @see PersonIndex
+     */
+    public Person getPersonInSlot(int slot) {
+        return positions.get(slot);
+    }
+
+    /**
+     * Returns the number of slots handed out so far, one more than the highest slot that may be occupied.
+     *
+     * @see PersonIndex
+     */
+    public int getSlotCount() {
+        return positions.getSlotCount();
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -141,16 +253,49 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the slot of the person in the list that is equal to {@code person}.
+     *
+     * @throws PersonNotFoundException if there is no such person in the list.
+     */
+    private int slotOf(Person person) {
+        Integer slot = nameIndex.get(person.getName());
+        if (slot == null || !positions.get(slot).equals(person)) {
+            throw new PersonNotFoundException();
+        }
+        return slot;
+    }
+
+    /**
+     * Reassigns slots so that the person at position {@code i} of {@code persons} occupies slot {@code i}.
+     */
+    private void reindex(List<Person> persons) {
+        positions.reset(persons);
+        nameIndex = indexByName(persons, 0);
+        resetIndexes(persons);
+    }
+
+    private void resetIndexes(List<Person> persons) {
+        for (PersonIndex index : indexes) {
+            index.clear();
+            for (int slot = 0; slot < persons.size(); slot++) {
+                index.add(slot, persons.get(slot));
+            }
+        }
+    }
+
+    /**
+     * Returns an index from the name of each of {@code persons} to its slot, numbering slots from
+     * {@code firstSlot} in list order. The index is built in a single pass.
+     *
+     * @throws DuplicatePersonException if {@code persons} contains two persons with the same identity.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static Map<Name, Integer> indexByName(List<Person> persons, int firstSlot) {
+        Map<Name, Integer> index = new HashMap<>((int) (persons.size() / 0.75f) + 1);
+        for (int i = 0; i < persons.size(); i++) {
+            if (index.putIfAbsent(persons.get(i).getName(), firstSlot + i) != null) {
+                throw new DuplicatePersonException();
             }
         }
-        return true;
+        return index;
     }
 }
@@ -0,0 +1,96 @@
+package seedu.realodex.model.person.predicates;
+
+import static seedu.realodex.commons.util.AppUtil.checkArgument;
+
+import java.util.BitSet;
+
+import seedu.realodex.commons.util.ToStringBuilder;
+import seedu.realodex.model.Realodex;
+import seedu.realodex.model.index.BirthdayIndex;
+import seedu.realodex.model.person.Birthday;
+import seedu.realodex.model.person.Person;
+
+/**
+ * Tests that a {@code Person}'s {@code Birthday} falls on a day from {@code fromDay} to {@code toDay} inclusive,
+ * with days counted within a leap year as in {@link Birthday#getDayOfLeapYear()}. If {@code fromDay} is after
+ * {@code toDay}, the range wraps around from the end of the year to its start.
+ */
+public class BirthdayInDayRangePredicate implements IndexedPredicate {
+    private static final String MESSAGE_INVALID_DAY = "Days should be from 1 to " + Birthday.DAYS_IN_LEAP_YEAR;
+
+    private final int fromDay;
+    private final int toDay;
+
+    /**
+     * Creates a {@code BirthdayInDayRangePredicate} that matches birthdays from {@code fromDay} to {@code toDay}.
+     *
+     * @throws IllegalArgumentException if either day is not within a leap year.
+     */
+    public BirthdayInDayRangePredicate(int fromDay, int toDay) {
+        checkArgument(isValidDay(fromDay) && isValidDay(toDay), MESSAGE_INVALID_DAY);
+        this.fromDay = fromDay;
+        this.toDay = toDay;
+    }
+
+    private static boolean isValidDay(int day) {
+        return day >= 1 && day <= Birthday.DAYS_IN_LEAP_YEAR;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        // unspecified birthdays are DAYS_IN_LEAP_YEAR days away, beyond any range
+        int daysToEnd = (toDay - fromDay + Birthday.DAYS_IN_LEAP_YEAR) % Birthday.DAYS_IN_LEAP_YEAR;
+        return person.getBirthday().getDaysFrom(fromDay) <= daysToEnd;
+    }
+
+    @Override
+    public BitSet lookUp(Realodex realodex) {
+        BirthdayIndex index = realodex.getBirthdayIndex();
+        if (fromDay <= toDay) {
+            return index.getDays(fromDay, toDay);
+        }
+        BitSet slots = index.getDays(fromDay, Birthday.DAYS_IN_LEAP_YEAR);
+        slots.or(index.getDays(1, toDay));
+        return slots;
+    }
+
+    @Override
+    public int estimateMatches(Realodex realodex) {
+        BirthdayIndex index = realodex.getBirthdayIndex();
+        if (fromDay <= toDay) {
+            return index.countDays(fromDay, toDay);
+        }
+        return index.countDays(fromDay, Birthday.DAYS_IN_LEAP_YEAR) + index.countDays(1, toDay);
+    }
+
+    @Override
+    public int getTestCost() {
+        // works out the day of the birthday
+        return 2;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BirthdayInDayRangePredicate)) {
+            return false;
+        }
+
+        BirthdayInDayRangePredicate otherPredicate = (BirthdayInDayRangePredicate) other;
+        return fromDay == otherPredicate.fromDay && toDay == otherPredicate.toDay;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * fromDay + toDay;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("fromDay", fromDay).add("toDay", toDay).toString();
+    }
+}
@@ -1,21 +1,23 @@
 package seedu.realodex.model.person.predicates;
 
 import java.text.SimpleDateFormat;
+import java.util.BitSet;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.Optional;
-import java.util.function.Predicate;
 
 import seedu.realodex.commons.util.ToStringBuilder;
+import seedu.realodex.model.Realodex;
 import seedu.realodex.model.person.Birthday;
 import seedu.realodex.model.person.Person;
 
 /**
  * Tests that a {@code Person}'s {@code Birthday} is in the Month given.
  */
-public class BirthdayIsInMonthPredicate implements Predicate<Person> {
+public class BirthdayIsInMonthPredicate implements IndexedPredicate {
     private final SimpleDateFormat monthFormat = new SimpleDateFormat(Birthday.INPUT_MONTH_PATTERN);
     private final Optional<Calendar> month;
+    private final int monthValue;
 
     /**
      * Creates object {@code BirthdayIsInMonthPredicate}
@@ -34,17 +36,28 @@ public class BirthdayIsInMonthPredicate implements Predicate<Person> {
             tempMonth = Optional.empty();
         }
         this.month = tempMonth;
+        this.monthValue = tempMonth.map(m -> m.get(Calendar.MONTH)).orElse(-1);
     }
 
     @Override
     public boolean test(Person person) {
-        return person.getBirthday().getOptionalBirthday()
-                .map(birthday -> {
-                    Calendar personCalendar = Calendar.getInstance();
-                    personCalendar.setTime(birthday);
-                    return personCalendar.get(Calendar.MONTH) == month.map(m -> m.get(Calendar.MONTH)).orElse(-1);
-                })
-                .orElse(false);
+        return person.getBirthday().isInMonth(monthValue);
+    }
+
+    @Override
+    public BitSet lookUp(Realodex realodex) {
+        return month.map(m -> realodex.getBirthdayIndex().getMonth(m.get(Calendar.MONTH)))
+                .orElseGet(BitSet::new);
+    }
+
+    @Override
+    public int estimateMatches(Realodex realodex) {
+        return month.map(m -> realodex.getBirthdayIndex().countMonth(m.get(Calendar.MONTH))).orElse(0);
+    }
+
+    @Override
+    public int getTestCost() {
+        return 1;
     }
 
 
@@ -63,6 +76,11 @@ public class BirthdayIsInMonthPredicate implements Predicate<Person> {
         return month.equals(otherBirthdayIsInMonthPredicate.month);
     }
 
+    @Override
+    public int hashCode() {
+        return monthValue;
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
@@ -0,0 +1,132 @@
+package seedu.realodex.model.person.predicates;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.realodex.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.realodex.commons.util.ToStringBuilder;
+import seedu.realodex.model.Realodex;
+import seedu.realodex.model.person.Person;
+
+/**
+ * Tests that a {@code Person} satisfies every one of several {@code IndexedPredicate}s.
+ * Matches are looked up by planning the query: the predicate expected to match the fewest persons drives the lookup
+ * through its index, and only the persons it returns are tested against the remaining predicates, cheapest first.
+ */
+public class ConjunctionPredicate implements IndexedPredicate {
+    private final List<IndexedPredicate> predicates;
+
+    /**
+     * Constructs a {@code ConjunctionPredicate} of the given predicates, which must not be empty.
+     */
+    public ConjunctionPredicate(List<IndexedPredicate> predicates) {
+        requireNonNull(predicates);
+        checkArgument(!predicates.isEmpty(), "A conjunction needs at least one predicate.");
+        this.predicates = List.copyOf(predicates);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        for (int i = 0; i < predicates.size(); i++) {
+            if (!predicates.get(i).test(person)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the predicates in the order they are evaluated on {@code realodex}: the predicate with the fewest
+     * estimated matches first, followed by the others in increasing order of test cost.
+     */
+    public List<IndexedPredicate> plan(Realodex realodex) {
+        requireNonNull(realodex);
+        IndexedPredicate driver = predicates.get(0);
+        int driverEstimate = driver.estimateMatches(realodex);
+        for (IndexedPredicate predicate : predicates.subList(1, predicates.size())) {
+            int estimate = predicate.estimateMatches(realodex);
+            if (estimate < driverEstimate) {
+                driver = predicate;
+                driverEstimate = estimate;
+            }
+        }
+
+        List<IndexedPredicate> plan = new ArrayList<>(predicates);
+        plan.remove(driver);
+        plan.sort(Comparator.comparingInt(IndexedPredicate::getTestCost));
+        plan.add(0, driver);
+        return plan;
+    }
+
+    @Override
+    public BitSet lookUp(Realodex realodex) {
+        List<IndexedPredicate> plan = plan(realodex);
+        BitSet slots = plan.get(0).lookUp(realodex);
+        List<IndexedPredicate> filters = plan.subList(1, plan.size());
+        if (filters.isEmpty()) {
+            return slots;
+        }
+        for (int slot = slots.nextSetBit(0); slot >= 0; slot = slots.nextSetBit(slot + 1)) {
+            Person person = realodex.getPersonInSlot(slot);
+            for (IndexedPredicate filter : filters) {
+                if (!filter.test(person)) {
+                    slots.clear(slot);
+                    break;
+                }
+            }
+        }
+        return slots;
+    }
+
+    @Override
+    public int estimateMatches(Realodex realodex) {
+        return predicates.stream().mapToInt(predicate -> predicate.estimateMatches(realodex)).min().getAsInt();
+    }
+
+    @Override
+    public int getTestCost() {
+        return predicates.stream().mapToInt(IndexedPredicate::getTestCost).sum();
+    }
+
+    /**
+     * Returns true if every component of {@code other}, or {@code other} itself if it is not a conjunction,
+     * is implied by some component of this conjunction.
+     */
+    @Override
+    public boolean implies(Predicate<? super Person> other) {
+        if (other instanceof ConjunctionPredicate) {
+            return ((ConjunctionPredicate) other).predicates.stream().allMatch(this::implies);
+        }
+        return predicates.stream().anyMatch(predicate -> predicate.implies(other));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ConjunctionPredicate)) {
+            return false;
+        }
+
+        ConjunctionPredicate otherConjunctionPredicate = (ConjunctionPredicate) other;
+        return predicates.equals(otherConjunctionPredicate.predicates);
+    }
+
+    @Override
+    public int hashCode() {
+        return predicates.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("predicates", predicates).toString();
+    }
+}
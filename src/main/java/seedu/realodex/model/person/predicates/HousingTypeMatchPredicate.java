@@ -1,8 +1,9 @@
 package seedu.realodex.model.person.predicates;
 
-import java.util.function.Predicate;
+import java.util.BitSet;
 
 import seedu.realodex.commons.util.ToStringBuilder;
+import seedu.realodex.model.Realodex;
 import seedu.realodex.model.person.HousingType;
 import seedu.realodex.model.person.Person;
 
@@ -10,7 +11,7 @@ import seedu.realodex.model.person.Person;
 /**
  * Tests that a {@code Person}'s preferred HousingType equals the specified HousingType.
  */
-public class HousingTypeMatchPredicate implements Predicate<Person> {
+public class HousingTypeMatchPredicate implements IndexedPredicate {
     private final HousingType housingType;
 
     public HousingTypeMatchPredicate(HousingType housingType) {
@@ -23,6 +24,21 @@ public class HousingTypeMatchPredicate implements Predicate<Person> {
         return personHousingType.equals(housingType);
     }
 
+    @Override
+    public BitSet lookUp(Realodex realodex) {
+        return realodex.getHousingTypeIndex().get(housingType.getHouse());
+    }
+
+    @Override
+    public int estimateMatches(Realodex realodex) {
+        return realodex.getHousingTypeIndex().count(housingType.getHouse());
+    }
+
+    @Override
+    public int getTestCost() {
+        return 1;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -38,6 +54,11 @@ public class HousingTypeMatchPredicate implements Predicate<Person> {
         return housingType.equals(otherHousingTypeMatchPredicate.housingType);
     }
 
+    @Override
+    public int hashCode() {
+        return housingType.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("Housing Type", housingType).toString();
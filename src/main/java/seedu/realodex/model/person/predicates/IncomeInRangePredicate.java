@@ -0,0 +1,75 @@
+package seedu.realodex.model.person.predicates;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.function.Predicate;
+
+import seedu.realodex.commons.util.ToStringBuilder;
+import seedu.realodex.model.Realodex;
+import seedu.realodex.model.person.Person;
+
+/**
+ * Tests that a {@code Person}'s income is within the specified range.
+ */
+public class IncomeInRangePredicate implements IndexedPredicate {
+    private final NumericRange range;
+
+    public IncomeInRangePredicate(NumericRange range) {
+        requireNonNull(range);
+        this.range = range;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return range.contains(person.getIncome().getValue());
+    }
+
+    @Override
+    public BitSet lookUp(Realodex realodex) {
+        return realodex.getIncomeIndex().getRange(range.getMin(), range.getMax());
+    }
+
+    @Override
+    public int estimateMatches(Realodex realodex) {
+        return realodex.getIncomeIndex().countRange(range.getMin(), range.getMax());
+    }
+
+    @Override
+    public int getTestCost() {
+        return 1;
+    }
+
+    /**
+     * Returns true if {@code other} also tests the same field and its range contains this range.
+     */
+    @Override
+    public boolean implies(Predicate<? super Person> other) {
+        return other instanceof IncomeInRangePredicate && range.isWithin(((IncomeInRangePredicate) other).range);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof IncomeInRangePredicate)) {
+            return false;
+        }
+
+        IncomeInRangePredicate otherPredicate = (IncomeInRangePredicate) other;
+        return range.equals(otherPredicate.range);
+    }
+
+    @Override
+    public int hashCode() {
+        return range.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("range", range).toString();
+    }
+}
@@ -0,0 +1,42 @@
+package seedu.realodex.model.person.predicates;
+
+import java.util.BitSet;
+import java.util.function.Predicate;
+
+import seedu.realodex.model.Realodex;
+import seedu.realodex.model.person.Person;
+
+/**
+ * A {@code Predicate<Person>} whose matches can be looked up in the indexes kept by a {@code Realodex}
+ * instead of testing every person.
+ */
+public interface IndexedPredicate extends Predicate<Person> {
+
+    /**
+     * Returns the slots of the persons in {@code realodex} that satisfy this predicate.
+     *
+     * @see seedu.realodex.model.index.PersonIndex
+     */
+    BitSet lookUp(Realodex realodex);
+
+    /**
+     * Returns an estimate, from index statistics, of the number of persons in {@code realodex} that satisfy this
+     * predicate. It never underestimates and is cheaper to compute than {@link #lookUp(Realodex)}.
+     */
+    int estimateMatches(Realodex realodex);
+
+    /**
+     * Returns the relative cost of testing one person with this predicate.
+     * Comparing a single enum or number costs 1.
+     */
+    int getTestCost();
+
+    /**
+     * Returns true if every person that satisfies this predicate also satisfies {@code other}, so that the persons
+     * matching this predicate can be found among those matching {@code other}.
+     * Returning false is always safe; by default only equal predicates are recognised.
+     */
+    default boolean implies(Predicate<? super Person> other) {
+        return equals(other);
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.realodex.model.person.predicates;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+
+import seedu.realodex.commons.util.StringUtil;
+
+/**
+ * Finds a keyphrase in texts, ignoring case, without allocating.
+ * The lower-cased keyphrase and its Boyer-Moore-Horspool shift table are computed once when the matcher is created,
+ * so each search only reads the text.
+ */
+class KeyphraseMatcher {
+
+    private static final int SHIFT_TABLE_SIZE = 256;
+
+    private final char[] needle;
+    // how far the needle may slide when the text character under its last character falls in bucket c & 0xFF;
+    // characters sharing a bucket take the smallest of their shifts, which never skips over a match
+    private final int[] shifts = new int[SHIFT_TABLE_SIZE];
+
+    KeyphraseMatcher(String keyphrase) {
+        requireNonNull(keyphrase);
+        needle = StringUtil.toLowerCaseByChar(keyphrase).toCharArray();
+        Arrays.fill(shifts, Math.max(needle.length, 1));
+        for (int i = 0; i < needle.length - 1; i++) {
+            shifts[needle[i] & (SHIFT_TABLE_SIZE - 1)] = needle.length - 1 - i;
+        }
+    }
+
+    /**
+     * Returns true if {@code text} contains the keyphrase, comparing characters by their lower case as in
+     * {@link StringUtil#toLowerCaseByChar(String)}.
+     */
+    boolean isFoundIn(String text) {
+        int last = needle.length - 1;
+        for (int start = 0; start + last < text.length(); ) {
+            int i = last;
+            while (i >= 0 && Character.toLowerCase(text.charAt(start + i)) == needle[i]) {
+                i--;
+            }
+            if (i < 0) {
+                return true;
+            }
+            start += shifts[Character.toLowerCase(text.charAt(start + last)) & (SHIFT_TABLE_SIZE - 1)];
+        }
+        return needle.length == 0;
+    }
+}
@@ -1,25 +1,56 @@
 package seedu.realodex.model.person.predicates;
 
+import java.util.BitSet;
 import java.util.function.Predicate;
 
 import seedu.realodex.commons.util.ToStringBuilder;
+import seedu.realodex.model.Realodex;
 import seedu.realodex.model.person.Person;
 
 /**
  * Tests that a {@code Person}'s {@code Name} contains the keyphrase given.
  */
-public class NameContainsKeyphrasePredicate implements Predicate<Person> {
+public class NameContainsKeyphrasePredicate implements IndexedPredicate {
     private final String keyphrase;
+    private final KeyphraseMatcher matcher;
 
+    /**
+     * Creates a {@code NameContainsKeyphrasePredicate} that matches {@code keyphrase}, ignoring case.
+     */
     public NameContainsKeyphrasePredicate(String keyphrase) {
         this.keyphrase = keyphrase;
+        this.matcher = new KeyphraseMatcher(keyphrase);
     }
 
     @Override
     public boolean test(Person person) {
-        String nameInLowerCase = person.getName().fullName.toLowerCase();
-        String keyphraseInLowerCase = keyphrase.toLowerCase();
-        return nameInLowerCase.contains(keyphraseInLowerCase);
+        return matcher.isFoundIn(person.getName().fullName);
+    }
+
+    @Override
+    public BitSet lookUp(Realodex realodex) {
+        return realodex.getNameTrigramIndex().search(keyphrase);
+    }
+
+    @Override
+    public int estimateMatches(Realodex realodex) {
+        return realodex.getNameTrigramIndex().estimateCount(keyphrase);
+    }
+
+    @Override
+    public int getTestCost() {
+        // searches the text for the keyphrase
+        return 3;
+    }
+
+    /**
+     * Returns true if {@code other} also looks for a keyphrase in the same field and this keyphrase contains it,
+     * ignoring case.
+     */
+    @Override
+    public boolean implies(Predicate<? super Person> other) {
+        return other instanceof NameContainsKeyphrasePredicate
+                && ((NameContainsKeyphrasePredicate) other).matcher.isFoundIn(keyphrase);
     }
 
     @Override
@@ -37,6 +68,11 @@ public class NameContainsKeyphrasePredicate implements Predicate<Person> {
         return keyphrase.equals(otherNameContainsKeyphrasePredicate.keyphrase);
     }
 
+    @Override
+    public int hashCode() {
+        return keyphrase.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("keyphrase", keyphrase).toString();
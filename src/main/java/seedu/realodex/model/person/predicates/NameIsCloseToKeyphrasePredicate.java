@@ -0,0 +1,85 @@
+package seedu.realodex.model.person.predicates;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+
+import seedu.realodex.commons.util.StringUtil;
+import seedu.realodex.commons.util.ToStringBuilder;
+import seedu.realodex.model.Realodex;
+import seedu.realodex.model.person.Person;
+
+/**
+ * Tests that a {@code Person}'s {@code Name} is within a few edits of the keyphrase given, ignoring case, so that
+ * misspelled names still find the client. One edit is allowed for every four characters of the keyphrase,
+ * plus one.
+ */
+public class NameIsCloseToKeyphrasePredicate implements IndexedPredicate {
+    private static final int CHARACTERS_PER_EDIT = 4;
+
+    private final String keyphrase;
+    private final String keyphraseInLowerCase;
+    private final int maxDistance;
+
+    /**
+     * Creates a {@code NameIsCloseToKeyphrasePredicate} that matches names close to {@code keyphrase}.
+     */
+    public NameIsCloseToKeyphrasePredicate(String keyphrase) {
+        requireNonNull(keyphrase);
+        this.keyphrase = keyphrase;
+        this.keyphraseInLowerCase = StringUtil.toLowerCaseByChar(keyphrase);
+        this.maxDistance = keyphrase.length() / CHARACTERS_PER_EDIT + 1;
+    }
+
+    public int getMaxDistance() {
+        return maxDistance;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        String nameInLowerCase = StringUtil.toLowerCaseByChar(person.getName().fullName);
+        return StringUtil.editDistance(nameInLowerCase, keyphraseInLowerCase, maxDistance) <= maxDistance;
+    }
+
+    @Override
+    public BitSet lookUp(Realodex realodex) {
+        return realodex.getNameBkTreeIndex().search(keyphrase, maxDistance);
+    }
+
+    @Override
+    public int estimateMatches(Realodex realodex) {
+        // the BK-tree keeps no statistics, so every person may match
+        return realodex.getPersonList().size();
+    }
+
+    @Override
+    public int getTestCost() {
+        // computes the edit distance between the name and the keyphrase
+        return 8;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NameIsCloseToKeyphrasePredicate)) {
+            return false;
+        }
+
+        NameIsCloseToKeyphrasePredicate otherNameIsCloseToKeyphrasePredicate = (NameIsCloseToKeyphrasePredicate) other;
+        return keyphrase.equals(otherNameIsCloseToKeyphrasePredicate.keyphrase);
+    }
+
+    @Override
+    public int hashCode() {
+        return keyphrase.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keyphrase", keyphrase).toString();
+    }
+}
@@ -0,0 +1,106 @@
+package seedu.realodex.model.person.predicates;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.realodex.commons.util.StringUtil;
+import seedu.realodex.commons.util.ToStringBuilder;
+import seedu.realodex.model.Realodex;
+import seedu.realodex.model.person.Person;
+
+/**
+ * Tests that every word of the keyphrase given sounds like some word of a {@code Person}'s {@code Name}, comparing
+ * the words by their Soundex codes. This finds names typed the way they are heard, e.g. "Jon Smyth" finds
+ * "John Smith".
+ */
+public class NameSoundsLikeKeyphrasePredicate implements IndexedPredicate {
+    private final String keyphrase;
+    private final Set<String> codes;
+    // the codes again, so that testing a person does not create an iterator
+    private final String[] codeArray;
+
+    /**
+     * Creates a {@code NameSoundsLikeKeyphrasePredicate} that matches names sounding like {@code keyphrase}.
+     */
+    public NameSoundsLikeKeyphrasePredicate(String keyphrase) {
+        requireNonNull(keyphrase);
+        this.keyphrase = keyphrase;
+        this.codes = StringUtil.soundexCodesOf(keyphrase);
+        this.codeArray = codes.toArray(new String[0]);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The name's Soundex codes are encoded once per name, when it is indexed, so testing only looks them up.
+     */
+    @Override
+    public boolean test(Person person) {
+        if (codeArray.length == 0) {
+            return false;
+        }
+        Set<String> nameCodes = person.getName().getSoundexCodes();
+        for (String code : codeArray) {
+            if (!nameCodes.contains(code)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public BitSet lookUp(Realodex realodex) {
+        return realodex.getNamePhoneticIndex().search(keyphrase);
+    }
+
+    @Override
+    public int estimateMatches(Realodex realodex) {
+        return realodex.getNamePhoneticIndex().estimateCount(keyphrase);
+    }
+
+    @Override
+    public int getTestCost() {
+        // looks up each code of the keyphrase among the name's cached codes
+        return 2;
+    }
+
+    /**
+     * Returns true if this predicate requires the sound of every word that {@code other} requires, as every name
+     * matching this predicate then matches {@code other}.
+     */
+    @Override
+    public boolean implies(Predicate<? super Person> other) {
+        if (!(other instanceof NameSoundsLikeKeyphrasePredicate)) {
+            return false;
+        }
+        Set<String> otherCodes = ((NameSoundsLikeKeyphrasePredicate) other).codes;
+        return !otherCodes.isEmpty() && codes.containsAll(otherCodes);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NameSoundsLikeKeyphrasePredicate)) {
+            return false;
+        }
+
+        NameSoundsLikeKeyphrasePredicate otherPredicate = (NameSoundsLikeKeyphrasePredicate) other;
+        return keyphrase.equals(otherPredicate.keyphrase);
+    }
+
+    @Override
+    public int hashCode() {
+        return keyphrase.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keyphrase", keyphrase).toString();
+    }
+}
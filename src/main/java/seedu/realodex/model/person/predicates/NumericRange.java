@@ -0,0 +1,84 @@
+package seedu.realodex.model.person.predicates;
+
+import seedu.realodex.commons.util.ToStringBuilder;
+
+/**
+ * Represents an inclusive range of non-negative numbers used to filter numeric fields.
+ * Guarantees: immutable.
+ */
+public class NumericRange {
+
+    public static final String MESSAGE_CONSTRAINTS = "Ranges should be given as >=N, <=N, >N, <N, N..M or N, "
+            + "where N and M are non-negative integers";
+    public static final NumericRange ALL = new NumericRange(0, Long.MAX_VALUE);
+
+    private final long min;
+    private final long max;
+
+    /**
+     * Constructs a {@code NumericRange} of the numbers from {@code min} to {@code max} inclusive.
+     * The range is empty if {@code min} is greater than {@code max}.
+     */
+    public NumericRange(long min, long max) {
+        this.min = min;
+        this.max = max;
+    }
+
+    public long getMin() {
+        return min;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Returns the range of numbers in both this range and {@code other}.
+     */
+    public NumericRange intersect(NumericRange other) {
+        return new NumericRange(Math.max(min, other.min), Math.min(max, other.max));
+    }
+
+    /**
+     * Returns true if {@code value} is in this range.
+     */
+    public boolean contains(long value) {
+        return value >= min && value <= max;
+    }
+
+    /**
+     * Returns true if every number in this range is also in {@code other}.
+     */
+    public boolean isWithin(NumericRange other) {
+        return isEmpty() || (min >= other.min && max <= other.max);
+    }
+
+    public boolean isEmpty() {
+        return min > max;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NumericRange)) {
+            return false;
+        }
+
+        NumericRange otherRange = (NumericRange) other;
+        return min == otherRange.min && max == otherRange.max;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(min) * 31 + Long.hashCode(max);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("min", min).add("max", max).toString();
+    }
+}
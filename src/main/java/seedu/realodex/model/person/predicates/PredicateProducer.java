@@ -2,8 +2,12 @@ package seedu.realodex.model.person.predicates;
 
 import static seedu.realodex.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.realodex.logic.parser.CliSyntax.PREFIX_BIRTHDAY;
+import static seedu.realodex.logic.parser.CliSyntax.PREFIX_FAMILY;
+import static seedu.realodex.logic.parser.CliSyntax.PREFIX_FUZZY_NAME;
 import static seedu.realodex.logic.parser.CliSyntax.PREFIX_HOUSINGTYPE;
+import static seedu.realodex.logic.parser.CliSyntax.PREFIX_INCOME;
 import static seedu.realodex.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.realodex.logic.parser.CliSyntax.PREFIX_PHONETIC_NAME;
 import static seedu.realodex.logic.parser.CliSyntax.PREFIX_REMARK;
 import static seedu.realodex.logic.parser.CliSyntax.PREFIX_TAG;
 
@@ -12,22 +16,22 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
-import java.util.function.Predicate;
 
 import seedu.realodex.logic.commands.FilterCommand;
 import seedu.realodex.logic.parser.ParserUtil;
 import seedu.realodex.logic.parser.Prefix;
 import seedu.realodex.logic.parser.exceptions.ParseException;
 import seedu.realodex.model.person.HousingType;
-import seedu.realodex.model.person.Person;
 import seedu.realodex.model.person.Tag;
 
 /**
  * A factory class to produce different types of {@code Predicate<Person>} based on a given prefix and keyphrase.
  * This class encapsulates the mapping between specific prefixes and the predicates they correspond to.
+ * The predicates produced work out everything that does not depend on the person tested, such as lower-cased
+ * keyphrases and month numbers, when they are created, so testing a person allocates no memory.
  */
 public class PredicateProducer {
-    private Map<Prefix, Function<List<String>, Predicate<Person>>> predicateMap;
+    private Map<Prefix, Function<List<String>, IndexedPredicate>> predicateMap;
 
     /**
      * Constructs a new {@code PredicateProducer} and
@@ -45,12 +49,18 @@ public class PredicateProducer {
     private void initialize() {
         predicateMap.put(PREFIX_NAME, keyphrases ->
                 new NameContainsKeyphrasePredicate(keyphrases.get(keyphrases.size() - 1)));
+        predicateMap.put(PREFIX_FUZZY_NAME, keyphrases ->
+                new NameIsCloseToKeyphrasePredicate(keyphrases.get(keyphrases.size() - 1)));
+        predicateMap.put(PREFIX_PHONETIC_NAME, keyphrases ->
+                new NameSoundsLikeKeyphrasePredicate(keyphrases.get(keyphrases.size() - 1)));
         predicateMap.put(PREFIX_REMARK, keyphrases ->
                 new RemarkContainsKeyphrasePredicate(keyphrases.get(keyphrases.size() - 1)));
         predicateMap.put(PREFIX_TAG, this::createMatchTagsPredicate);
         predicateMap.put(PREFIX_BIRTHDAY, keyphrases ->
                 new BirthdayIsInMonthPredicate(keyphrases.get(keyphrases.size() - 1)));
         predicateMap.put(PREFIX_HOUSINGTYPE, this::createHousingTypeMatchPredicate);
+        predicateMap.put(PREFIX_INCOME, this::createIncomeInRangePredicate);
+        predicateMap.put(PREFIX_FAMILY, this::createFamilyInRangePredicate);
     }
 
     /**
@@ -61,15 +71,15 @@ public class PredicateProducer {
      * @param prefix The {@code Prefix} that specifies the type of predicate to create.
      * @param keyphrases The list of keyphrases to be used in the predicate for testing {@code Person} objects.
      *                   For PREFIX_TAG, all keyphrases in the list are considered in creating the predicate.
-     * @return A {@code Predicate<Person>} that tests if a {@code Person} object meets the specified criteria.
+     * @return An {@code IndexedPredicate} that tests if a {@code Person} object meets the specified criteria.
      * @throws ParseException if the list of keyphrases is null, empty, contains empty strings, or an unhandled prefix.
      */
-    public Predicate<Person> createPredicate(Prefix prefix, List<String> keyphrases) throws ParseException {
+    public IndexedPredicate createPredicate(Prefix prefix, List<String> keyphrases) throws ParseException {
         if (keyphrases == null || keyphrases.isEmpty() || keyphrases.stream().anyMatch(String::isEmpty)) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
         }
 
-        Function<List<String>, Predicate<Person>> predicateCreator = predicateMap.get(prefix);
+        Function<List<String>, IndexedPredicate> predicateCreator = predicateMap.get(prefix);
         assert(predicateCreator != null);
         return predicateCreator.apply(keyphrases);
     }
@@ -81,11 +91,11 @@ public class PredicateProducer {
      *
      * @param tagStrings The string from which tag(s) are created. These tag(s) are then used
      *               in the predicate to check against a person's tags.
-     * @return A {@code Predicate<Person>} that tests whether a person's tags include
+     * @return An {@code IndexedPredicate} that tests whether a person's tags include
      *         the tag(s) created from the provided string. The predicate returns {@code true}
      *         if the person's tags contain the specified tag(s), and {@code false} otherwise.
      */
-    public Predicate<Person> createMatchTagsPredicate(List<String> tagStrings) {
+    public IndexedPredicate createMatchTagsPredicate(List<String> tagStrings) {
         try {
             Set<Tag> tagSet = ParserUtil.parseTags(tagStrings);
             return new TagsMatchPredicate(tagSet);
@@ -101,11 +111,11 @@ public class PredicateProducer {
      *
      * @param strings The string from which HousingType is represented. This HousingType is then used
      *               in the predicate to check against a person's preferred HousingType.
-     * @return A {@code Predicate<Person>} that tests whether a person's preferred HousingType equals
+     * @return An {@code IndexedPredicate} that tests whether a person's preferred HousingType equals
      *         the HousingType represented by the provided string. The predicate returns {@code true}
      *         if the person's preferred HousingType equals the specified HousingType, and {@code false} otherwise.
      */
-    public Predicate<Person> createHousingTypeMatchPredicate(List<String> strings) {
+    public IndexedPredicate createHousingTypeMatchPredicate(List<String> strings) {
         try {
             String housingTypeString = strings.get(strings.size() - 1);
             HousingType housingType = ParserUtil.parseHousingType(housingTypeString);
@@ -115,4 +125,34 @@ public class PredicateProducer {
         }
     }
 
+    /**
+     * Creates a predicate to evaluate if a {@code Person}'s income is within the range given by the bounds.
+     *
+     * @param bounds The bounds of the range, such as ">=5000" and "<=12000".
+     * @return An {@code IndexedPredicate} that tests whether a person's income satisfies every bound,
+     *         or {@code null} if any bound is invalid.
+     */
+    public IndexedPredicate createIncomeInRangePredicate(List<String> bounds) {
+        try {
+            return new IncomeInRangePredicate(ParserUtil.parseRange(bounds));
+        } catch (ParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Creates a predicate to evaluate if a {@code Person}'s family size is within the range given by the bounds.
+     *
+     * @param bounds The bounds of the range, such as "3..5".
+     * @return An {@code IndexedPredicate} that tests whether a person's family size satisfies every bound,
+     *         or {@code null} if any bound is invalid.
+     */
+    public IndexedPredicate createFamilyInRangePredicate(List<String> bounds) {
+        try {
+            return new FamilyInRangePredicate(ParserUtil.parseRange(bounds));
+        } catch (ParseException e) {
+            return null;
+        }
+    }
+
 }
@@ -1,27 +1,67 @@
 package seedu.realodex.model.person.predicates;
 
+import java.util.BitSet;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import seedu.realodex.commons.util.ToStringBuilder;
+import seedu.realodex.model.Realodex;
 import seedu.realodex.model.person.Person;
 import seedu.realodex.model.person.Tag;
+import seedu.realodex.model.person.Tag.Role;
 
 
 /**
  * Tests that a {@code Person}'s {@code Tag} contains the Tag(s) given.
  */
-public class TagsMatchPredicate implements Predicate<Person> {
+public class TagsMatchPredicate implements IndexedPredicate {
     private final Set<Tag> tagSet;
+    private final Tag[] tags;
 
+    /**
+     * Creates a {@code TagsMatchPredicate} that matches persons having every tag in {@code tagSet}.
+     */
     public TagsMatchPredicate(Set<Tag> tagSet) {
         this.tagSet = tagSet;
+        this.tags = tagSet.toArray(new Tag[0]);
     }
 
     @Override
     public boolean test(Person person) {
-        Set<Tag> personTags = person.getTags();
-        return personTags.containsAll(tagSet);
+        for (Tag tag : tags) {
+            if (!person.hasTag(tag)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public BitSet lookUp(Realodex realodex) {
+        return realodex.getTagIndex().getAll(getRoles());
+    }
+
+    @Override
+    public int estimateMatches(Realodex realodex) {
+        return realodex.getTagIndex().estimateCountAll(getRoles());
+    }
+
+    @Override
+    public int getTestCost() {
+        return 2;
+    }
+
+    private Set<Role> getRoles() {
+        return tagSet.stream().map(tag -> tag.tagName).collect(Collectors.toSet());
+    }
+
+    /**
+     * Returns true if {@code other} also matches tags and this predicate requires all of its tags.
+     */
+    @Override
+    public boolean implies(Predicate<? super Person> other) {
+        return other instanceof TagsMatchPredicate && tagSet.containsAll(((TagsMatchPredicate) other).tagSet);
     }
 
     @Override
@@ -39,6 +79,11 @@ public class TagsMatchPredicate implements Predicate<Person> {
         return tagSet.equals(otherTagsMatchPredicate.tagSet);
     }
 
+    @Override
+    public int hashCode() {
+        return tagSet.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("Tag Set", tagSet).toString();
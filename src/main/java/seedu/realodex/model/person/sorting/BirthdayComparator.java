@@ -2,16 +2,29 @@ package seedu.realodex.model.person.sorting;
 
 import java.util.Comparator;
 
+import seedu.realodex.model.person.Birthday;
 import seedu.realodex.model.person.Person;
 
 /**
  * Comparator for sorting persons based on their birthdays.
+ * The day to count from is fixed when the comparator is created, so that every comparison in a sort agrees.
+ * To sort many persons, {@link BirthdaySorter} avoids working out the keys on every comparison.
  */
 public class BirthdayComparator implements Comparator<Person> {
 
+    private final int fromDay;
+
+    /**
+     * Creates a {@code BirthdayComparator} that counts the days until each birthday from {@code fromDay},
+     * counted within a leap year as in {@link Birthday#getDayOfLeapYear()}.
+     */
+    public BirthdayComparator(int fromDay) {
+        this.fromDay = fromDay;
+    }
+
     /**
      * Compares two persons based on their birthdays.
-     * If one or both persons have unspecified birthdays, they are sorted accordingly.
+     * Persons with unspecified birthdays come after those with specified birthdays, and are equal to each other.
      * If both persons have specified birthdays, they are sorted based on the number of days until their next birthday.
      *
      * @param o1 the first person to be compared
@@ -21,12 +34,6 @@ public class BirthdayComparator implements Comparator<Person> {
      */
     @Override
     public int compare(Person o1, Person o2) {
-        if (o1.getBirthday().toString().isBlank()) {
-            return 1; // o1 has an unspecified birthday, so it comes after o2
-        }
-        if (o2.getBirthday().toString().isBlank()) {
-            return -1; // o2 has an unspecified birthday, so it comes before o1
-        }
-        return o1.getBirthday().getDaysUntilBirthday().compareTo(o2.getBirthday().getDaysUntilBirthday());
+        return Integer.compare(o1.getBirthday().getDaysFrom(fromDay), o2.getBirthday().getDaysFrom(fromDay));
     }
 }
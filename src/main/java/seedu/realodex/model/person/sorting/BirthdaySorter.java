@@ -0,0 +1,45 @@
+package seedu.realodex.model.person.sorting;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import seedu.realodex.model.person.Birthday;
+import seedu.realodex.model.person.Person;
+
+/**
+ * Sorts persons by the number of days until their next birthday.
+ * Each person's sort key is worked out once and packed with the person's position into a {@code long}, so that
+ * the sort itself compares primitives instead of working out both birthdays on every comparison.
+ */
+public class BirthdaySorter {
+
+    private static final int POSITION_BITS = 32;
+    private static final long POSITION_MASK = (1L << POSITION_BITS) - 1;
+
+    private BirthdaySorter() {}
+
+    /**
+     * Returns a copy of {@code persons} sorted by the number of days from {@code fromDay} until their birthdays,
+     * with days counted within a leap year as in {@link Birthday#getDayOfLeapYear()}.
+     * Persons with unspecified birthdays come last, and persons with equal keys keep their relative order,
+     * so every list has exactly one sorted order.
+     */
+    public static List<Person> sortByDaysFrom(List<Person> persons, int fromDay) {
+        requireNonNull(persons);
+        long[] keyedPositions = new long[persons.size()];
+        for (int i = 0; i < keyedPositions.length; i++) {
+            long key = persons.get(i).getBirthday().getDaysFrom(fromDay);
+            keyedPositions[i] = key << POSITION_BITS | i;
+        }
+        Arrays.sort(keyedPositions);
+
+        List<Person> sortedPersons = new ArrayList<>(keyedPositions.length);
+        for (long keyedPosition : keyedPositions) {
+            sortedPersons.add(persons.get((int) (keyedPosition & POSITION_MASK)));
+        }
+        return sortedPersons;
+    }
+}
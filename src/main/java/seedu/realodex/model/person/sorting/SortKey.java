@@ -0,0 +1,97 @@
+package seedu.realodex.model.person.sorting;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import seedu.realodex.model.person.Birthday;
+import seedu.realodex.model.person.Person;
+
+/**
+ * Represents a field that persons can be sorted by.
+ */
+public enum SortKey {
+    NAME("name", "name"),
+    INCOME("income", "income"),
+    FAMILY("family", "family size"),
+    BIRTHDAY("birthday", "days to their birthday"),
+    HOUSING_TYPE("housing", "housing type");
+
+    // names are unique, so ordering by them last gives every list exactly one sorted order
+    private static final Comparator<Person> NAME_ORDER = Comparator.comparing(person -> person.getName().fullName);
+
+    private final String keyword;
+    private final String description;
+
+    SortKey(String keyword, String description) {
+        this.keyword = keyword;
+        this.description = description;
+    }
+
+    public String getKeyword() {
+        return keyword;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Returns the {@code SortKey} with the given keyword, ignoring case, or an empty {@code Optional} if none has it.
+     */
+    public static Optional<SortKey> fromKeyword(String keyword) {
+        requireNonNull(keyword);
+        for (SortKey sortKey : values()) {
+            if (sortKey.keyword.equalsIgnoreCase(keyword)) {
+                return Optional.of(sortKey);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns a comparator that orders persons by this key, from smallest to largest, counting the days until
+     * birthdays from {@code fromDay}, a day within a leap year as in {@link Birthday#getDayOfLeapYear()}.
+     * Persons with unspecified birthdays come after those with specified birthdays.
+     */
+    public Comparator<Person> getComparator(int fromDay) {
+        switch (this) {
+        case NAME:
+            return NAME_ORDER;
+        case INCOME:
+            return Comparator.comparingLong(person -> person.getIncome().getValue());
+        case FAMILY:
+            return Comparator.comparingInt(person -> person.getFamily().getValue());
+        case BIRTHDAY:
+            return new BirthdayComparator(fromDay);
+        case HOUSING_TYPE:
+            return Comparator.comparing(person -> person.getHousingType().getHouse());
+        default:
+            throw new AssertionError("Unknown sort key: " + this);
+        }
+    }
+
+    /**
+     * Returns a comparator that orders persons by each of {@code sortKeys} in turn, and then by name,
+     * so that no two different persons compare as equal. Days until birthdays are counted from {@code fromDay}.
+     */
+    public static Comparator<Person> comparing(List<SortKey> sortKeys, int fromDay) {
+        requireNonNull(sortKeys);
+        Comparator<Person> comparator = sortKeys.stream()
+                .map(sortKey -> sortKey.getComparator(fromDay))
+                .reduce(Comparator::thenComparing)
+                .orElse(NAME_ORDER);
+        return comparator.thenComparing(NAME_ORDER);
+    }
+
+    /**
+     * Returns the descriptions of {@code sortKeys}, in order, for display to the user.
+     */
+    public static String describe(List<SortKey> sortKeys) {
+        requireNonNull(sortKeys);
+        return sortKeys.stream().map(SortKey::getDescription).collect(Collectors.joining(", then by "));
+    }
+}
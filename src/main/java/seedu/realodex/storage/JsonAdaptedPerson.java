@@ -1,5 +1,6 @@
 package seedu.realodex.storage;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -11,6 +12,7 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.realodex.commons.exceptions.IllegalValueException;
+import seedu.realodex.commons.util.StringPool;
 import seedu.realodex.model.person.Address;
 import seedu.realodex.model.person.Birthday;
 import seedu.realodex.model.person.Email;
@@ -117,10 +119,12 @@ class JsonAdaptedPerson {
         if (income == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Income.class.getSimpleName()));
         }
-        if (!Income.isValidIncome(income)) {
+        // incomes too large to store were accepted by earlier versions
+        final String clampedIncome = Income.clampToValidRange(income);
+        if (!Income.isValidIncome(clampedIncome)) {
             throw new IllegalValueException(Income.MESSAGE_CONSTRAINTS);
         }
-        final Income modelIncome = new Income(income);
+        final Income modelIncome = new Income(clampedIncome);
 
         if (email == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Email.class.getSimpleName()));
@@ -128,7 +132,7 @@ class JsonAdaptedPerson {
         if (!Email.isValidEmail(email)) {
             throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
         }
-        final Email modelEmail = new Email(email);
+        final Email modelEmail = new Email(StringPool.getSharedPool().intern(email));
 
         if (address == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Address.class.getSimpleName()));
@@ -136,15 +140,17 @@ class JsonAdaptedPerson {
         if (!Address.isValidAddress(address)) {
             throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
         }
-        final Address modelAddress = new Address(address);
+        final Address modelAddress = new Address(StringPool.getSharedPool().intern(address));
 
         if (family == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Family.class.getSimpleName()));
         }
-        if (!Family.isValidFamily(family)) {
+        // family sizes too large to store were accepted by earlier versions
+        final String clampedFamily = Family.clampToValidRange(family);
+        if (!Family.isValidFamily(clampedFamily)) {
             throw new IllegalValueException(Family.MESSAGE_CONSTRAINTS);
         }
-        final Family modelFamily = new Family(family);
+        final Family modelFamily = new Family(clampedFamily);
 
         final Set<Tag> modelTags = new HashSet<>(personTags);
 
@@ -155,17 +161,18 @@ class JsonAdaptedPerson {
         if (!HousingType.isValidHousingType(housingType)) {
             throw new IllegalValueException(HousingType.MESSAGE_CONSTRAINTS);
         }
-        final HousingType modelHousingType = new HousingType(housingType);
+        final HousingType modelHousingType = HousingType.of(housingType);
 
-        final Remark modelRemark = new Remark(remark);
+        final Remark modelRemark = Remark.of(StringPool.getSharedPool().intern(remark));
         if (birthday == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                                                           Birthday.class.getSimpleName()));
         }
-        if (!Birthday.isValidBirthday(birthday)) {
+        // saved birthdays were checked against the day they were entered, so only their format is checked here
+        if (!Birthday.isValidBirthday(birthday, LocalDate.MAX)) {
             throw new IllegalValueException(Birthday.MESSAGE_CONSTRAINTS);
         }
-        final Birthday modelBirthday = new Birthday(birthday);
+        final Birthday modelBirthday = Birthday.of(birthday);
         return new Person(modelName, modelPhone, modelIncome, modelEmail, modelAddress, modelFamily,
                 modelTags, modelHousingType, modelRemark, modelBirthday);
     }
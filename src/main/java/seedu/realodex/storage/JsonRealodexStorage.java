@@ -12,6 +12,7 @@ import seedu.realodex.commons.exceptions.DataLoadingException;
 import seedu.realodex.commons.exceptions.IllegalValueException;
 import seedu.realodex.commons.util.FileUtil;
 import seedu.realodex.commons.util.JsonUtil;
+import seedu.realodex.commons.util.StringPool;
 import seedu.realodex.model.ReadOnlyRealodex;
 
 /**
@@ -52,7 +53,12 @@ public class JsonRealodexStorage implements RealodexStorage {
         }
 
         try {
-            return Optional.of(jsonRealodex.get().toModelType());
+            // the pool is shared with the rest of the app, so only the bytes saved during this load are reported
+            long bytesSavedBefore = StringPool.getSharedPool().getBytesSaved();
+            ReadOnlyRealodex realodex = jsonRealodex.get().toModelType();
+            long bytesSaved = StringPool.getSharedPool().getBytesSaved() - bytesSavedBefore;
+            logger.info("Shared addresses, emails and remarks in " + filePath + " save about " + bytesSaved + " bytes");
+            return Optional.of(realodex);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
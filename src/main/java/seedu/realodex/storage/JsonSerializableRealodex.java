@@ -12,6 +12,7 @@ import seedu.realodex.commons.exceptions.IllegalValueException;
 import seedu.realodex.model.ReadOnlyRealodex;
 import seedu.realodex.model.Realodex;
 import seedu.realodex.model.person.Person;
+import seedu.realodex.model.person.exceptions.DuplicatePersonException;
 
 /**
  * An Immutable Realodex that is serializable to JSON format.
@@ -46,13 +47,16 @@ class JsonSerializableRealodex {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public Realodex toModelType() throws IllegalValueException {
-        Realodex realodex = new Realodex();
+        List<Person> modelPersons = new ArrayList<>(persons.size());
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (realodex.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            realodex.addPerson(person);
+            modelPersons.add(jsonAdaptedPerson.toModelType());
+        }
+
+        Realodex realodex = new Realodex();
+        try {
+            realodex.addPersons(modelPersons);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
         }
         return realodex;
     }
@@ -9,6 +9,8 @@ import static seedu.realodex.logic.commands.FilterCommand.MESSAGE_FILTER_HELP;
 import static seedu.realodex.logic.commands.HelpCommand.MESSAGE_INDIVIDUAL_COMMANDS_HELP;
 import static seedu.realodex.logic.commands.ListCommand.MESSAGE_LIST_HELP;
 import static seedu.realodex.logic.commands.SortCommand.MESSAGE_SORT_HELP;
+import static seedu.realodex.logic.commands.StatsCommand.MESSAGE_STATS_HELP;
+import static seedu.realodex.logic.commands.UpcomingCommand.MESSAGE_UPCOMING_HELP;
 
 import java.util.logging.Logger;
 
@@ -52,6 +54,8 @@ public class HelpWindow extends UiPart<Stage> {
                 + MESSAGE_FILTER_HELP + "\n"
                 + MESSAGE_LIST_HELP + "\n"
                 + MESSAGE_SORT_HELP + "\n"
+                + MESSAGE_STATS_HELP + "\n"
+                + MESSAGE_UPCOMING_HELP + "\n"
                 + MESSAGE_EXIT_HELP + "\n"
                 + MESSAGE_INDIVIDUAL_COMMANDS_HELP + "\n"
                 + HELP_MESSAGE);
@@ -2,6 +2,9 @@ package seedu.realodex.ui;
 
 import java.util.logging.Logger;
 
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -10,6 +13,7 @@ import javafx.scene.input.KeyCombination;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
+import javafx.util.Duration;
 import seedu.realodex.commons.core.GuiSettings;
 import seedu.realodex.commons.core.LogsCenter;
 import seedu.realodex.logic.Logic;
@@ -24,6 +28,8 @@ import seedu.realodex.logic.parser.exceptions.ParseException;
 public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
+    // how often to check whether the day has changed, so that orders by upcoming birthday roll over at midnight
+    private static final Duration DAY_CHANGE_CHECK_INTERVAL = Duration.minutes(1);
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
@@ -66,6 +72,8 @@ public class MainWindow extends UiPart<Stage> {
         setAccelerators();
 
         helpWindow = new HelpWindow();
+
+        startDayChangeChecks();
     }
 
     public Stage getPrimaryStage() {
@@ -106,12 +114,24 @@ public class MainWindow extends UiPart<Stage> {
         });
     }
 
+    /**
+     * Periodically brings the client list up to date with today's date while the application is left open.
+     * Each check is cheap unless the day has changed.
+     */
+    private void startDayChangeChecks() {
+        Timeline dayChangeChecks = new Timeline(
+                new KeyFrame(DAY_CHANGE_CHECK_INTERVAL, event -> logic.refreshForToday()));
+        dayChangeChecks.setCycleCount(Animation.INDEFINITE);
+        dayChangeChecks.play();
+    }
+
     /**
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList());
+        personListPanel = new PersonListPanel(logic.getFilteredPersonList(), logic.getDayClock());
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
+        logic.getDayClock().addDayChangeListener(today -> personListPanel.refresh());
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
@@ -7,6 +7,7 @@ import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
+import seedu.realodex.model.DayClock;
 import seedu.realodex.model.person.Person;
 
 /**
@@ -54,9 +55,10 @@ public class PersonCard extends UiPart<Region> {
     private Label birthdayDays;
 
     /**
-     * Creates a {@code PersonCode} with the given {@code Person} and index to display.
+     * Creates a {@code PersonCode} with the given {@code Person} and index to display, counting the days until
+     * the birthday from today's date on {@code dayClock}.
      */
-    public PersonCard(Person person, int displayedIndex) {
+    public PersonCard(Person person, int displayedIndex, DayClock dayClock) {
         super(FXML);
         this.person = person;
         id.setText(displayedIndex + ". ");
@@ -72,6 +74,6 @@ public class PersonCard extends UiPart<Region> {
         housingType.setText(person.getHousingType().toStringWithRepresentation());
         remark.setText(person.getRemark().toStringWithRepresentation());
         birthday.setText(person.getBirthday().toStringWithRepresentation());
-        birthdayDays.setText(person.getBirthday().getDaysUntilBirthdayWithRepresentation());
+        birthdayDays.setText(person.getBirthday().getDaysUntilBirthdayWithRepresentation(dayClock));
     }
 }
@@ -0,0 +1,50 @@
+package seedu.realodex.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.realodex.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class FilterUtilTest {
+
+    private static final List<Integer> NUMBERS =
+            IntStream.range(0, 100_000).boxed().collect(Collectors.toList());
+    private static final Predicate<Integer> IS_MULTIPLE_OF_SEVEN = number -> number % 7 == 0;
+
+    @Test
+    public void filter_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> FilterUtil.filter(null, IS_MULTIPLE_OF_SEVEN, 1));
+        assertThrows(NullPointerException.class, () -> FilterUtil.filter(NUMBERS, null, 1));
+    }
+
+    @Test
+    public void filter_belowThreshold_returnsMatchesInOrder() {
+        assertEquals(Arrays.asList(0, 7, 14), FilterUtil.filter(NUMBERS.subList(0, 20), IS_MULTIPLE_OF_SEVEN, 21));
+        assertEquals(Collections.emptyList(), FilterUtil.filter(Collections.emptyList(), IS_MULTIPLE_OF_SEVEN, 1));
+    }
+
+    @Test
+    public void filter_atOrAboveThreshold_returnsSameMatchesAsSerialFilter() {
+        List<Integer> expected = NUMBERS.stream().filter(IS_MULTIPLE_OF_SEVEN).collect(Collectors.toList());
+        assertEquals(expected, FilterUtil.filter(NUMBERS, IS_MULTIPLE_OF_SEVEN, NUMBERS.size()));
+        assertEquals(expected, FilterUtil.filter(NUMBERS, IS_MULTIPLE_OF_SEVEN, 0));
+    }
+
+    @Test
+    public void filter_aboveThreshold_testsEveryElementOnce() {
+        Set<Integer> tested = ConcurrentHashMap.newKeySet();
+        FilterUtil.filter(NUMBERS, tested::add, 0);
+        assertEquals(NUMBERS.size(), tested.size());
+        assertTrue(tested.containsAll(NUMBERS));
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.realodex.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.realodex.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class StringPoolTest {
+
+    private final StringPool stringPool = new StringPool();
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> stringPool.intern(null));
+    }
+
+    @Test
+    public void intern_equalStrings_returnsFirstInstance() {
+        String first = new String("Blk 30 Geylang Street 29");
+        String second = new String("Blk 30 Geylang Street 29");
+        assertSame(first, stringPool.intern(first));
+        assertSame(first, stringPool.intern(second));
+        assertSame(first, stringPool.intern(first));
+    }
+
+    @Test
+    public void intern_differentStrings_returnsSameInstances() {
+        String first = new String("Blk 30 Geylang Street 29");
+        String second = new String("Blk 11 Ang Mo Kio Street 74");
+        assertSame(first, stringPool.intern(first));
+        assertSame(second, stringPool.intern(second));
+        assertEquals(0, stringPool.getBytesSaved());
+    }
+
+    @Test
+    public void getBytesSaved_duplicatesReplaced_countsDuplicates() {
+        String first = new String("Blk 30 Geylang Street 29");
+        stringPool.intern(first);
+        stringPool.intern(first);
+        assertEquals(0, stringPool.getBytesSaved());
+
+        stringPool.intern(new String("Blk 30 Geylang Street 29"));
+        stringPool.intern(new String("Blk 30 Geylang Street 29"));
+        assertEquals(2 * StringPool.estimateBytes(first), stringPool.getBytesSaved());
+    }
+
+    @Test
+    public void estimateBytes() {
+        // 24 byte String object and a 16 byte array header, with the array rounded up to a multiple of 8
+        assertEquals(40, StringPool.estimateBytes(""));
+        assertEquals(48, StringPool.estimateBytes("a"));
+        assertEquals(48, StringPool.estimateBytes("abcdefgh"));
+        assertEquals(56, StringPool.estimateBytes("abcdefghi"));
+        // characters outside Latin-1 take two bytes each
+        assertEquals(48, StringPool.estimateBytes("\u4e00"));
+        assertEquals(56, StringPool.estimateBytes("\u4e00\u4e00\u4e00\u4e00\u4e00"));
+    }
+}
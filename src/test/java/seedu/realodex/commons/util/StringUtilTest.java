@@ -1,10 +1,13 @@
 package seedu.realodex.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.realodex.testutil.Assert.assertThrows;
 
 import java.io.FileNotFoundException;
+import java.util.Locale;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -45,6 +48,40 @@ public class StringUtilTest {
         assertTrue(StringUtil.isNonZeroUnsignedInteger("10"));
     }
 
+    //---------------- Tests for toLowerCaseByChar --------------------------------------
+
+    @Test
+    public void toLowerCaseByChar() {
+        assertThrows(NullPointerException.class, () -> StringUtil.toLowerCaseByChar(null));
+        assertEquals("", StringUtil.toLowerCaseByChar(""));
+        assertEquals("alice pauline", StringUtil.toLowerCaseByChar("ALICE Pauline"));
+
+        // keeps the length and ignores the default locale
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(new Locale("tr", "TR"));
+        try {
+            assertEquals("title", StringUtil.toLowerCaseByChar("TITLE"));
+            assertEquals("istanbul", StringUtil.toLowerCaseByChar("\u0130STANBUL"));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    //---------------- Tests for isAscii --------------------------------------
+
+    @Test
+    public void isAscii() {
+        assertThrows(NullPointerException.class, () -> StringUtil.isAscii(null));
+
+        // EP: ASCII
+        assertTrue(StringUtil.isAscii("")); // Boundary value
+        assertTrue(StringUtil.isAscii("Good Class Bungalow~\u007f"));
+
+        // EP: not ASCII
+        assertFalse(StringUtil.isAscii("\u017feller")); // long s
+        assertFalse(StringUtil.isAscii("buyer\u0080")); // Boundary value
+    }
+
 
     //---------------- Tests for containsWordIgnoreCase --------------------------------------
 
@@ -123,6 +160,74 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for editDistance --------------------------------------
+
+    @Test
+    public void editDistance_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.editDistance(null, "abc", 1));
+        assertThrows(NullPointerException.class, () -> StringUtil.editDistance("abc", null, 1));
+    }
+
+    @Test
+    public void editDistance_withinMaxDistance_returnsDistance() {
+        assertEquals(0, StringUtil.editDistance("", "", 0));
+        assertEquals(0, StringUtil.editDistance("john", "john", 0));
+        assertEquals(3, StringUtil.editDistance("", "abc", 3));
+        assertEquals(1, StringUtil.editDistance("tan", "tann", 1)); // insertion
+        assertEquals(2, StringUtil.editDistance("jonh", "john", 2)); // swapped letters count as two edits
+        assertEquals(3, StringUtil.editDistance("jonh tann", "john tan", 3));
+        assertEquals(3, StringUtil.editDistance("kitten", "sitting", 3));
+        assertEquals(1, StringUtil.editDistance("John", "john", 5)); // case-sensitive
+    }
+
+    @Test
+    public void editDistance_beyondMaxDistance_returnsMaxDistancePlusOne() {
+        assertEquals(3, StringUtil.editDistance("kitten", "sitting", 2));
+        assertEquals(1, StringUtil.editDistance("abc", "abcdef", 0)); // lengths differ too much
+        assertEquals(2, StringUtil.editDistance("abcdef", "uvwxyz", 1)); // every row exceeds the bound
+    }
+
+    //---------------- Tests for soundex --------------------------------------
+
+    @Test
+    public void soundex_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.soundex(null));
+    }
+
+    @Test
+    public void soundex_validInputs_correctResult() {
+        // sound-alike words share a code
+        assertEquals("R163", StringUtil.soundex("Robert"));
+        assertEquals("R163", StringUtil.soundex("rupert"));
+        assertEquals("S530", StringUtil.soundex("Smyth"));
+
+        // consonants with the same digit separated by h or w are coded once, separated by a vowel twice
+        assertEquals("A261", StringUtil.soundex("Ashcraft"));
+        assertEquals("T522", StringUtil.soundex("Tymczak"));
+        assertEquals("P236", StringUtil.soundex("Pfister"));
+
+        // short words are padded, long words are truncated
+        assertEquals("L000", StringUtil.soundex("Lee"));
+        assertEquals("W252", StringUtil.soundex("Washington"));
+
+        // non-letters are ignored, leading digits are kept
+        assertEquals("O165", StringUtil.soundex("O'Brien"));
+        assertEquals("1230", StringUtil.soundex("1st"));
+        assertEquals("", StringUtil.soundex("'-"));
+    }
+
+    @Test
+    public void soundexCodesOf_nullText_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.soundexCodesOf(null));
+    }
+
+    @Test
+    public void soundexCodesOf_text_returnsDistinctCodesOfWords() {
+        assertEquals(Set.of("J500", "S530"), StringUtil.soundexCodesOf("John  Smith Smyth"));
+        assertEquals(Set.of(), StringUtil.soundexCodesOf(""));
+        assertEquals(Set.of("O165"), StringUtil.soundexCodesOf("O'Brien '-"));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
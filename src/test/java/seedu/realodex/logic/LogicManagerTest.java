@@ -19,6 +19,7 @@ import static seedu.realodex.testutil.TypicalPersons.AMY_NAME_CAPS;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -27,6 +28,7 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.realodex.logic.commands.AddCommand;
 import seedu.realodex.logic.commands.CommandResult;
 import seedu.realodex.logic.commands.ListCommand;
+import seedu.realodex.logic.commands.SortCommand;
 import seedu.realodex.logic.commands.exceptions.CommandException;
 import seedu.realodex.logic.parser.exceptions.ParseException;
 import seedu.realodex.model.Model;
@@ -88,6 +90,23 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void queryPersons_addedPerson_returnedInPage() throws Exception {
+        Person person = new PersonBuilder().withName("Amy Bee").build();
+        model.addPerson(person);
+        assertEquals(List.of(person), logic.queryPersons(Model.PREDICATE_SHOW_ALL_PERSONS, 10).next());
+    }
+
+    @Test
+    public void refreshForToday_sortedToday_keepsOrder() throws Exception {
+        model.addPerson(new PersonBuilder().withName("Amy Bee").withBirthday("1Jan2000").build());
+        model.addPerson(new PersonBuilder().withName("Bob Choo").withBirthday("").build());
+        logic.execute(SortCommand.COMMAND_WORD);
+        List<Person> sortedPersons = List.copyOf(logic.getFilteredPersonList());
+        logic.refreshForToday();
+        assertEquals(sortedPersons, logic.getFilteredPersonList());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
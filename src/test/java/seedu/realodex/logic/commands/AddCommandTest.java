@@ -10,6 +10,9 @@ import static seedu.realodex.testutil.TypicalPersons.ALICE;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -18,11 +21,16 @@ import javafx.collections.ObservableList;
 import seedu.realodex.commons.core.GuiSettings;
 import seedu.realodex.logic.Messages;
 import seedu.realodex.logic.commands.exceptions.CommandException;
+import seedu.realodex.model.DayClock;
 import seedu.realodex.model.Model;
+import seedu.realodex.model.PersonCursor;
+import seedu.realodex.model.PersonStatistics;
 import seedu.realodex.model.ReadOnlyRealodex;
 import seedu.realodex.model.ReadOnlyUserPrefs;
 import seedu.realodex.model.Realodex;
+import seedu.realodex.model.person.Name;
 import seedu.realodex.model.person.Person;
+import seedu.realodex.model.person.sorting.SortKey;
 import seedu.realodex.testutil.PersonBuilder;
 
 public class AddCommandTest {
@@ -150,6 +158,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Optional<Person> getFilteredPersonByName(Name name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
@@ -159,6 +172,46 @@ public class AddCommandTest {
         public void updateFilteredPersonList(Predicate<Person> predicate) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public void sortFilteredPersonList(List<SortKey> sortKeys) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void clearSort() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void refreshForToday() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public DayClock getDayClock() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public PersonCursor queryPersons(Predicate<Person> predicate, int pageSize) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public OptionalInt findDayOfUpcomingBirthday(int fromDay, int count) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public PersonStatistics getStatistics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public PersonStatistics getFilteredStatistics() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
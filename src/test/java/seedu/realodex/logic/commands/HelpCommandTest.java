@@ -9,6 +9,8 @@ import static seedu.realodex.logic.commands.FilterCommand.MESSAGE_FILTER_HELP;
 import static seedu.realodex.logic.commands.HelpCommand.SHOWING_HELP_MESSAGE;
 import static seedu.realodex.logic.commands.ListCommand.MESSAGE_LIST_HELP;
 import static seedu.realodex.logic.commands.SortCommand.MESSAGE_SORT_HELP;
+import static seedu.realodex.logic.commands.StatsCommand.MESSAGE_STATS_HELP;
+import static seedu.realodex.logic.commands.UpcomingCommand.MESSAGE_UPCOMING_HELP;
 import static seedu.realodex.testutil.TypicalPersons.getTypicalRealodex;
 
 import org.junit.jupiter.api.Test;
@@ -56,5 +58,13 @@ public class HelpCommandTest {
         CommandResult expectedSortHelpCommandResult = new CommandResult(MESSAGE_SORT_HELP,
                                                                         false, false);
         assertCommandSuccess(new HelpCommand("sort"), model, expectedSortHelpCommandResult, expectedModel);
+
+        CommandResult expectedStatsHelpCommandResult = new CommandResult(MESSAGE_STATS_HELP,
+                false, false);
+        assertCommandSuccess(new HelpCommand("stats"), model, expectedStatsHelpCommandResult, expectedModel);
+
+        CommandResult expectedUpcomingHelpCommandResult = new CommandResult(MESSAGE_UPCOMING_HELP,
+                false, false);
+        assertCommandSuccess(new HelpCommand("upcoming"), model, expectedUpcomingHelpCommandResult, expectedModel);
     }
 }
@@ -5,12 +5,15 @@ import static seedu.realodex.logic.commands.CommandTestUtil.showPersonAtIndex;
 import static seedu.realodex.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.realodex.testutil.TypicalPersons.getTypicalRealodex;
 
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import seedu.realodex.model.Model;
 import seedu.realodex.model.ModelManager;
 import seedu.realodex.model.UserPrefs;
+import seedu.realodex.model.person.sorting.SortKey;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for ListCommand.
@@ -36,4 +39,11 @@ public class ListCommandTest {
         showPersonAtIndex(model, INDEX_FIRST_PERSON);
         assertCommandSuccess(new ListCommand(), model, ListCommand.MESSAGE_SUCCESS, expectedModel);
     }
+
+    @Test
+    public void execute_listIsSorted_showsStoredOrder() {
+        model.sortFilteredPersonList(List.of(SortKey.NAME));
+        showPersonAtIndex(model, INDEX_FIRST_PERSON);
+        assertCommandSuccess(new ListCommand(), model, ListCommand.MESSAGE_SUCCESS, expectedModel);
+    }
 }
@@ -1,72 +1,99 @@
 package seedu.realodex.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.realodex.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.realodex.testutil.Assert.assertThrows;
 import static seedu.realodex.testutil.TypicalPersons.getSecondTypicalRealodex;
 import static seedu.realodex.testutil.TypicalPersons.getTypicalRealodex;
 
+import java.time.LocalDate;
 import java.util.List;
 
-import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
-import seedu.realodex.logic.commands.exceptions.CommandException;
+import seedu.realodex.model.DayClock;
 import seedu.realodex.model.Model;
 import seedu.realodex.model.ModelManager;
-import seedu.realodex.model.Realodex;
 import seedu.realodex.model.UserPrefs;
 import seedu.realodex.model.person.Person;
 import seedu.realodex.model.person.sorting.BirthdayComparator;
+import seedu.realodex.model.person.sorting.SortKey;
+import seedu.realodex.testutil.ManualClock;
 
 public class SortCommandTest {
-    private final Model model = new ModelManager(getTypicalRealodex(), new UserPrefs());
-    private final Model modelSecond = new ModelManager(getSecondTypicalRealodex(), new UserPrefs());
+    private final DayClock dayClock = new DayClock(new ManualClock(LocalDate.of(2023, 6, 1)));
+    private final Model model = new ModelManager(getTypicalRealodex(), new UserPrefs(), dayClock);
+    private final Model modelSecond = new ModelManager(getSecondTypicalRealodex(), new UserPrefs(), dayClock);
+
+    @Test
+    public void constructor_noSortKeys_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SortCommand(List.of()));
+    }
+
     @Test
     public void execute_sortsListByBirthday_success() {
-        // Create a list of persons with birthdays in random order
-        Realodex realodex = (Realodex) model.getRealodex();
-
-        // Execute the sort command
-        SortCommand sortCommand = new SortCommand();
-        try {
-            sortCommand.execute(model);
-        } catch (CommandException e) {
-            Assertions.fail();
-        }
+        SortCommand sortCommand = new SortCommand(List.of(SortKey.BIRTHDAY));
+        sortCommand.execute(model);
+        assertTrue(isSortedByBirthday(model.getFilteredPersonList()));
 
-        // Verify that the list is sorted by birthday
-        List<Person> sortedList = realodex.getCopyOfInternalListOfUniquePersonsList();
-        assertTrue(isSortedByBirthday(sortedList));
+        sortCommand.execute(modelSecond);
+        assertTrue(isSortedByBirthday(modelSecond.getFilteredPersonList()));
+    }
 
-        realodex = (Realodex) modelSecond.getRealodex();
-        try {
-            sortCommand.execute(modelSecond);
-        } catch (CommandException e) {
-            Assertions.fail();
-        }
-        sortedList = realodex.getCopyOfInternalListOfUniquePersonsList();
-        assertTrue(isSortedByBirthday(sortedList));
+    @Test
+    public void execute_sort_storedOrderUnchanged() {
+        new SortCommand(List.of(SortKey.BIRTHDAY)).execute(model);
+        assertEquals(getTypicalRealodex().getPersonList(), model.getRealodex().getPersonList());
+    }
 
+    @Test
+    public void execute_multipleKeys_sortsByEachKeyInTurn() {
+        List<SortKey> sortKeys = List.of(SortKey.HOUSING_TYPE, SortKey.NAME);
+        Model expectedModel = new ModelManager(getTypicalRealodex(), new UserPrefs(), dayClock);
+        expectedModel.sortFilteredPersonList(sortKeys);
+        assertCommandSuccess(new SortCommand(sortKeys), model,
+                String.format(SortCommand.MESSAGE_SUCCESS, "housing type, then by name"), expectedModel);
     }
 
     @Test
     public void execute_returnsSuccessMessage() {
-        // Execute the sort command
-        SortCommand sortCommand = new SortCommand();
-        try {
-            CommandResult result = sortCommand.execute(model);
-            assertEquals(SortCommand.MESSAGE_SUCCESS, result.getFeedbackToUser());
-        } catch (CommandException e) {
-            Assertions.fail();
-        }
+        CommandResult result = new SortCommand(List.of(SortKey.BIRTHDAY)).execute(model);
+        assertEquals("Sorted list by days to their birthday!", result.getFeedbackToUser());
+    }
+
+    @Test
+    public void equals() {
+        SortCommand sortByBirthdayCommand = new SortCommand(List.of(SortKey.BIRTHDAY));
+
+        // same object -> returns true
+        assertTrue(sortByBirthdayCommand.equals(sortByBirthdayCommand));
+
+        // same values -> returns true
+        assertTrue(sortByBirthdayCommand.equals(new SortCommand(List.of(SortKey.BIRTHDAY))));
+
+        // different types -> returns false
+        assertFalse(sortByBirthdayCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(sortByBirthdayCommand.equals(null));
+
+        // different keys -> returns false
+        assertFalse(sortByBirthdayCommand.equals(new SortCommand(List.of(SortKey.NAME))));
+
+        // same keys in a different order -> returns false
+        assertFalse(new SortCommand(List.of(SortKey.NAME, SortKey.INCOME))
+                .equals(new SortCommand(List.of(SortKey.INCOME, SortKey.NAME))));
     }
 
     // Helper method to check if the list is sorted by birthday
     private boolean isSortedByBirthday(List<Person> persons) {
+        BirthdayComparator comparator = new BirthdayComparator(dayClock.getTodayDayOfLeapYear());
         for (int i = 1; i < persons.size(); i++) {
             Person previousPerson = persons.get(i - 1);
             Person currentPerson = persons.get(i);
-            if (new BirthdayComparator().compare(previousPerson, currentPerson) > 0) {
+            if (comparator.compare(previousPerson, currentPerson) > 0) {
                 return false;
             }
         }
@@ -0,0 +1,77 @@
+package seedu.realodex.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.realodex.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.realodex.testutil.TypicalPersons.getTypicalRealodex;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.realodex.model.Model;
+import seedu.realodex.model.ModelManager;
+import seedu.realodex.model.UserPrefs;
+import seedu.realodex.model.person.HousingType;
+import seedu.realodex.model.person.predicates.HousingTypeMatchPredicate;
+
+public class StatsCommandTest {
+
+    private final Model model = new ModelManager(getTypicalRealodex(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalRealodex(), new UserPrefs());
+
+    @Test
+    public void execute_allClients_showsStatisticsOfAllClients() {
+        String expectedMessage = String.format(StatsCommand.MESSAGE_SUCCESS_ALL, 7)
+                + "Housing type: HDB: 3, CONDOMINIUM: 2, LANDED PROPERTY: 1, GOOD CLASS BUNGALOW: 1\n"
+                + "Tags: Buyer: 6, Seller: 2\n"
+                + "Income: 0..4999: 0, 5000..9999: 0, 10000..19999: 1, 20000..49999: 3, 50000..99999: 3, "
+                + ">=100000: 0\n"
+                + "Family size: 4: 7";
+        assertCommandSuccess(new StatsCommand(false), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_filteredClients_showsStatisticsOfClientsListed() {
+        HousingTypeMatchPredicate predicate = new HousingTypeMatchPredicate(new HousingType("HDB"));
+        model.updateFilteredPersonList(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        String expectedMessage = String.format(StatsCommand.MESSAGE_SUCCESS_FILTERED, 3)
+                + "Housing type: HDB: 3, CONDOMINIUM: 0, LANDED PROPERTY: 0, GOOD CLASS BUNGALOW: 0\n"
+                + "Tags: Buyer: 2, Seller: 1\n"
+                + "Income: 0..4999: 0, 5000..9999: 0, 10000..19999: 1, 20000..49999: 0, 50000..99999: 2, "
+                + ">=100000: 0\n"
+                + "Family size: 4: 3";
+        assertCommandSuccess(new StatsCommand(true), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_emptyRealodex_showsNoFamilySizes() {
+        Model emptyModel = new ModelManager();
+        String expectedMessage = String.format(StatsCommand.MESSAGE_SUCCESS_ALL, 0)
+                + "Housing type: HDB: 0, CONDOMINIUM: 0, LANDED PROPERTY: 0, GOOD CLASS BUNGALOW: 0\n"
+                + "Tags: Buyer: 0, Seller: 0\n"
+                + "Income: 0..4999: 0, 5000..9999: 0, 10000..19999: 0, 20000..49999: 0, 50000..99999: 0, "
+                + ">=100000: 0\n"
+                + "Family size: -";
+        assertCommandSuccess(new StatsCommand(false), emptyModel, expectedMessage, new ModelManager());
+    }
+
+    @Test
+    public void equals() {
+        StatsCommand statsAllCommand = new StatsCommand(false);
+
+        // same object -> returns true
+        assertTrue(statsAllCommand.equals(statsAllCommand));
+
+        // same values -> returns true
+        assertTrue(statsAllCommand.equals(new StatsCommand(false)));
+
+        // different types -> returns false
+        assertFalse(statsAllCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(statsAllCommand.equals(null));
+
+        // different scope -> returns false
+        assertFalse(statsAllCommand.equals(new StatsCommand(true)));
+    }
+}
@@ -0,0 +1,112 @@
+package seedu.realodex.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.realodex.testutil.Assert.assertThrows;
+import static seedu.realodex.testutil.TypicalPersons.ALICE;
+import static seedu.realodex.testutil.TypicalPersons.BENSON;
+import static seedu.realodex.testutil.TypicalPersons.CARL;
+import static seedu.realodex.testutil.TypicalPersons.DANIEL;
+
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.realodex.model.Model;
+import seedu.realodex.model.ModelManager;
+import seedu.realodex.model.person.Birthday;
+import seedu.realodex.model.person.Person;
+import seedu.realodex.testutil.PersonBuilder;
+
+public class UpcomingCommandTest {
+
+    private final Person inThreeDays = withBirthdayInDays(ALICE, 3);
+    private final Person tomorrow = withBirthdayInDays(BENSON, 1);
+    private final Person alsoInThreeDays = withBirthdayInDays(CARL, 3);
+    private final Person inFortyDays = withBirthdayInDays(DANIEL, 40);
+
+    @Test
+    public void constructor_nonPositiveCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new UpcomingCommand(0));
+    }
+
+    @Test
+    public void execute_upcomingBirthdays_listsClientsInUpcomingOrder() {
+        Model model = modelWith(inThreeDays, tomorrow, alsoInThreeDays, inFortyDays);
+        String message = new UpcomingCommand(2).execute(model).getFeedbackToUser();
+
+        // clients sharing the last birthday listed are also listed
+        assertTrue(message.startsWith(String.format(UpcomingCommand.MESSAGE_SUCCESS, 3)));
+        int tomorrowPosition = message.indexOf("1. " + tomorrow.getName());
+        int inThreeDaysPosition = message.indexOf(". " + inThreeDays.getName());
+        int alsoInThreeDaysPosition = message.indexOf(". " + alsoInThreeDays.getName());
+        assertTrue(tomorrowPosition >= 0);
+        assertTrue(tomorrowPosition < inThreeDaysPosition && tomorrowPosition < alsoInThreeDaysPosition);
+        assertFalse(message.contains(inFortyDays.getName().toString()));
+
+        // the stored order of the clients is untouched
+        assertEquals(List.of(inThreeDays, tomorrow, alsoInThreeDays), model.getFilteredPersonList());
+        assertEquals(List.of(inThreeDays, tomorrow, alsoInThreeDays, inFortyDays),
+                model.getRealodex().getPersonList());
+    }
+
+    @Test
+    public void execute_countExceedsBirthdays_listsAllClientsWithBirthdays() {
+        Person noBirthday = new PersonBuilder(DANIEL).withBirthday("").build();
+        Model model = modelWith(inThreeDays, noBirthday, tomorrow);
+        String message = new UpcomingCommand(10).execute(model).getFeedbackToUser();
+        assertTrue(message.startsWith(String.format(UpcomingCommand.MESSAGE_SUCCESS, 2)));
+        assertEquals(List.of(inThreeDays, tomorrow), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_noBirthdays_showsNoBirthdaysMessage() {
+        Model model = modelWith(new PersonBuilder(ALICE).withBirthday("").build());
+        assertEquals(UpcomingCommand.MESSAGE_NO_BIRTHDAYS, new UpcomingCommand(1).execute(model).getFeedbackToUser());
+        assertEquals(1, model.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void equals() {
+        UpcomingCommand upcomingCommand = new UpcomingCommand(5);
+
+        // same object -> returns true
+        assertTrue(upcomingCommand.equals(upcomingCommand));
+
+        // same values -> returns true
+        assertTrue(upcomingCommand.equals(new UpcomingCommand(5)));
+
+        // different types -> returns false
+        assertFalse(upcomingCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(upcomingCommand.equals(null));
+
+        // different count -> returns false
+        assertFalse(upcomingCommand.equals(new UpcomingCommand(6)));
+    }
+
+    private static Model modelWith(Person... persons) {
+        Model model = new ModelManager();
+        for (Person person : persons) {
+            model.addPerson(person);
+        }
+        return model;
+    }
+
+    /**
+     * Returns a copy of {@code person} whose birthday is {@code days} days from today, in a leap year so that
+     * every date can be represented.
+     */
+    private static Person withBirthdayInDays(Person person, int days) {
+        Calendar date = Calendar.getInstance();
+        date.add(Calendar.DAY_OF_MONTH, days);
+        date.set(Calendar.YEAR, 2000);
+        String birthday = new SimpleDateFormat(Birthday.INPUT_DATE_PATTERN, Locale.ENGLISH).format(date.getTime());
+        return new PersonBuilder(person).withBirthday(birthday).build();
+    }
+}
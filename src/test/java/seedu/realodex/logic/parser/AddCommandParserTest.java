@@ -63,11 +63,14 @@ import static seedu.realodex.logic.parser.CommandParserTestUtil.assertParseSucce
 import static seedu.realodex.testutil.TypicalPersons.AMY_NAME_CAPS;
 import static seedu.realodex.testutil.TypicalPersons.BOB;
 
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.realodex.logic.Messages;
 import seedu.realodex.logic.commands.AddCommand;
 import seedu.realodex.logic.commands.CommandTestUtil;
+import seedu.realodex.model.DayClock;
 import seedu.realodex.model.person.Address;
 import seedu.realodex.model.person.Birthday;
 import seedu.realodex.model.person.Email;
@@ -77,10 +80,13 @@ import seedu.realodex.model.person.Name;
 import seedu.realodex.model.person.Person;
 import seedu.realodex.model.person.Phone;
 import seedu.realodex.model.person.Tag;
+import seedu.realodex.testutil.ManualClock;
 import seedu.realodex.testutil.PersonBuilder;
 
 public class AddCommandParserTest {
-    private AddCommandParser parser = new AddCommandParser();
+    private static final DayClock DAY_CLOCK = new DayClock(new ManualClock(LocalDate.of(2024, 6, 1)));
+
+    private AddCommandParser parser = new AddCommandParser(DAY_CLOCK);
 
     @Test
     public void parse_allFieldsPresent_success() {
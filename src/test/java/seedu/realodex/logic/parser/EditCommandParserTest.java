@@ -58,6 +58,8 @@ import static seedu.realodex.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.realodex.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 import static seedu.realodex.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
 
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.realodex.commons.core.index.Index;
@@ -65,6 +67,7 @@ import seedu.realodex.logic.Messages;
 import seedu.realodex.logic.commands.CommandTestUtil;
 import seedu.realodex.logic.commands.EditCommand;
 import seedu.realodex.logic.commands.EditCommand.EditPersonDescriptor;
+import seedu.realodex.model.DayClock;
 import seedu.realodex.model.person.Address;
 import seedu.realodex.model.person.Birthday;
 import seedu.realodex.model.person.Email;
@@ -75,16 +78,19 @@ import seedu.realodex.model.person.Name;
 import seedu.realodex.model.person.Phone;
 import seedu.realodex.model.person.Tag;
 import seedu.realodex.testutil.EditPersonDescriptorBuilder;
+import seedu.realodex.testutil.ManualClock;
 
 
 public class EditCommandParserTest {
 
     private static final String TAG_EMPTY = " " + PREFIX_TAG;
 
+    private static final DayClock DAY_CLOCK = new DayClock(new ManualClock(LocalDate.of(2024, 6, 1)));
+
     private static final String MESSAGE_INVALID_FORMAT =
             String.format(MESSAGE_INVALID_COMMAND_FORMAT, EditCommand.MESSAGE_USAGE);
 
-    private final EditCommandParser parser = new EditCommandParser();
+    private final EditCommandParser parser = new EditCommandParser(DAY_CLOCK);
 
     @Test
     public void parse_missingParts_failure() {
@@ -1,12 +1,16 @@
 package seedu.realodex.logic.parser;
 
 import static seedu.realodex.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.realodex.logic.parser.CliSyntax.PREFIX_FUZZY_NAME;
+import static seedu.realodex.logic.parser.CliSyntax.PREFIX_INCOME;
 import static seedu.realodex.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.realodex.logic.parser.CliSyntax.PREFIX_PHONETIC_NAME;
 import static seedu.realodex.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.realodex.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.realodex.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static seedu.realodex.testutil.Assert.assertThrows;
 
+import java.util.List;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
@@ -18,8 +22,14 @@ import seedu.realodex.model.person.HousingType;
 import seedu.realodex.model.person.Name;
 import seedu.realodex.model.person.Tag;
 import seedu.realodex.model.person.predicates.BirthdayIsInMonthPredicate;
+import seedu.realodex.model.person.predicates.ConjunctionPredicate;
+import seedu.realodex.model.person.predicates.FamilyInRangePredicate;
 import seedu.realodex.model.person.predicates.HousingTypeMatchPredicate;
+import seedu.realodex.model.person.predicates.IncomeInRangePredicate;
 import seedu.realodex.model.person.predicates.NameContainsKeyphrasePredicate;
+import seedu.realodex.model.person.predicates.NameIsCloseToKeyphrasePredicate;
+import seedu.realodex.model.person.predicates.NameSoundsLikeKeyphrasePredicate;
+import seedu.realodex.model.person.predicates.NumericRange;
 import seedu.realodex.model.person.predicates.RemarkContainsKeyphrasePredicate;
 import seedu.realodex.model.person.predicates.TagsMatchPredicate;
 
@@ -56,6 +66,40 @@ public class FilterCommandParserTest {
         assertParseFailure(parser, " n/", Name.MESSAGE_CONSTRAINTS);
     }
 
+    // EP: Parsing valid arguments with a fuzzy name prefix
+    // should return a FilterCommand with a NameIsCloseToKeyphrasePredicate
+    @Test
+    void parse_validArgsWithFuzzyName_returnsFilterCommand() {
+        String userInput = " " + PREFIX_FUZZY_NAME + "jonh tann";
+        FilterCommand expectedCommand = new FilterCommand(new NameIsCloseToKeyphrasePredicate("jonh tann"));
+        assertParseSuccess(parser, userInput, expectedCommand);
+    }
+
+    // EP: Parsing invalid or empty arguments with a fuzzy name prefix
+    // should throw a parse exception with the appropriate error message
+    @Test
+    void parse_invalidArgsWithFuzzyName_throwsParseException() {
+        assertParseFailure(parser, " n~/#$@%^", Name.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " n~/", Name.MESSAGE_CONSTRAINTS);
+    }
+
+    // EP: Parsing valid arguments with a phonetic name prefix
+    // should return a FilterCommand with a NameSoundsLikeKeyphrasePredicate
+    @Test
+    void parse_validArgsWithPhoneticName_returnsFilterCommand() {
+        String userInput = " " + PREFIX_PHONETIC_NAME + "jon smyth";
+        FilterCommand expectedCommand = new FilterCommand(new NameSoundsLikeKeyphrasePredicate("jon smyth"));
+        assertParseSuccess(parser, userInput, expectedCommand);
+    }
+
+    // EP: Parsing invalid or empty arguments with a phonetic name prefix
+    // should throw a parse exception with the appropriate error message
+    @Test
+    void parse_invalidArgsWithPhoneticName_throwsParseException() {
+        assertParseFailure(parser, " n@/#$@%^", Name.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " n@/", Name.MESSAGE_CONSTRAINTS);
+    }
+
     // EP: Parsing valid arguments with a remark prefix
     // should return a FilterCommand with a RemarkContainsKeyphrasePredicate
     @Test
@@ -197,13 +241,15 @@ public class FilterCommandParserTest {
                            String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
     }
 
-    // EP: Parsing with multiple prefixes should throw a
-    // parse exception with the appropriate error message
+    // EP: Parsing with multiple prefixes should return a FilterCommand
+    // with a conjunction of the predicates of every prefix
     @Test
-    void parse_multiplePrefixes_throwsParseException() {
+    void parse_multiplePrefixes_returnsFilterCommandWithConjunction() {
         String userInput = " n/Alice r/Loves cats";
-        assertParseFailure(parser, userInput,
-                           String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_FILTER_CONFLICT));
+        FilterCommand expectedFilterCommand = new FilterCommand(new ConjunctionPredicate(List.of(
+                new NameContainsKeyphrasePredicate("Alice"),
+                new RemarkContainsKeyphrasePredicate("Loves cats"))));
+        assertParseSuccess(parser, userInput, expectedFilterCommand);
     }
 
     // EP: Parsing with multiple prefixes and an empty
@@ -211,8 +257,7 @@ public class FilterCommandParserTest {
     @Test
     void parse_multiplePrefixesWithEmptyRemark_throwsParseException() {
         String userInput = " n/Alice r/";
-        assertParseFailure(parser, userInput,
-                           String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_FILTER_CONFLICT));
+        assertParseFailure(parser, userInput, FilterCommand.MESSAGE_FILTER_EMPTY_REMARK);
     }
 
     // EP: Parsing with multiple prefixes and an empty
@@ -220,9 +265,9 @@ public class FilterCommandParserTest {
     @Test
     void parse_multiplePrefixesWithEmptyName_throwsParseException() {
         String userInput = " n/ r/Loves cats";
-        assertParseFailure(parser, userInput,
-                           String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_FILTER_CONFLICT));
+        assertParseFailure(parser, userInput, Name.MESSAGE_CONSTRAINTS);
     }
+
     // EP: Parsing with duplicate prefixes should throw a
     // parse exception with the appropriate error message
     @Test
@@ -239,4 +284,35 @@ public class FilterCommandParserTest {
         assertParseFailure(parser, userInput,
                            String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
     }
+
+    // EP: Parsing a lower and an upper income bound should
+    // return a FilterCommand with an IncomeInRangePredicate
+    @Test
+    void parse_validArgsWithIncomeBounds_returnsFilterCommand() {
+        String userInput = " i/>=5000 i/<=12000";
+        FilterCommand expectedCommand = new FilterCommand(new IncomeInRangePredicate(new NumericRange(5000, 12000)));
+        assertParseSuccess(parser, userInput, expectedCommand);
+    }
+
+    // EP: Parsing a family size range should return a FilterCommand with a FamilyInRangePredicate
+    @Test
+    void parse_validArgsWithFamilyRange_returnsFilterCommand() {
+        String userInput = " f/3..5";
+        FilterCommand expectedCommand = new FilterCommand(new FamilyInRangePredicate(new NumericRange(3, 5)));
+        assertParseSuccess(parser, userInput, expectedCommand);
+    }
+
+    // EP: Parsing an invalid bound should throw a parse exception with the appropriate error message
+    @Test
+    void parse_invalidArgsWithIncome_throwsParseException() {
+        assertParseFailure(parser, " i/=>5000", NumericRange.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " f/5..", NumericRange.MESSAGE_CONSTRAINTS);
+    }
+
+    // EP: Parsing more than two income bounds should throw a parse exception with the appropriate error message
+    @Test
+    void parse_tooManyIncomeBounds_throwsParseException() {
+        String userInput = " i/>=5000 i/<=12000 i/7000";
+        assertParseFailure(parser, userInput, Messages.getErrorMessageForDuplicatePrefixes(PREFIX_INCOME));
+    }
 }
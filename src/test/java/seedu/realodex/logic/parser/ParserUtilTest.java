@@ -14,6 +14,7 @@ import static seedu.realodex.logic.parser.ParserUtil.parsePhoneReturnStored;
 import static seedu.realodex.testutil.Assert.assertThrows;
 import static seedu.realodex.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -32,6 +33,7 @@ import seedu.realodex.model.person.Name;
 import seedu.realodex.model.person.Phone;
 import seedu.realodex.model.person.Remark;
 import seedu.realodex.model.person.Tag;
+import seedu.realodex.model.person.predicates.NumericRange;
 
 public class ParserUtilTest {
     private static final String INVALID_NAME_CAPS = "D@nzel Washington Al Pacino";
@@ -62,6 +64,7 @@ public class ParserUtilTest {
     private static final String VALID_REMARK_TWO = "I am Al Pacino";
     private static final String VALID_BIRTHDAY = "01May2009";
     private static final String INVALID_BIRTHDAY = "01May20090";
+    private static final LocalDate TODAY = LocalDate.of(2024, 6, 1);
 
     private static final String WHITESPACE = " \t\r\n";
 
@@ -490,15 +493,54 @@ public class ParserUtilTest {
     @Test
     public void parseBirthday_validBirthday_returnsParserUtilBirthday() {
         String validBirthday = VALID_BIRTHDAY;
-        ParserUtilResult<Birthday> birthdayStored = parseBirthdayReturnStored(validBirthday);
+        ParserUtilResult<Birthday> birthdayStored = parseBirthdayReturnStored(validBirthday, TODAY);
         assertEquals(birthdayStored.returnStoredResult(), new Birthday(validBirthday));
         assertEquals(birthdayStored.returnExceptionMessage(), "");
     }
 
     @Test
     public void parseBirthday_invalidBirthday_returnsParserUtilBirthday() {
-        ParserUtilResult<Birthday> birthdayStored = parseBirthdayReturnStored(INVALID_BIRTHDAY);
+        ParserUtilResult<Birthday> birthdayStored = parseBirthdayReturnStored(INVALID_BIRTHDAY, TODAY);
         assertEquals(birthdayStored.returnStoredResult(), new Birthday());
         assertEquals(birthdayStored.returnExceptionMessage(), Birthday.MESSAGE_CONSTRAINTS);
     }
+
+    @Test
+    public void parseBirthday_birthdayAfterToday_returnsParserUtilBirthday() {
+        assertEquals("", parseBirthdayReturnStored("1Jun2024", TODAY).returnExceptionMessage());
+        ParserUtilResult<Birthday> birthdayStored = parseBirthdayReturnStored("2Jun2024", TODAY);
+        assertEquals(birthdayStored.returnStoredResult(), new Birthday());
+        assertEquals(birthdayStored.returnExceptionMessage(), Birthday.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parseRange_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ParserUtil.parseRange(null));
+    }
+
+    @Test
+    public void parseRange_validBounds_returnsRange() throws Exception {
+        assertEquals(new NumericRange(5000, 12000), ParserUtil.parseRange(Arrays.asList(">=5000", " <=12000 ")));
+        assertEquals(new NumericRange(5001, 11999), ParserUtil.parseRange(Arrays.asList(">5000", "<12000")));
+        assertEquals(new NumericRange(3, 5), ParserUtil.parseRange(Collections.singletonList("3..5")));
+        assertEquals(new NumericRange(4, 4), ParserUtil.parseRange(Collections.singletonList("4")));
+        assertEquals(NumericRange.ALL, ParserUtil.parseRange(Collections.emptyList()));
+    }
+
+    @Test
+    public void parseRange_unsatisfiableBounds_returnsEmptyRange() throws Exception {
+        assertTrue(ParserUtil.parseRange(Arrays.asList(">=12000", "<=5000")).isEmpty());
+        assertTrue(ParserUtil.parseRange(Collections.singletonList("<0")).isEmpty());
+        assertTrue(ParserUtil.parseRange(Collections.singletonList(">" + Long.MAX_VALUE)).isEmpty());
+    }
+
+    @Test
+    public void parseRange_invalidBound_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parseRange(Collections.singletonList("=>5000")));
+        assertThrows(ParseException.class, () -> ParserUtil.parseRange(Collections.singletonList("-5")));
+        assertThrows(ParseException.class, () -> ParserUtil.parseRange(Collections.singletonList("3..")));
+        assertThrows(ParseException.class, () -> ParserUtil.parseRange(Collections.singletonList("")));
+        assertThrows(ParseException.class, () -> ParserUtil.parseRange(
+                Collections.singletonList("99999999999999999999")));
+    }
 }
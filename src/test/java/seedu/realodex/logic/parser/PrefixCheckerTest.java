@@ -7,6 +7,8 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.realodex.logic.parser.CliSyntax.PREFIX_ADDRESS;
 import static seedu.realodex.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.realodex.logic.parser.CliSyntax.PREFIX_FAMILY;
+import static seedu.realodex.logic.parser.CliSyntax.PREFIX_INCOME;
 import static seedu.realodex.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.realodex.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.realodex.logic.parser.CliSyntax.PREFIX_REMARK;
@@ -192,6 +194,13 @@ public class PrefixCheckerTest {
         assertTrue(prefixChecker.isSpecialCasePrefix(PREFIX_TAG));
     }
 
+    @Test
+    public void isSpecialCasePrefix_rangePrefix_returnsTrue() {
+        PrefixChecker prefixChecker = new PrefixChecker(new ArgumentMultimap());
+        assertTrue(prefixChecker.isSpecialCasePrefix(PREFIX_INCOME));
+        assertTrue(prefixChecker.isSpecialCasePrefix(PREFIX_FAMILY));
+    }
+
     @Test
     public void isPrefixPresent_presentPrefix_returnsTrue() {
         String argsString = " n/John Doe r/has 3 cats. ";
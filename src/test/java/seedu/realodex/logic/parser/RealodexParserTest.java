@@ -7,6 +7,8 @@ import static seedu.realodex.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.realodex.testutil.Assert.assertThrows;
 import static seedu.realodex.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
@@ -21,7 +23,10 @@ import seedu.realodex.logic.commands.FilterCommand;
 import seedu.realodex.logic.commands.HelpCommand;
 import seedu.realodex.logic.commands.ListCommand;
 import seedu.realodex.logic.commands.SortCommand;
+import seedu.realodex.logic.commands.StatsCommand;
+import seedu.realodex.logic.commands.UpcomingCommand;
 import seedu.realodex.logic.parser.exceptions.ParseException;
+import seedu.realodex.model.DayClock;
 import seedu.realodex.model.person.HousingType;
 import seedu.realodex.model.person.Name;
 import seedu.realodex.model.person.Person;
@@ -30,13 +35,15 @@ import seedu.realodex.model.person.predicates.HousingTypeMatchPredicate;
 import seedu.realodex.model.person.predicates.NameContainsKeyphrasePredicate;
 import seedu.realodex.model.person.predicates.RemarkContainsKeyphrasePredicate;
 import seedu.realodex.model.person.predicates.TagsMatchPredicate;
+import seedu.realodex.model.person.sorting.SortKey;
 import seedu.realodex.testutil.EditPersonDescriptorBuilder;
+import seedu.realodex.testutil.ManualClock;
 import seedu.realodex.testutil.PersonBuilder;
 import seedu.realodex.testutil.PersonUtil;
 
 public class RealodexParserTest {
 
-    private final RealodexParser parser = new RealodexParser();
+    private final RealodexParser parser = new RealodexParser(new DayClock(new ManualClock(LocalDate.of(2024, 6, 1))));
 
     @Test
     public void parseCommand_add() throws Exception {
@@ -284,6 +291,21 @@ public class RealodexParserTest {
         assertTrue(parser.parseCommand(SortCommand.COMMAND_WORD) instanceof SortCommand);
         assertTrue(parser.parseCommand(SortCommand.COMMAND_WORD.toUpperCase()) instanceof SortCommand);
         assertTrue(parser.parseCommand("soRt") instanceof SortCommand);
+        assertEquals(new SortCommand(List.of(SortKey.NAME, SortKey.INCOME)), parser.parseCommand("sort name income"));
+    }
+
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertEquals(new StatsCommand(false), parser.parseCommand(StatsCommand.COMMAND_WORD));
+        assertEquals(new StatsCommand(true), parser.parseCommand("STATS filtered"));
+        assertEquals(new HelpCommand("stats"), parser.parseCommand("stats help"));
+    }
+
+    @Test
+    public void parseCommand_upcoming() throws Exception {
+        assertEquals(new UpcomingCommand(20), parser.parseCommand(UpcomingCommand.COMMAND_WORD + " 20"));
+        assertEquals(new UpcomingCommand(3), parser.parseCommand("UPCOMING 3"));
+        assertEquals(new HelpCommand("upcoming"), parser.parseCommand("upcoming help"));
     }
 
     @Test
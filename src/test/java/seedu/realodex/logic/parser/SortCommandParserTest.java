@@ -0,0 +1,37 @@
+package seedu.realodex.logic.parser;
+
+import static seedu.realodex.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.realodex.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.realodex.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.realodex.logic.commands.SortCommand;
+import seedu.realodex.model.person.sorting.SortKey;
+
+public class SortCommandParserTest {
+
+    private final SortCommandParser parser = new SortCommandParser();
+
+    @Test
+    public void parse_noArgs_returnsSortByBirthday() {
+        assertParseSuccess(parser, "", new SortCommand(List.of(SortKey.BIRTHDAY)));
+        assertParseSuccess(parser, "   ", new SortCommand(List.of(SortKey.BIRTHDAY)));
+    }
+
+    @Test
+    public void parse_sortKeys_returnsSortByKeysInOrder() {
+        assertParseSuccess(parser, " name", new SortCommand(List.of(SortKey.NAME)));
+        assertParseSuccess(parser, " HOUSING  income family",
+                new SortCommand(List.of(SortKey.HOUSING_TYPE, SortKey.INCOME, SortKey.FAMILY)));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " age", expectedMessage);
+        assertParseFailure(parser, " name name", expectedMessage);
+    }
+}
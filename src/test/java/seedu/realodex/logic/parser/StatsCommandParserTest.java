@@ -0,0 +1,34 @@
+package seedu.realodex.logic.parser;
+
+import static seedu.realodex.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.realodex.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.realodex.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.realodex.logic.commands.StatsCommand;
+
+public class StatsCommandParserTest {
+
+    private final StatsCommandParser parser = new StatsCommandParser();
+
+    @Test
+    public void parse_noArgs_returnsStatsOfAllClients() {
+        assertParseSuccess(parser, "", new StatsCommand(false));
+        assertParseSuccess(parser, "   ", new StatsCommand(false));
+    }
+
+    @Test
+    public void parse_filteredKeyword_returnsStatsOfClientsListed() {
+        assertParseSuccess(parser, " filtered", new StatsCommand(true));
+        assertParseSuccess(parser, " FILTERED ", new StatsCommand(true));
+    }
+
+    @Test
+    public void parse_otherArgs_throwsParseException() {
+        assertParseFailure(parser, " filter",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " filtered all",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE));
+    }
+}
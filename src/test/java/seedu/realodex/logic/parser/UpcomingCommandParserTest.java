@@ -0,0 +1,30 @@
+package seedu.realodex.logic.parser;
+
+import static seedu.realodex.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.realodex.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.realodex.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.realodex.logic.commands.UpcomingCommand;
+
+public class UpcomingCommandParserTest {
+
+    private final UpcomingCommandParser parser = new UpcomingCommandParser();
+
+    @Test
+    public void parse_positiveCount_returnsUpcomingCommand() {
+        assertParseSuccess(parser, " 1", new UpcomingCommand(1));
+        assertParseSuccess(parser, "  20  ", new UpcomingCommand(20));
+    }
+
+    @Test
+    public void parse_invalidCount_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, UpcomingCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, " 0", expectedMessage);
+        assertParseFailure(parser, " -3", expectedMessage);
+        assertParseFailure(parser, " twenty", expectedMessage);
+        assertParseFailure(parser, " 2 3", expectedMessage);
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.realodex.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.realodex.testutil.Assert.assertThrows;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.realodex.model.person.Birthday;
+import seedu.realodex.testutil.ManualClock;
+
+public class DayClockTest {
+
+    private final ManualClock clock = new ManualClock(LocalDate.of(2023, 6, 3));
+    private final DayClock dayClock = new DayClock(clock);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new DayClock(null));
+    }
+
+    @Test
+    public void getToday() {
+        assertEquals(LocalDate.of(2023, 6, 3), dayClock.getToday());
+        // 3 Jun is day 155 of a leap year
+        assertEquals(155, dayClock.getTodayDayOfLeapYear());
+    }
+
+    @Test
+    public void getDaysUntil() {
+        // today
+        assertEquals(0, dayClock.getDaysUntil(155));
+
+        // later this year
+        assertEquals(3, dayClock.getDaysUntil(158));
+
+        // passed, so next year
+        assertEquals(365, dayClock.getDaysUntil(154));
+
+        // 29 Feb in a leap year
+        assertEquals(271, dayClock.getDaysUntil(60));
+
+        // 29 Feb falls on 1 Mar in a common year
+        DayClock beforeCommonYear = new DayClock(new ManualClock(LocalDate.of(2022, 6, 3)));
+        assertEquals(beforeCommonYear.getDaysUntil(61), beforeCommonYear.getDaysUntil(60));
+
+        // matches the count from the date
+        for (int day = 1; day <= Birthday.DAYS_IN_LEAP_YEAR; day++) {
+            assertEquals(Birthday.getDaysUntil(day, dayClock.getToday()), dayClock.getDaysUntil(day));
+        }
+    }
+
+    @Test
+    public void checkForNewDay_sameDay_doesNotNotifyListeners() {
+        List<LocalDate> notifiedDates = new ArrayList<>();
+        dayClock.addDayChangeListener(notifiedDates::add);
+
+        clock.advance(Duration.ofHours(23));
+        assertFalse(dayClock.checkForNewDay());
+        assertEquals(List.of(), notifiedDates);
+        assertEquals(LocalDate.of(2023, 6, 3), dayClock.getToday());
+    }
+
+    @Test
+    public void checkForNewDay_newDay_notifiesListenersOnce() {
+        List<LocalDate> notifiedDates = new ArrayList<>();
+        dayClock.addDayChangeListener(notifiedDates::add);
+
+        clock.advance(Duration.ofDays(1));
+        assertTrue(dayClock.checkForNewDay());
+        assertFalse(dayClock.checkForNewDay());
+        assertEquals(List.of(LocalDate.of(2023, 6, 4)), notifiedDates);
+
+        // the countdowns are brought up to date before the listeners are notified
+        assertEquals(156, dayClock.getTodayDayOfLeapYear());
+        assertEquals(2, dayClock.getDaysUntil(158));
+        assertEquals(365, dayClock.getDaysUntil(155));
+    }
+
+    @Test
+    public void addDayChangeListener_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> dayClock.addDayChangeListener(null));
+    }
+}
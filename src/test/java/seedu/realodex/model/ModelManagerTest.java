@@ -7,14 +7,29 @@ import static seedu.realodex.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.realodex.testutil.Assert.assertThrows;
 import static seedu.realodex.testutil.TypicalPersons.ALICE;
 import static seedu.realodex.testutil.TypicalPersons.BENSON;
+import static seedu.realodex.testutil.TypicalPersons.CARL;
+import static seedu.realodex.testutil.TypicalPersons.DANIEL;
+import static seedu.realodex.testutil.TypicalPersons.ELLE;
+import static seedu.realodex.testutil.TypicalPersons.FIONA;
+import static seedu.realodex.testutil.TypicalPersons.GEORGE;
+import static seedu.realodex.testutil.TypicalPersons.getTypicalRealodex;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.realodex.commons.core.GuiSettings;
+import seedu.realodex.model.person.Person;
 import seedu.realodex.model.person.predicates.NameContainsKeyphrasePredicate;
+import seedu.realodex.model.person.sorting.SortKey;
+import seedu.realodex.testutil.ManualClock;
+import seedu.realodex.testutil.PersonBuilder;
 import seedu.realodex.testutil.RealodexBuilder;
 
 public class ModelManagerTest {
@@ -92,6 +107,238 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void updateFilteredPersonList_narrowerPredicate_testsOnlyFilteredPersons() {
+        modelManager = new ModelManager(getTypicalRealodex(), new UserPrefs());
+        modelManager.updateFilteredPersonList(new NameContainsKeyphrasePredicate("e"));
+        int filteredCount = modelManager.getFilteredPersonList().size();
+
+        int[] testCount = new int[1];
+        modelManager.updateFilteredPersonList(new NameContainsKeyphrasePredicate("meier") {
+            @Override
+            public boolean test(Person person) {
+                testCount[0]++;
+                return super.test(person);
+            }
+        });
+        assertEquals(Arrays.asList(BENSON, DANIEL), modelManager.getFilteredPersonList());
+        assertEquals(filteredCount, testCount[0]);
+
+        // wider predicate is looked up from the whole realodex
+        modelManager.updateFilteredPersonList(new NameContainsKeyphrasePredicate("a"));
+        assertEquals(Arrays.asList(ALICE, CARL, DANIEL, FIONA), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_aboveParallelThreshold_returnsMatchesInOrder() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setParallelFilterThreshold(1);
+        modelManager = new ModelManager(getTypicalRealodex(), userPrefs);
+        modelManager.updateFilteredPersonList(person -> person.getName().fullName.contains("Meier"));
+        assertEquals(Arrays.asList(BENSON, DANIEL), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_personsAddedEditedDeleted_testsOnlyChangedPersons() {
+        modelManager = new ModelManager(getTypicalRealodex(), new UserPrefs());
+        int[] testCount = new int[1];
+        modelManager.updateFilteredPersonList(person -> {
+            testCount[0]++;
+            return person.getName().fullName.contains("e");
+        });
+        assertEquals(Arrays.asList(ALICE, BENSON, DANIEL, ELLE, GEORGE), modelManager.getFilteredPersonList());
+
+        // edited into the filter -> inserted in stored order
+        testCount[0] = 0;
+        Person editedCarl = new PersonBuilder(CARL).withName("Carl Kurze").build();
+        modelManager.setPerson(CARL, editedCarl);
+        assertEquals(Arrays.asList(ALICE, BENSON, editedCarl, DANIEL, ELLE, GEORGE),
+                modelManager.getFilteredPersonList());
+
+        // edited out of the filter
+        Person editedBenson = new PersonBuilder(BENSON).withName("Bonson Kurz").build();
+        modelManager.setPerson(BENSON, editedBenson);
+        assertEquals(Arrays.asList(ALICE, editedCarl, DANIEL, ELLE, GEORGE), modelManager.getFilteredPersonList());
+
+        // edited within the filter
+        Person editedElle = new PersonBuilder(ELLE).withIncome("1").build();
+        modelManager.setPerson(ELLE, editedElle);
+        assertEquals(Arrays.asList(ALICE, editedCarl, DANIEL, editedElle, GEORGE),
+                modelManager.getFilteredPersonList());
+
+        // deleted in and out of the filter
+        modelManager.deletePerson(DANIEL);
+        modelManager.deletePerson(FIONA);
+        assertEquals(Arrays.asList(ALICE, editedCarl, editedElle, GEORGE), modelManager.getFilteredPersonList());
+        assertEquals(3, testCount[0]);
+
+        // still lines up with the stored order afterwards
+        Person editedBensonAgain = new PersonBuilder(editedBenson).withName("Benson Kurz").build();
+        modelManager.setPerson(editedBenson, editedBensonAgain);
+        modelManager.setPerson(GEORGE, new PersonBuilder(GEORGE).withName("Gorgo Bast").build());
+        assertEquals(Arrays.asList(ALICE, editedBensonAgain, editedCarl, editedElle),
+                modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void sortFilteredPersonList_nullSortKeys_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelManager.sortFilteredPersonList(null));
+    }
+
+    @Test
+    public void sortFilteredPersonList_noSortKeys_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> modelManager.sortFilteredPersonList(List.of()));
+    }
+
+    @Test
+    public void sortFilteredPersonList_multipleKeys_sortsWithoutChangingStoredOrder() {
+        modelManager = new ModelManager(getTypicalRealodex(), new UserPrefs());
+        modelManager.sortFilteredPersonList(List.of(SortKey.HOUSING_TYPE, SortKey.INCOME));
+        assertEquals(Arrays.asList(ALICE, ELLE, FIONA, BENSON, GEORGE, CARL, DANIEL),
+                modelManager.getFilteredPersonList());
+        assertEquals(getTypicalRealodex().getPersonList(), modelManager.getRealodex().getPersonList());
+
+        // the order is kept when the filter changes
+        modelManager.updateFilteredPersonList(new NameContainsKeyphrasePredicate("e"));
+        assertEquals(Arrays.asList(ALICE, ELLE, BENSON, GEORGE, DANIEL), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void sortFilteredPersonList_personsAddedEditedDeleted_staysSorted() {
+        modelManager = new ModelManager(getTypicalRealodex(), new UserPrefs());
+        modelManager.sortFilteredPersonList(List.of(SortKey.HOUSING_TYPE, SortKey.INCOME));
+
+        Person newCondominiumOwner = new PersonBuilder().withName("Hoon Meier").withIncome("25000")
+                .withHousingType("Condominium").build();
+        modelManager.addPerson(newCondominiumOwner);
+        assertEquals(Arrays.asList(ALICE, ELLE, FIONA, BENSON, newCondominiumOwner, GEORGE, CARL, DANIEL),
+                modelManager.getFilteredPersonList());
+
+        Person editedAlice = new PersonBuilder(ALICE).withHousingType("Good Class Bungalow").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        assertEquals(Arrays.asList(ELLE, FIONA, BENSON, newCondominiumOwner, GEORGE, CARL, editedAlice, DANIEL),
+                modelManager.getFilteredPersonList());
+
+        modelManager.deletePerson(GEORGE);
+        assertEquals(Arrays.asList(ELLE, FIONA, BENSON, newCondominiumOwner, CARL, editedAlice, DANIEL),
+                modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void sortFilteredPersonList_filteredPersonEdited_staysFiltered() {
+        modelManager = new ModelManager(getTypicalRealodex(), new UserPrefs());
+        modelManager.sortFilteredPersonList(List.of(SortKey.INCOME));
+        modelManager.updateFilteredPersonList(new NameContainsKeyphrasePredicate("meier"));
+
+        // edited out of the filter
+        Person editedBenson = new PersonBuilder(BENSON).withName("Benson Kurz").build();
+        modelManager.setPerson(BENSON, editedBenson);
+        assertEquals(Arrays.asList(DANIEL), modelManager.getFilteredPersonList());
+
+        // edited into the filter
+        Person editedCarl = new PersonBuilder(CARL).withName("Carl Meier").withIncome("50000").build();
+        modelManager.setPerson(CARL, editedCarl);
+        assertEquals(Arrays.asList(DANIEL, editedCarl), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void clearSort_sortedList_showsStoredOrder() {
+        modelManager = new ModelManager(getTypicalRealodex(), new UserPrefs());
+        modelManager.sortFilteredPersonList(List.of(SortKey.HOUSING_TYPE, SortKey.INCOME));
+        modelManager.clearSort();
+        assertEquals(getTypicalRealodex().getPersonList(), modelManager.getFilteredPersonList());
+
+        // persons are kept in stored order as the list is filtered and changed
+        modelManager.updateFilteredPersonList(new NameContainsKeyphrasePredicate("e"));
+        modelManager.deletePerson(BENSON);
+        Person editedCarl = new PersonBuilder(CARL).withName("Carl Meier").build();
+        modelManager.setPerson(CARL, editedCarl);
+        assertEquals(Arrays.asList(ALICE, editedCarl, DANIEL, ELLE, GEORGE), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void clearSort_unsortedList_keepsList() {
+        modelManager = new ModelManager(getTypicalRealodex(), new UserPrefs());
+        modelManager.updateFilteredPersonList(new NameContainsKeyphrasePredicate("meier"));
+        modelManager.clearSort();
+        assertEquals(Arrays.asList(BENSON, DANIEL), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void refreshForDay_sortedByBirthday_rotatesPassedBirthdaysToEnd() {
+        // GEORGE 23 Apr (114), ALICE, BENSON and FIONA 3 Jun (155), CARL 6 Jun (158), DANIEL 25 Dec (360),
+        // ELLE 1 Jan (1)
+        Person noBirthday = new PersonBuilder().withName("Hoon Meier").withBirthday("").build();
+        Realodex realodex = getTypicalRealodex();
+        realodex.addPerson(noBirthday);
+        modelManager = new ModelManager(realodex, new UserPrefs());
+        modelManager.sortFilteredPersonList(List.of(SortKey.BIRTHDAY), 150);
+        assertEquals(Arrays.asList(ALICE, BENSON, FIONA, CARL, DANIEL, ELLE, GEORGE, noBirthday),
+                modelManager.getFilteredPersonList());
+
+        modelManager.refreshForDay(156);
+        assertEquals(Arrays.asList(CARL, DANIEL, ELLE, GEORGE, ALICE, BENSON, FIONA, noBirthday),
+                modelManager.getFilteredPersonList());
+
+        // wraps around the end of the year
+        modelManager.refreshForDay(2);
+        assertEquals(Arrays.asList(GEORGE, ALICE, BENSON, FIONA, CARL, DANIEL, ELLE, noBirthday),
+                modelManager.getFilteredPersonList());
+
+        // stays sorted from the new day under edits
+        Person editedElle = new PersonBuilder(ELLE).withBirthday("2Jan2004").build();
+        modelManager.setPerson(ELLE, editedElle);
+        assertEquals(Arrays.asList(editedElle, GEORGE, ALICE, BENSON, FIONA, CARL, DANIEL, noBirthday),
+                modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void refreshForDay_birthdayAfterOtherKeys_sortsAgain() {
+        modelManager = new ModelManager(getTypicalRealodex(), new UserPrefs());
+        modelManager.sortFilteredPersonList(List.of(SortKey.FAMILY, SortKey.BIRTHDAY), 150);
+        modelManager.refreshForDay(156);
+
+        ModelManager expectedModelManager = new ModelManager(getTypicalRealodex(), new UserPrefs());
+        expectedModelManager.sortFilteredPersonList(List.of(SortKey.FAMILY, SortKey.BIRTHDAY), 156);
+        assertEquals(expectedModelManager.getFilteredPersonList(), modelManager.getFilteredPersonList());
+        assertEquals(Arrays.asList(CARL, DANIEL, ELLE, GEORGE, ALICE, BENSON, FIONA),
+                modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void refreshForDay_notSortedByBirthday_keepsOrder() {
+        modelManager = new ModelManager(getTypicalRealodex(), new UserPrefs());
+        modelManager.sortFilteredPersonList(List.of(SortKey.HOUSING_TYPE), 150);
+        List<Person> sortedPersons = List.copyOf(modelManager.getFilteredPersonList());
+        modelManager.refreshForDay(200);
+        assertEquals(sortedPersons, modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void refreshForToday_dayChanged_rotatesOrderAndNotifiesListeners() {
+        // 29 May is day 150 of a leap year
+        ManualClock clock = new ManualClock(LocalDate.of(2024, 5, 29));
+        DayClock dayClock = new DayClock(clock);
+        modelManager = new ModelManager(getTypicalRealodex(), new UserPrefs(), dayClock);
+        modelManager.sortFilteredPersonList(List.of(SortKey.BIRTHDAY));
+        List<LocalDate> notifiedDates = new ArrayList<>();
+        dayClock.addDayChangeListener(notifiedDates::add);
+
+        // same day -> order kept
+        clock.advance(Duration.ofHours(12));
+        modelManager.refreshForToday();
+        assertEquals(Arrays.asList(ALICE, BENSON, FIONA, CARL, DANIEL, ELLE, GEORGE),
+                modelManager.getFilteredPersonList());
+        assertEquals(List.of(), notifiedDates);
+
+        // 4 Jun, day 156 -> passed birthdays rotated to the end
+        clock.setDate(LocalDate.of(2024, 6, 4));
+        modelManager.refreshForToday();
+        assertEquals(Arrays.asList(CARL, DANIEL, ELLE, GEORGE, ALICE, BENSON, FIONA),
+                modelManager.getFilteredPersonList());
+        assertEquals(List.of(LocalDate.of(2024, 6, 4)), notifiedDates);
+    }
+
     @Test
     public void equals() {
         Realodex realodex = new RealodexBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -0,0 +1,97 @@
+package seedu.realodex.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.realodex.testutil.Assert.assertThrows;
+import static seedu.realodex.testutil.TypicalPersons.ALICE;
+import static seedu.realodex.testutil.TypicalPersons.BENSON;
+import static seedu.realodex.testutil.TypicalPersons.CARL;
+import static seedu.realodex.testutil.TypicalPersons.DANIEL;
+import static seedu.realodex.testutil.TypicalPersons.ELLE;
+import static seedu.realodex.testutil.TypicalPersons.FIONA;
+import static seedu.realodex.testutil.TypicalPersons.GEORGE;
+import static seedu.realodex.testutil.TypicalPersons.getTypicalRealodex;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.realodex.model.person.HousingType;
+import seedu.realodex.model.person.Person;
+import seedu.realodex.model.person.predicates.HousingTypeMatchPredicate;
+
+public class PersonCursorTest {
+
+    private final Realodex realodex = getTypicalRealodex();
+
+    @Test
+    public void queryPersons_invalidArguments_throwsException() {
+        assertThrows(NullPointerException.class, () -> realodex.queryPersons(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> realodex.queryPersons(person -> true, 0));
+    }
+
+    @Test
+    public void next_allPersons_returnsFullPagesThenRest() {
+        PersonCursor cursor = realodex.queryPersons(person -> true, 3);
+        assertEquals(List.of(ALICE, BENSON, CARL), cursor.next());
+        assertEquals(List.of(DANIEL, ELLE, FIONA), cursor.next());
+        assertEquals(List.of(GEORGE), cursor.next());
+        assertFalse(cursor.hasNext());
+        assertThrows(NoSuchElementException.class, cursor::next);
+    }
+
+    @Test
+    public void next_indexedPredicate_returnsMatchesInListOrder() {
+        PersonCursor cursor = realodex.queryPersons(new HousingTypeMatchPredicate(new HousingType("HDB")), 2);
+        List<Person> persons = new ArrayList<>();
+        cursor.forEachRemaining(persons::addAll);
+        assertEquals(List.of(ALICE, ELLE, FIONA), persons);
+    }
+
+    @Test
+    public void next_noMatches_hasNoPages() {
+        assertFalse(realodex.queryPersons(person -> false, 5).hasNext());
+    }
+
+    @Test
+    public void next_stoppedEarly_testsOnlyPersonsNeededForPage() {
+        AtomicInteger testCount = new AtomicInteger();
+        Predicate<Person> countingPredicate = person -> {
+            testCount.incrementAndGet();
+            return true;
+        };
+        PersonCursor cursor = realodex.queryPersons(countingPredicate, 2);
+        assertEquals(List.of(ALICE, BENSON), cursor.next());
+        // the first person of the next page has been found, the rest of the persons are untested
+        assertEquals(3, testCount.get());
+    }
+
+    @Test
+    public void next_removedPersonBeforeCursorCreated_skipsEmptySlot() {
+        realodex.removePerson(BENSON);
+        PersonCursor cursor = realodex.queryPersons(person -> true, 2);
+        assertEquals(List.of(ALICE, CARL), cursor.next());
+    }
+
+    @Test
+    public void hasNext_realodexModified_throwsConcurrentModificationException() {
+        PersonCursor cursor = realodex.queryPersons(person -> true, 2);
+        cursor.next();
+        realodex.removePerson(GEORGE);
+        assertThrows(ConcurrentModificationException.class, cursor::hasNext);
+        assertThrows(ConcurrentModificationException.class, cursor::next);
+    }
+
+    @Test
+    public void queryPersons_modelManager_leavesFilteredListUnchanged() {
+        ModelManager modelManager = new ModelManager(realodex, new UserPrefs());
+        PersonCursor cursor = modelManager.queryPersons(person -> person.getName().fullName.contains("Meier"), 10);
+        assertEquals(List.of(BENSON, DANIEL), cursor.next());
+        assertEquals(7, modelManager.getFilteredPersonList().size());
+    }
+}
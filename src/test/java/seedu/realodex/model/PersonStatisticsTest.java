@@ -0,0 +1,96 @@
+package seedu.realodex.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.realodex.testutil.Assert.assertThrows;
+import static seedu.realodex.testutil.TypicalPersons.ALICE;
+import static seedu.realodex.testutil.TypicalPersons.BENSON;
+import static seedu.realodex.testutil.TypicalPersons.getTypicalRealodex;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.realodex.model.person.HousingType.House;
+import seedu.realodex.model.person.Person;
+import seedu.realodex.model.person.Tag.Role;
+import seedu.realodex.testutil.PersonBuilder;
+
+public class PersonStatisticsTest {
+
+    private final PersonStatistics statistics = new PersonStatistics();
+
+    @Test
+    public void add_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> statistics.add(null));
+    }
+
+    @Test
+    public void add_persons_countsEachField() {
+        statistics.add(ALICE); // HDB buyer, income 10000, family 4
+        statistics.add(BENSON); // condominium buyer and seller, income 20000, family 4
+        statistics.add(new PersonBuilder().withHousingType("HDB").withTags("seller").withIncome("0")
+                .withFamily("1").build());
+
+        assertEquals(3, statistics.getCount());
+        assertEquals(2, statistics.getCount(House.HDB));
+        assertEquals(1, statistics.getCount(House.CONDOMINIUM));
+        assertEquals(0, statistics.getCount(House.LANDED_PROPERTY));
+        assertEquals(2, statistics.getCount(Role.BUYER));
+        assertEquals(2, statistics.getCount(Role.SELLER));
+        assertEquals(1, statistics.getIncomeBracketCount(0));
+        assertEquals(1, statistics.getIncomeBracketCount(2));
+        assertEquals(1, statistics.getIncomeBracketCount(3));
+        assertEquals(Map.of(1, 1, 4, 2), statistics.getFamilySizeCounts());
+    }
+
+    @Test
+    public void remove_countedPerson_stopsCountingIt() {
+        Person single = new PersonBuilder().withFamily("1").build();
+        statistics.add(ALICE);
+        statistics.add(single);
+        statistics.remove(single);
+
+        assertEquals(1, statistics.getCount());
+        assertEquals(1, statistics.getCount(House.HDB));
+        assertEquals(Map.of(4, 1), statistics.getFamilySizeCounts());
+    }
+
+    @Test
+    public void clear_countedPersons_resetsCounts() {
+        statistics.add(ALICE);
+        statistics.clear();
+        assertEquals(0, statistics.getCount());
+        assertEquals(0, statistics.getCount(Role.BUYER));
+        assertEquals(0, statistics.getIncomeBracketCount(2));
+        assertEquals(Map.of(), statistics.getFamilySizeCounts());
+    }
+
+    @Test
+    public void incomeBracketOf_income_returnsBracketContainingIncome() {
+        assertEquals(0, PersonStatistics.incomeBracketOf(0));
+        assertEquals(0, PersonStatistics.incomeBracketOf(4999));
+        assertEquals(1, PersonStatistics.incomeBracketOf(5000));
+        assertEquals(PersonStatistics.INCOME_BRACKET_LOWER_BOUNDS.length - 1,
+                PersonStatistics.incomeBracketOf(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void realodexStatistics_personsChanged_keptUpToDate() {
+        Realodex realodex = getTypicalRealodex();
+        PersonStatistics realodexStatistics = realodex.getStatistics();
+        assertEquals(7, realodexStatistics.getCount());
+        assertEquals(3, realodexStatistics.getCount(House.HDB));
+
+        Person editedAlice = new PersonBuilder(ALICE).withHousingType("Condominium").build();
+        realodex.setPerson(ALICE, editedAlice);
+        assertEquals(2, realodexStatistics.getCount(House.HDB));
+        assertEquals(3, realodexStatistics.getCount(House.CONDOMINIUM));
+
+        realodex.removePerson(BENSON);
+        assertEquals(6, realodexStatistics.getCount());
+        assertEquals(1, realodexStatistics.getCount(Role.SELLER));
+
+        realodex.resetData(new Realodex());
+        assertEquals(0, realodexStatistics.getCount());
+    }
+}
@@ -7,6 +7,11 @@ import static seedu.realodex.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.realodex.logic.commands.CommandTestUtil.VALID_TAG_AMY;
 import static seedu.realodex.testutil.Assert.assertThrows;
 import static seedu.realodex.testutil.TypicalPersons.ALICE;
+import static seedu.realodex.testutil.TypicalPersons.BENSON;
+import static seedu.realodex.testutil.TypicalPersons.CARL;
+import static seedu.realodex.testutil.TypicalPersons.DANIEL;
+import static seedu.realodex.testutil.TypicalPersons.ELLE;
+import static seedu.realodex.testutil.TypicalPersons.FIONA;
 import static seedu.realodex.testutil.TypicalPersons.getTypicalRealodex;
 
 import java.util.Arrays;
@@ -18,8 +23,17 @@ import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.realodex.model.person.HousingType;
 import seedu.realodex.model.person.Person;
+import seedu.realodex.model.person.Tag;
 import seedu.realodex.model.person.exceptions.DuplicatePersonException;
+import seedu.realodex.model.person.predicates.BirthdayIsInMonthPredicate;
+import seedu.realodex.model.person.predicates.FamilyInRangePredicate;
+import seedu.realodex.model.person.predicates.HousingTypeMatchPredicate;
+import seedu.realodex.model.person.predicates.IncomeInRangePredicate;
+import seedu.realodex.model.person.predicates.NameContainsKeyphrasePredicate;
+import seedu.realodex.model.person.predicates.NumericRange;
+import seedu.realodex.model.person.predicates.TagsMatchPredicate;
 import seedu.realodex.testutil.PersonBuilder;
 
 public class RealodexTest {
@@ -83,6 +97,68 @@ public class RealodexTest {
         assertThrows(UnsupportedOperationException.class, () -> realodex.getPersonList().remove(0));
     }
 
+    @Test
+    public void filterPersons_indexedPredicate_returnsMatchesInListOrder() {
+        realodex.resetData(getTypicalRealodex());
+        HousingTypeMatchPredicate predicate = new HousingTypeMatchPredicate(new HousingType("HDB"));
+        assertEquals(Arrays.asList(ALICE, ELLE, FIONA), realodex.filterPersons(predicate));
+    }
+
+    @Test
+    public void filterPersons_indexedPredicateAfterEdit_reflectsEdit() {
+        realodex.resetData(getTypicalRealodex());
+        Person editedAlice = new PersonBuilder(ALICE).withHousingType("Condominium").withTags("seller").build();
+        realodex.setPerson(ALICE, editedAlice);
+        realodex.removePerson(FIONA);
+
+        assertEquals(Arrays.asList(ELLE),
+                realodex.filterPersons(new HousingTypeMatchPredicate(new HousingType("HDB"))));
+        assertEquals(Arrays.asList(editedAlice, BENSON),
+                realodex.filterPersons(new TagsMatchPredicate(Collections.singleton(new Tag("seller")))));
+    }
+
+    @Test
+    public void filterPersons_birthdayInMonth_returnsMatchesInListOrder() {
+        realodex.resetData(getTypicalRealodex());
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL, FIONA),
+                realodex.filterPersons(new BirthdayIsInMonthPredicate("jun")));
+        assertEquals(Collections.emptyList(), realodex.filterPersons(new BirthdayIsInMonthPredicate("feb")));
+    }
+
+    @Test
+    public void filterPersons_numericRange_returnsMatchesInListOrder() {
+        realodex.resetData(getTypicalRealodex());
+        assertEquals(Arrays.asList(BENSON, CARL),
+                realodex.filterPersons(new IncomeInRangePredicate(new NumericRange(15000, 30000))));
+        Person editedCarl = new PersonBuilder(CARL).withIncome("90000").withFamily("6").build();
+        realodex.setPerson(CARL, editedCarl);
+        assertEquals(Arrays.asList(BENSON),
+                realodex.filterPersons(new IncomeInRangePredicate(new NumericRange(15000, 30000))));
+        assertEquals(Arrays.asList(editedCarl),
+                realodex.filterPersons(new FamilyInRangePredicate(new NumericRange(5, 7))));
+    }
+
+    @Test
+    public void filterPersons_repeatedPredicateAfterEdit_reusesPatchedResult() {
+        realodex.resetData(getTypicalRealodex());
+        HousingTypeMatchPredicate predicate = new HousingTypeMatchPredicate(new HousingType("HDB"));
+        realodex.filterPersons(predicate);
+        Person editedBenson = new PersonBuilder(BENSON).withHousingType("HDB").build();
+        realodex.setPerson(BENSON, editedBenson);
+        realodex.removePerson(FIONA);
+
+        assertEquals(Arrays.asList(ALICE, editedBenson, ELLE),
+                realodex.filterPersons(new HousingTypeMatchPredicate(new HousingType("HDB"))));
+        assertEquals(1, realodex.getQueryCache().getHitCount());
+    }
+
+    @Test
+    public void filterPersons_unindexedPredicate_returnsMatches() {
+        realodex.resetData(getTypicalRealodex());
+        assertEquals(Arrays.asList(BENSON, DANIEL),
+                realodex.filterPersons(new NameContainsKeyphrasePredicate("Meier")));
+    }
+
     @Test
     public void toStringMethod() {
         String expected = Realodex.class.getCanonicalName() + "{persons=" + realodex.getPersonList() + "}";
@@ -1,5 +1,7 @@
 package seedu.realodex.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static seedu.realodex.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -18,4 +20,15 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setRealodexFilePath(null));
     }
 
+    @Test
+    public void resetData_differentParallelFilterThreshold_copiesThreshold() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertEquals(UserPrefs.DEFAULT_PARALLEL_FILTER_THRESHOLD, userPrefs.getParallelFilterThreshold());
+        userPrefs.setParallelFilterThreshold(5);
+        UserPrefs copy = new UserPrefs(userPrefs);
+        assertEquals(5, copy.getParallelFilterThreshold());
+        assertEquals(userPrefs, copy);
+        assertNotEquals(new UserPrefs(), copy);
+    }
+
 }
@@ -0,0 +1,129 @@
+package seedu.realodex.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.realodex.testutil.TypicalPersons.ALICE;
+import static seedu.realodex.testutil.TypicalPersons.CARL;
+import static seedu.realodex.testutil.TypicalPersons.DANIEL;
+import static seedu.realodex.testutil.TypicalPersons.ELLE;
+
+import java.util.BitSet;
+import java.util.Calendar;
+import java.util.OptionalInt;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.realodex.model.person.Birthday;
+import seedu.realodex.model.person.Person;
+import seedu.realodex.testutil.PersonBuilder;
+
+public class BirthdayIndexTest {
+
+    private final BirthdayIndex birthdayIndex = new BirthdayIndex();
+
+    @Test
+    public void getMonth_indexedPersons_returnsSlotsInMonth() {
+        birthdayIndex.add(0, ALICE);
+        birthdayIndex.add(1, DANIEL);
+        birthdayIndex.add(2, CARL);
+        assertEquals(bitSetOf(0, 2), birthdayIndex.getMonth(Calendar.JUNE));
+        assertEquals(bitSetOf(1), birthdayIndex.getMonth(Calendar.DECEMBER));
+        assertTrue(birthdayIndex.getMonth(Calendar.MARCH).isEmpty());
+    }
+
+    @Test
+    public void countMonth_indexedPersons_returnsNumberOfSlotsInMonth() {
+        birthdayIndex.add(0, ALICE);
+        birthdayIndex.add(1, DANIEL);
+        birthdayIndex.add(2, CARL);
+        assertEquals(2, birthdayIndex.countMonth(Calendar.JUNE));
+        assertEquals(0, birthdayIndex.countMonth(Calendar.MARCH));
+    }
+
+    @Test
+    public void getDays_indexedPersons_returnsSlotsInRange() {
+        birthdayIndex.add(0, ALICE); // 3 Jun
+        birthdayIndex.add(1, DANIEL); // 25 Dec
+        birthdayIndex.add(2, CARL); // 6 Jun
+        birthdayIndex.add(3, ELLE); // 1 Jan
+        assertEquals(bitSetOf(3), birthdayIndex.getDays(1, 1));
+        assertEquals(bitSetOf(0, 2), birthdayIndex.getDays(155, 158));
+        assertEquals(bitSetOf(0, 1, 2, 3), birthdayIndex.getDays(1, Birthday.DAYS_IN_LEAP_YEAR));
+    }
+
+    @Test
+    public void countDays_indexedPersons_returnsNumberOfSlotsInRange() {
+        birthdayIndex.add(0, ALICE); // 3 Jun
+        birthdayIndex.add(1, DANIEL); // 25 Dec
+        birthdayIndex.add(2, CARL); // 6 Jun
+        assertEquals(2, birthdayIndex.countDays(155, 158));
+        assertEquals(2, birthdayIndex.countDays(156, 360));
+        assertEquals(1, birthdayIndex.countDays(159, 360));
+        assertEquals(0, birthdayIndex.countDays(1, 154));
+    }
+
+    @Test
+    public void findDayOfNthBirthday_indexedPersons_returnsDayOfNthBirthday() {
+        birthdayIndex.add(0, ALICE); // 3 Jun
+        birthdayIndex.add(1, DANIEL); // 25 Dec
+        birthdayIndex.add(2, CARL); // 6 Jun
+        birthdayIndex.add(3, ELLE); // 1 Jan
+        assertEquals(OptionalInt.of(155), birthdayIndex.findDayOfNthBirthday(1, 2));
+        assertEquals(OptionalInt.of(158), birthdayIndex.findDayOfNthBirthday(156, 1));
+
+        // wraps around the end of the year
+        assertEquals(OptionalInt.of(1), birthdayIndex.findDayOfNthBirthday(361, 1));
+        assertEquals(OptionalInt.of(155), birthdayIndex.findDayOfNthBirthday(300, 3));
+
+        // fewer birthdays than requested
+        assertEquals(OptionalInt.of(360), birthdayIndex.findDayOfNthBirthday(1, 10));
+    }
+
+    @Test
+    public void findDayOfNthBirthday_sharedBirthday_countsEveryPerson() {
+        birthdayIndex.add(0, ALICE);
+        birthdayIndex.add(1, new PersonBuilder(CARL).withBirthday("03Jun1990").build());
+        birthdayIndex.add(2, DANIEL);
+        assertEquals(OptionalInt.of(155), birthdayIndex.findDayOfNthBirthday(1, 2));
+        assertEquals(OptionalInt.of(360), birthdayIndex.findDayOfNthBirthday(1, 3));
+    }
+
+    @Test
+    public void findDayOfNthBirthday_noBirthdays_returnsEmpty() {
+        birthdayIndex.add(0, new PersonBuilder(ALICE).withBirthday("").build());
+        assertFalse(birthdayIndex.findDayOfNthBirthday(1, 1).isPresent());
+    }
+
+    @Test
+    public void add_unspecifiedBirthday_notIndexed() {
+        Person noBirthday = new PersonBuilder(ALICE).withBirthday("").build();
+        birthdayIndex.add(0, noBirthday);
+        assertTrue(birthdayIndex.getDays(1, Birthday.DAYS_IN_LEAP_YEAR).isEmpty());
+    }
+
+    @Test
+    public void remove_indexedPerson_clearsSlot() {
+        birthdayIndex.add(0, ALICE);
+        birthdayIndex.add(1, CARL);
+        birthdayIndex.remove(0, ALICE);
+        assertEquals(bitSetOf(1), birthdayIndex.getMonth(Calendar.JUNE));
+        assertEquals(bitSetOf(1), birthdayIndex.getDays(1, Birthday.DAYS_IN_LEAP_YEAR));
+    }
+
+    @Test
+    public void clear_indexedPersons_emptiesIndex() {
+        birthdayIndex.add(0, ALICE);
+        birthdayIndex.clear();
+        assertTrue(birthdayIndex.getMonth(Calendar.JUNE).isEmpty());
+        assertTrue(birthdayIndex.getDays(1, Birthday.DAYS_IN_LEAP_YEAR).isEmpty());
+    }
+
+    private static BitSet bitSetOf(int... slots) {
+        BitSet bitSet = new BitSet();
+        for (int slot : slots) {
+            bitSet.set(slot);
+        }
+        return bitSet;
+    }
+}
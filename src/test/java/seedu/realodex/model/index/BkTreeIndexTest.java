@@ -0,0 +1,107 @@
+package seedu.realodex.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.realodex.testutil.Assert.assertThrows;
+import static seedu.realodex.testutil.TypicalPersons.ALICE;
+import static seedu.realodex.testutil.TypicalPersons.BENSON;
+import static seedu.realodex.testutil.TypicalPersons.DANIEL;
+
+import java.util.BitSet;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.realodex.model.person.Person;
+import seedu.realodex.model.person.predicates.NameIsCloseToKeyphrasePredicate;
+import seedu.realodex.testutil.PersonBuilder;
+
+public class BkTreeIndexTest {
+
+    private final BkTreeIndex nameIndex = new BkTreeIndex(person -> person.getName().fullName);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BkTreeIndex(null));
+    }
+
+    @Test
+    public void search_misspelledName_returnsSlotsWithinDistance() {
+        nameIndex.add(0, ALICE); // Alice Pauline
+        nameIndex.add(1, BENSON); // Benson Meier
+        nameIndex.add(2, DANIEL); // Daniel Meier
+        assertEquals(bitSetOf(1), nameIndex.search("bensen meyer", 2));
+        assertEquals(bitSetOf(1, 2), nameIndex.search("BENSON MEIER", 6));
+        assertEquals(bitSetOf(0), nameIndex.search("Alice Pauline", 0));
+        assertTrue(nameIndex.search("bensen meyer", 1).isEmpty());
+    }
+
+    @Test
+    public void search_turkishDefaultLocale_agreesWithPredicate() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(new Locale("tr", "TR"));
+        try {
+            Person person = new PersonBuilder().withName("TITLE Owner").build();
+            nameIndex.add(0, person);
+            assertEquals(bitSetOf(0), nameIndex.search("title owner", 0));
+            assertTrue(new NameIsCloseToKeyphrasePredicate("title owner").test(person));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    public void search_sameNameInSeveralSlots_returnsAllSlots() {
+        nameIndex.add(0, ALICE);
+        nameIndex.add(3, new PersonBuilder().withName("alice pauline").build());
+        assertEquals(bitSetOf(0, 3), nameIndex.search("alise pauline", 1));
+        assertEquals(1, nameIndex.size());
+    }
+
+    @Test
+    public void search_emptyIndex_returnsEmpty() {
+        assertTrue(nameIndex.search("alice", 3).isEmpty());
+    }
+
+    @Test
+    public void remove_indexedPerson_noLongerMatches() {
+        nameIndex.add(0, ALICE);
+        nameIndex.add(1, BENSON);
+        nameIndex.add(2, DANIEL);
+        nameIndex.remove(1, BENSON);
+        assertEquals(bitSetOf(2), nameIndex.search("benson meier", 6));
+        assertEquals(2, nameIndex.size());
+    }
+
+    @Test
+    public void remove_mostPersons_remainingPersonsStillFound() {
+        Person[] persons = new Person[20];
+        for (int i = 0; i < persons.length; i++) {
+            persons[i] = new PersonBuilder().withName("Person " + (char) ('a' + i)).build();
+            nameIndex.add(i, persons[i]);
+        }
+        // removing all but the last few persons drops their nodes from the tree
+        for (int i = 0; i < 17; i++) {
+            nameIndex.remove(i, persons[i]);
+        }
+        assertEquals(3, nameIndex.size());
+        assertEquals(bitSetOf(17, 18, 19), nameIndex.search("person", 2));
+        assertEquals(bitSetOf(18), nameIndex.search("person s", 0));
+    }
+
+    @Test
+    public void clear_indexedPersons_noLongerMatch() {
+        nameIndex.add(0, ALICE);
+        nameIndex.clear();
+        assertTrue(nameIndex.search("alice pauline", 0).isEmpty());
+        assertEquals(0, nameIndex.size());
+    }
+
+    private static BitSet bitSetOf(int... slots) {
+        BitSet bitSet = new BitSet();
+        for (int slot : slots) {
+            bitSet.set(slot);
+        }
+        return bitSet;
+    }
+}
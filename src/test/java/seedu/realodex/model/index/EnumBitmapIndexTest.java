@@ -0,0 +1,88 @@
+package seedu.realodex.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.realodex.testutil.Assert.assertThrows;
+import static seedu.realodex.testutil.TypicalPersons.ALICE;
+import static seedu.realodex.testutil.TypicalPersons.BENSON;
+import static seedu.realodex.testutil.TypicalPersons.FIONA;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.realodex.model.person.Tag.Role;
+
+public class EnumBitmapIndexTest {
+
+    private final EnumBitmapIndex<Role> tagIndex = new EnumBitmapIndex<>(Role.class, person ->
+            person.getTags().stream().map(tag -> tag.tagName).collect(Collectors.toSet()));
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new EnumBitmapIndex<Role>(null, person -> null));
+        assertThrows(NullPointerException.class, () -> new EnumBitmapIndex<>(Role.class, null));
+    }
+
+    @Test
+    public void get_indexedPersons_returnsSlotsWithValue() {
+        tagIndex.add(0, ALICE);
+        tagIndex.add(1, BENSON);
+        tagIndex.add(2, FIONA);
+        assertEquals(bitSetOf(0, 1), tagIndex.get(Role.BUYER));
+        assertEquals(bitSetOf(1, 2), tagIndex.get(Role.SELLER));
+    }
+
+    @Test
+    public void getAll_multipleValues_returnsIntersection() {
+        tagIndex.add(0, ALICE);
+        tagIndex.add(1, BENSON);
+        tagIndex.add(2, FIONA);
+        assertEquals(bitSetOf(1), tagIndex.getAll(EnumSet.of(Role.BUYER, Role.SELLER)));
+        assertEquals(bitSetOf(0, 1, 2), tagIndex.getAll(Collections.emptySet()));
+    }
+
+    @Test
+    public void count_indexedPersons_returnsNumberOfSlots() {
+        tagIndex.add(0, ALICE);
+        tagIndex.add(1, BENSON);
+        tagIndex.add(2, FIONA);
+        assertEquals(2, tagIndex.count(Role.BUYER));
+        assertEquals(2, tagIndex.estimateCountAll(EnumSet.of(Role.BUYER, Role.SELLER)));
+        assertEquals(3, tagIndex.estimateCountAll(Collections.emptySet()));
+    }
+
+    @Test
+    public void remove_indexedPerson_clearsSlot() {
+        tagIndex.add(0, ALICE);
+        tagIndex.add(1, BENSON);
+        tagIndex.remove(1, BENSON);
+        assertEquals(bitSetOf(0), tagIndex.get(Role.BUYER));
+        assertTrue(tagIndex.get(Role.SELLER).isEmpty());
+    }
+
+    @Test
+    public void get_modifyResult_doesNotModifyIndex() {
+        tagIndex.add(0, ALICE);
+        tagIndex.get(Role.BUYER).clear();
+        assertEquals(bitSetOf(0), tagIndex.get(Role.BUYER));
+    }
+
+    @Test
+    public void clear_indexedPersons_emptiesIndex() {
+        tagIndex.add(0, ALICE);
+        tagIndex.clear();
+        assertTrue(tagIndex.getAll(Collections.emptySet()).isEmpty());
+    }
+
+    private static BitSet bitSetOf(int... slots) {
+        BitSet bitSet = new BitSet();
+        for (int slot : slots) {
+            bitSet.set(slot);
+        }
+        return bitSet;
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.realodex.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.realodex.testutil.Assert.assertThrows;
+import static seedu.realodex.testutil.TypicalPersons.ALICE;
+import static seedu.realodex.testutil.TypicalPersons.BENSON;
+import static seedu.realodex.testutil.TypicalPersons.CARL;
+
+import java.util.BitSet;
+
+import org.junit.jupiter.api.Test;
+
+public class NumericIndexTest {
+
+    // ALICE earns 10000, BENSON 20000 and CARL 30000
+    private final NumericIndex incomeIndex = new NumericIndex(person -> person.getIncome().getValue());
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new NumericIndex(null));
+    }
+
+    @Test
+    public void getRange_indexedPersons_returnsSlotsInRange() {
+        incomeIndex.add(0, CARL);
+        incomeIndex.add(1, ALICE);
+        incomeIndex.add(2, BENSON);
+        assertEquals(bitSetOf(1, 2), incomeIndex.getRange(10000, 20000));
+        assertEquals(bitSetOf(0, 2), incomeIndex.getRange(10001, Long.MAX_VALUE));
+        assertEquals(bitSetOf(0), incomeIndex.getRange(30000, 30000));
+        assertTrue(incomeIndex.getRange(30001, Long.MAX_VALUE).isEmpty());
+    }
+
+    @Test
+    public void countRange_indexedPersons_returnsNumberOfSlotsInRange() {
+        incomeIndex.add(0, CARL);
+        incomeIndex.add(1, ALICE);
+        incomeIndex.add(2, BENSON);
+        assertEquals(2, incomeIndex.countRange(10000, 20000));
+        assertEquals(0, incomeIndex.countRange(20000, 10000));
+    }
+
+    @Test
+    public void getRange_emptyRange_returnsNoSlots() {
+        incomeIndex.add(0, ALICE);
+        assertTrue(incomeIndex.getRange(20000, 10000).isEmpty());
+    }
+
+    @Test
+    public void remove_indexedPerson_clearsSlot() {
+        incomeIndex.add(0, ALICE);
+        incomeIndex.add(1, BENSON);
+        incomeIndex.remove(0, ALICE);
+        assertEquals(bitSetOf(1), incomeIndex.getRange(0, Long.MAX_VALUE));
+
+        // removing a person that is not indexed does nothing
+        incomeIndex.remove(2, CARL);
+        assertEquals(bitSetOf(1), incomeIndex.getRange(0, Long.MAX_VALUE));
+    }
+
+    @Test
+    public void clear_indexedPersons_emptiesIndex() {
+        incomeIndex.add(0, ALICE);
+        incomeIndex.clear();
+        assertTrue(incomeIndex.getRange(0, Long.MAX_VALUE).isEmpty());
+    }
+
+    private static BitSet bitSetOf(int... slots) {
+        BitSet bitSet = new BitSet();
+        for (int slot : slots) {
+            bitSet.set(slot);
+        }
+        return bitSet;
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.realodex.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.realodex.testutil.Assert.assertThrows;
+import static seedu.realodex.testutil.TypicalPersons.ALICE;
+import static seedu.realodex.testutil.TypicalPersons.BENSON;
+import static seedu.realodex.testutil.TypicalPersons.DANIEL;
+
+import java.util.BitSet;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.realodex.model.person.Person;
+import seedu.realodex.testutil.PersonBuilder;
+
+public class PhoneticIndexTest {
+
+    private final PhoneticIndex nameIndex = new PhoneticIndex(person -> person.getName().getSoundexCodes());
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new PhoneticIndex(null));
+    }
+
+    @Test
+    public void search_soundAlikeWords_returnsMatchingSlots() {
+        nameIndex.add(0, ALICE); // Alice Pauline
+        nameIndex.add(1, BENSON); // Benson Meier
+        nameIndex.add(2, DANIEL); // Daniel Meier
+        assertEquals(bitSetOf(1, 2), nameIndex.search("mayer"));
+        assertEquals(bitSetOf(1), nameIndex.search("MAYER bensen"));
+        assertEquals(bitSetOf(0), nameIndex.search("paulin"));
+        assertTrue(nameIndex.search("meier carl").isEmpty());
+        assertTrue(nameIndex.search("").isEmpty());
+    }
+
+    @Test
+    public void estimateCount_keyphrase_returnsCountOfRarestCode() {
+        nameIndex.add(0, ALICE);
+        nameIndex.add(1, BENSON);
+        nameIndex.add(2, DANIEL);
+        assertEquals(2, nameIndex.estimateCount("mayer"));
+        assertEquals(1, nameIndex.estimateCount("mayer bensen"));
+        assertEquals(0, nameIndex.estimateCount("carl"));
+    }
+
+    @Test
+    public void remove_indexedPerson_noLongerMatches() {
+        Person smith = new PersonBuilder().withName("John Smith").build();
+        nameIndex.add(0, smith);
+        nameIndex.add(1, BENSON);
+        nameIndex.remove(0, smith);
+        assertTrue(nameIndex.search("jon smyth").isEmpty());
+        assertEquals(bitSetOf(1), nameIndex.search("benson"));
+    }
+
+    @Test
+    public void clear_indexedPersons_noLongerMatch() {
+        nameIndex.add(0, ALICE);
+        nameIndex.clear();
+        assertTrue(nameIndex.search("alice").isEmpty());
+    }
+
+    private static BitSet bitSetOf(int... slots) {
+        BitSet bitSet = new BitSet();
+        for (int slot : slots) {
+            bitSet.set(slot);
+        }
+        return bitSet;
+    }
+}
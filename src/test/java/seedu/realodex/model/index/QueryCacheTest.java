@@ -0,0 +1,85 @@
+package seedu.realodex.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.realodex.testutil.Assert.assertThrows;
+import static seedu.realodex.testutil.TypicalPersons.ALICE;
+import static seedu.realodex.testutil.TypicalPersons.BENSON;
+import static seedu.realodex.testutil.TypicalPersons.ELLE;
+
+import java.util.BitSet;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.realodex.model.person.HousingType;
+import seedu.realodex.model.person.predicates.HousingTypeMatchPredicate;
+import seedu.realodex.model.person.predicates.IndexedPredicate;
+import seedu.realodex.model.person.predicates.NameContainsKeyphrasePredicate;
+
+public class QueryCacheTest {
+
+    private final QueryCache queryCache = new QueryCache(2);
+    private final IndexedPredicate hdbPredicate = new HousingTypeMatchPredicate(new HousingType("HDB"));
+    private final Function<IndexedPredicate, BitSet> lookUpAliceAndElle = predicate -> bitSetOf(0, 2);
+
+    @Test
+    public void get_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> queryCache.get(null, lookUpAliceAndElle));
+        assertThrows(NullPointerException.class, () -> queryCache.get(hdbPredicate, null));
+    }
+
+    @Test
+    public void get_equalPredicate_reusesResult() {
+        assertEquals(bitSetOf(0, 2), queryCache.get(hdbPredicate, lookUpAliceAndElle));
+        assertEquals(bitSetOf(0, 2), queryCache.get(new HousingTypeMatchPredicate(new HousingType("hdb")),
+                predicate -> new BitSet()));
+        assertEquals(1, queryCache.getHitCount());
+        assertEquals(1, queryCache.getMissCount());
+    }
+
+    @Test
+    public void get_modifyResult_doesNotModifyCache() {
+        queryCache.get(hdbPredicate, lookUpAliceAndElle).clear();
+        assertEquals(bitSetOf(0, 2), queryCache.get(hdbPredicate, lookUpAliceAndElle));
+    }
+
+    @Test
+    public void get_beyondCapacity_evictsLeastRecentlyUsed() {
+        IndexedPredicate alicePredicate = new NameContainsKeyphrasePredicate("Alice");
+        IndexedPredicate bensonPredicate = new NameContainsKeyphrasePredicate("Benson");
+        queryCache.get(hdbPredicate, lookUpAliceAndElle);
+        queryCache.get(alicePredicate, predicate -> bitSetOf(0));
+        queryCache.get(hdbPredicate, lookUpAliceAndElle);
+        queryCache.get(bensonPredicate, predicate -> bitSetOf(1));
+        assertEquals(2, queryCache.size());
+
+        // alicePredicate was least recently used
+        assertEquals(bitSetOf(0, 2), queryCache.get(hdbPredicate, predicate -> new BitSet()));
+        assertEquals(new BitSet(), queryCache.get(alicePredicate, predicate -> new BitSet()));
+    }
+
+    @Test
+    public void addAndRemove_cachedPredicate_patchesResult() {
+        queryCache.get(hdbPredicate, lookUpAliceAndElle);
+        queryCache.add(3, BENSON); // not HDB
+        queryCache.add(4, ELLE);
+        queryCache.remove(0, ALICE);
+        assertEquals(bitSetOf(2, 4), queryCache.get(hdbPredicate, predicate -> new BitSet()));
+    }
+
+    @Test
+    public void clear_cachedPredicates_forgetsResults() {
+        queryCache.get(hdbPredicate, lookUpAliceAndElle);
+        queryCache.clear();
+        assertEquals(0, queryCache.size());
+        assertEquals(new BitSet(), queryCache.get(hdbPredicate, predicate -> new BitSet()));
+    }
+
+    private static BitSet bitSetOf(int... slots) {
+        BitSet bitSet = new BitSet();
+        for (int slot : slots) {
+            bitSet.set(slot);
+        }
+        return bitSet;
+    }
+}
@@ -0,0 +1,46 @@
+package seedu.realodex.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class SlotListTest {
+
+    private final SlotList slotList = new SlotList();
+
+    @Test
+    public void add_outOfOrder_keepsSlotsSorted() {
+        slotList.add(7);
+        slotList.add(2);
+        slotList.add(5);
+        slotList.add(9);
+        slotList.add(1);
+        assertEquals(5, slotList.size());
+        assertEquals(1, slotList.get(0));
+        assertEquals(5, slotList.get(2));
+        assertEquals(9, slotList.get(4));
+    }
+
+    @Test
+    public void add_existingSlot_ignored() {
+        slotList.add(3);
+        slotList.add(3);
+        assertEquals(1, slotList.size());
+    }
+
+    @Test
+    public void remove_slots_removesOnlyThoseSlots() {
+        slotList.add(1);
+        slotList.add(2);
+        slotList.add(3);
+        slotList.remove(2);
+        slotList.remove(4);
+        assertFalse(slotList.contains(2));
+        assertTrue(slotList.contains(3));
+        slotList.remove(1);
+        slotList.remove(3);
+        assertTrue(slotList.isEmpty());
+    }
+}
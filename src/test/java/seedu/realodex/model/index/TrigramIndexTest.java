@@ -0,0 +1,115 @@
+package seedu.realodex.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.realodex.testutil.Assert.assertThrows;
+import static seedu.realodex.testutil.TypicalPersons.ALICE;
+import static seedu.realodex.testutil.TypicalPersons.BENSON;
+import static seedu.realodex.testutil.TypicalPersons.DANIEL;
+
+import java.util.BitSet;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.realodex.model.person.Person;
+import seedu.realodex.model.person.predicates.NameContainsKeyphrasePredicate;
+import seedu.realodex.model.person.predicates.RemarkContainsKeyphrasePredicate;
+import seedu.realodex.testutil.PersonBuilder;
+
+public class TrigramIndexTest {
+
+    private final TrigramIndex nameIndex = new TrigramIndex(person -> person.getName().fullName);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new TrigramIndex(null));
+    }
+
+    @Test
+    public void search_substringOfName_returnsMatchingSlots() {
+        nameIndex.add(0, ALICE);
+        nameIndex.add(1, BENSON);
+        nameIndex.add(2, DANIEL);
+        assertEquals(bitSetOf(1, 2), nameIndex.search("meier"));
+        assertEquals(bitSetOf(0), nameIndex.search("ICE PAU"));
+    }
+
+    @Test
+    public void search_sharedTrigramsInDifferentOrder_returnsOnlyTrueMatches() {
+        nameIndex.add(0, new PersonBuilder().withName("abcd bcab").build());
+        nameIndex.add(1, new PersonBuilder().withName("abcab").build());
+        assertEquals(bitSetOf(1), nameIndex.search("abcab"));
+    }
+
+    @Test
+    public void search_shortKeyphrase_returnsMatchingSlots() {
+        nameIndex.add(0, ALICE);
+        nameIndex.add(1, BENSON);
+        assertEquals(bitSetOf(0), nameIndex.search("Al"));
+        assertEquals(bitSetOf(0, 1), nameIndex.search(""));
+    }
+
+    @Test
+    public void estimateCount_keyphrase_returnsUpperBoundOfMatches() {
+        nameIndex.add(0, ALICE);
+        nameIndex.add(1, BENSON);
+        nameIndex.add(2, DANIEL);
+        assertEquals(2, nameIndex.estimateCount("meier"));
+        assertEquals(0, nameIndex.estimateCount("xyz"));
+        assertEquals(3, nameIndex.estimateCount("Al"));
+    }
+
+    @Test
+    public void search_turkishDefaultLocale_agreesWithPredicates() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(new Locale("tr", "TR"));
+        try {
+            Person person = new PersonBuilder().withName("TITLE Owner").withRemark("\u0130stanbul flat").build();
+            nameIndex.add(0, person);
+            TrigramIndex remarkIndex = new TrigramIndex(indexed -> indexed.getRemark().remarkName);
+            remarkIndex.add(0, person);
+
+            // upper-case I is indexed as i, not as dotless i
+            assertEquals(bitSetOf(0), nameIndex.search("title"));
+            assertTrue(new NameContainsKeyphrasePredicate("title").test(person));
+
+            // upper-case dotted I is indexed as a single i
+            assertEquals(bitSetOf(0), remarkIndex.search("istanbul"));
+            assertTrue(new RemarkContainsKeyphrasePredicate("istanbul").test(person));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    public void search_unknownTrigram_returnsEmpty() {
+        nameIndex.add(0, ALICE);
+        assertTrue(nameIndex.search("xyz").isEmpty());
+    }
+
+    @Test
+    public void remove_indexedPerson_noLongerMatches() {
+        nameIndex.add(0, ALICE);
+        nameIndex.add(1, new PersonBuilder().withName("Aaaa Alice").build());
+        nameIndex.remove(1, new PersonBuilder().withName("Aaaa Alice").build());
+        assertEquals(bitSetOf(0), nameIndex.search("alice"));
+        assertTrue(nameIndex.search("aaa").isEmpty());
+    }
+
+    @Test
+    public void add_slotBeyondCapacity_isSearchable() {
+        nameIndex.add(100, BENSON);
+        assertEquals(bitSetOf(100), nameIndex.search("benson"));
+        nameIndex.clear();
+        assertTrue(nameIndex.search("be").isEmpty());
+    }
+
+    private static BitSet bitSetOf(int... slots) {
+        BitSet bitSet = new BitSet();
+        for (int slot : slots) {
+            bitSet.set(slot);
+        }
+        return bitSet;
+    }
+}
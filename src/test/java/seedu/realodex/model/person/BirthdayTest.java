@@ -2,21 +2,29 @@ package seedu.realodex.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.realodex.testutil.Assert.assertThrows;
 
-import java.text.SimpleDateFormat;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.Calendar;
-import java.util.Date;
-import java.util.Locale;
+import java.util.List;
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.realodex.model.DayClock;
+import seedu.realodex.testutil.ManualClock;
+
 public class BirthdayTest {
 
+    private static final LocalDate TODAY = LocalDate.of(2024, 6, 1);
+    private static final DayClock NEW_YEARS_DAY_2023 = new DayClock(new ManualClock(LocalDate.of(2023, 1, 1)));
+
     @Test
     public void constructor_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> new Birthday(null));
@@ -26,52 +34,100 @@ public class BirthdayTest {
     public void getBirthday_test() {
         Birthday birthday = new Birthday("15Jun2023");
         Birthday emptyBirthday = new Birthday("");
-        String dateString = "15Jun2023";
-        SimpleDateFormat formatter = new SimpleDateFormat("ddMMMyyyy", Locale.ENGLISH);
 
-        assertEquals(dateString, formatter.format(birthday.getOptionalBirthday().orElse(null)));
-        assertEquals(Optional.empty(), emptyBirthday.getOptionalBirthday());
+        assertEquals(Optional.of(LocalDate.of(2023, 6, 15)), birthday.getDate());
+        assertEquals(Optional.empty(), emptyBirthday.getDate());
+    }
+
+    @Test
+    public void constructor_inputFormats_parsedAsBefore() {
+        Birthday birthday = new Birthday("03Jun2003");
+        assertEquals(birthday, new Birthday("3Jun2003")); // one digit day
+        assertEquals(birthday, new Birthday("3jUN2003")); // any case
+        assertEquals(birthday, new Birthday("3June2003")); // full month name
+        assertEquals(birthday, new Birthday(" 3Jun2003 ")); // surrounding whitespace
+        assertEquals(new Birthday(), new Birthday("31Jun2003")); // not a date
+    }
+
+    @Test
+    public void getEpochDay() {
+        assertEquals(OptionalInt.of(0), new Birthday("1Jan1970").getEpochDay());
+        assertEquals(OptionalInt.of((int) LocalDate.of(2003, 6, 3).toEpochDay()),
+                new Birthday("3Jun2003").getEpochDay());
+        assertEquals(OptionalInt.empty(), new Birthday("").getEpochDay());
+    }
+
+    @Test
+    public void ofEpochDay() {
+        Birthday birthday = Birthday.ofEpochDay((int) LocalDate.of(2024, 2, 29).toEpochDay());
+        assertEquals(new Birthday("29Feb2024"), birthday);
+        assertEquals(OptionalInt.of(60), birthday.getDayOfLeapYear());
+        assertEquals(OptionalInt.of(Calendar.FEBRUARY), birthday.getMonth());
+        assertThrows(IllegalArgumentException.class, () -> Birthday.ofEpochDay(Integer.MIN_VALUE));
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals("03Jun2003", new Birthday("3jun2003").toString());
+        assertEquals("", new Birthday("").toString());
+    }
+
+    @Test
+    public void getDaysUntilBirthday_today_returnsZero() {
+        assertEquals(0, new Birthday("1Jan2000").getDaysUntilBirthday(NEW_YEARS_DAY_2023));
+    }
+
+    @Test
+    public void constructor_parallelParsing_sameAsSequential() {
+        List<String> dates = IntStream.range(0, 2000)
+                .mapToObj(i -> LocalDate.of(1990, 1, 1).plusDays(i).format(Birthday.OUTPUT_DATE_FORMATTER))
+                .collect(Collectors.toList());
+        List<String> parsedInParallel = dates.parallelStream()
+                .map(date -> new Birthday(date).toString())
+                .collect(Collectors.toList());
+        assertEquals(dates, parsedInParallel);
     }
 
     @Test
     public void isValidBirthday_test() {
         // Equivalence partitioning: null
-        assertThrows(NullPointerException.class, () -> Birthday.isValidBirthday(null));
+        assertThrows(NullPointerException.class, () -> Birthday.isValidBirthday(null, TODAY));
+        assertThrows(NullPointerException.class, () -> Birthday.isValidBirthday("12May2003", null));
 
         // Equivalence partitioning: empty or blank string
-        assertTrue(Birthday.isValidBirthday("")); // empty string
-        assertTrue(Birthday.isValidBirthday(" ")); // spaces only
+        assertTrue(Birthday.isValidBirthday("", TODAY)); // empty string
+        assertTrue(Birthday.isValidBirthday(" ", TODAY)); // spaces only
 
         // Equivalence partitioning: missing parts
-        assertFalse(Birthday.isValidBirthday("1")); // missing month
-        assertFalse(Birthday.isValidBirthday("31June")); // missing year
-        assertFalse(Birthday.isValidBirthday("June2002")); // missing day
+        assertFalse(Birthday.isValidBirthday("1", TODAY)); // missing month
+        assertFalse(Birthday.isValidBirthday("31June", TODAY)); // missing year
+        assertFalse(Birthday.isValidBirthday("June2002", TODAY)); // missing day
 
         // Equivalence partitioning: invalid parts
-        assertFalse(Birthday.isValidBirthday("29Feb2023")); // not a leap year
-        assertFalse(Birthday.isValidBirthday("31June2023")); // June does not have 31 days
-        assertFalse(Birthday.isValidBirthday("1-jan-2001")); // not supposed to have '-'
+        assertFalse(Birthday.isValidBirthday("29Feb2023", TODAY)); // not a leap year
+        assertFalse(Birthday.isValidBirthday("31June2023", TODAY)); // June does not have 31 days
+        assertFalse(Birthday.isValidBirthday("1-jan-2001", TODAY)); // not supposed to have '-'
 
         // Equivalence partitioning: valid date
-        assertTrue(Birthday.isValidBirthday("29Feb2024")); // leap year
-        assertTrue(Birthday.isValidBirthday("12May2003"));
-        assertTrue(Birthday.isValidBirthday("08Aug1888"));
+        assertTrue(Birthday.isValidBirthday("29Feb2024", TODAY)); // leap year
+        assertTrue(Birthday.isValidBirthday("12May2003", TODAY));
+        assertTrue(Birthday.isValidBirthday("08Aug1888", TODAY));
+        assertTrue(Birthday.isValidBirthday("1Jun2024", TODAY)); // today
 
         // Equivalence partitioning: invalid dates
-        assertFalse(Birthday.isValidBirthday("01May2009233"));
-        assertFalse(Birthday.isValidBirthday("0"));
+        assertFalse(Birthday.isValidBirthday("01May2009233", TODAY));
+        assertFalse(Birthday.isValidBirthday("0", TODAY));
 
         // Equivalence partitioning: creating future dates
-        LocalDate today = LocalDate.now();
-        LocalDate tomorrow = today.plusDays(1);
-        LocalDate futureDate = today.plusYears(10);
+        LocalDate tomorrow = TODAY.plusDays(1);
+        LocalDate futureDate = TODAY.plusYears(10);
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("ddMMMyyyy");
         String tomorrowFormatted = tomorrow.format(formatter);
         String futureFormatted = futureDate.format(formatter);
 
         // Equivalence partitioning: future dates
-        assertFalse(Birthday.isValidBirthday(tomorrowFormatted)); //cant be in future days
-        assertFalse(Birthday.isValidBirthday(futureFormatted)); //cant be in future years
+        assertFalse(Birthday.isValidBirthday(tomorrowFormatted, TODAY)); //cant be in future days
+        assertFalse(Birthday.isValidBirthday(futureFormatted, TODAY)); //cant be in future years
 
     }
 
@@ -96,37 +152,15 @@ public class BirthdayTest {
     }
 
     @Test
-    public void getDaysUntilBirthday_birthdayInFuture_returnsCorrectDays() throws java.text.ParseException {
-        // Set current date to 2023-01-01
-        Calendar currentCalendar = Calendar.getInstance();
-        Date currentDate = currentCalendar.getTime();
-
-        // Set birthday to 2023-01-15
-        SimpleDateFormat formatter = new SimpleDateFormat("ddMMMyyyy");
-        Date birthdayDate = formatter.parse("15Jan2001");
-
-        // Create Birthday object with birthday in future
-        Birthday birthday = new Birthday("15Jan2023");
-
-        // Test
-        assertEquals(getDaysUntilBirthdayStub(currentDate, birthdayDate), birthday.getDaysUntilBirthday());
+    public void getDaysUntilBirthday_birthdayInFuture_returnsCorrectDays() {
+        // 15 Jan is 14 days after 1 Jan 2023
+        assertEquals(14, new Birthday("15Jan2023").getDaysUntilBirthday(NEW_YEARS_DAY_2023));
     }
 
     @Test
-    public void getDaysUntilBirthday_birthdayPassedInCurrentYear_returnsCorrectDays() throws java.text.ParseException {
-        // Set current date to 2023-01-01
-        Calendar currentCalendar = Calendar.getInstance();
-        Date currentDate = currentCalendar.getTime();
-
-        // Set birthday to 2022-12-15
-        SimpleDateFormat formatter = new SimpleDateFormat("ddMMMyyyy");
-        Date birthdayDate = formatter.parse("15Dec2001");
-
-        // Create Birthday object with birthday passed in current year
-        Birthday birthday = new Birthday("15Dec2022");
-
-        // Test
-        assertEquals(getDaysUntilBirthdayStub(currentDate, birthdayDate), birthday.getDaysUntilBirthday());
+    public void getDaysUntilBirthday_birthdayPassedInCurrentYear_returnsCorrectDays() {
+        // 15 Dec 2022 has passed, so the next birthday is 15 Dec 2023
+        assertEquals(348, new Birthday("15Dec2022").getDaysUntilBirthday(NEW_YEARS_DAY_2023));
     }
 
     @Test
@@ -140,30 +174,38 @@ public class BirthdayTest {
 
     @Test
     public void getDaysUntilBirthdayWithRepresentation_birthdayPresent_returnsDaysRepresentation() {
-        // Set current date to 2023-01-01
-        Calendar currentCalendar = Calendar.getInstance();
-        Date currentDate = currentCalendar.getTime();
-
-        // Set birthday to 2023-01-15
-        Calendar birthdayCalendar = Calendar.getInstance();
-        birthdayCalendar.set(2023, Calendar.JANUARY, 15);
-        Date birthdayDate = birthdayCalendar.getTime();
+        assertEquals("14 More Days Till Their Birthday!",
+                new Birthday("15Jan2023").getDaysUntilBirthdayWithRepresentation(NEW_YEARS_DAY_2023));
+    }
 
-        // Create Birthday object with birthday present
-        Birthday birthday = new Birthday("15Jan2023");
+    @Test
+    public void getDaysUntilBirthdayWithRepresentation_birthdayNotPresent_returnsDefaultString() {
+        assertEquals("Birthday is unspecified!",
+                new Birthday().getDaysUntilBirthdayWithRepresentation(NEW_YEARS_DAY_2023));
+    }
 
-        // Test
-        assertEquals(getDaysUntilBirthdayWithRepresentationStub(currentDate, birthdayDate),
-                     birthday.getDaysUntilBirthdayWithRepresentation());
+    @Test
+    public void getDaysUntilBirthday_dayClock_countsFromClockDate() {
+        DayClock dayClock = new DayClock(new ManualClock(LocalDate.of(2023, 6, 3)));
+        assertEquals(3, new Birthday("6Jun2006").getDaysUntilBirthday(dayClock));
+        assertEquals(365, new Birthday("2Jun2006").getDaysUntilBirthday(dayClock));
+        assertEquals(0, new Birthday().getDaysUntilBirthday(dayClock));
+        assertEquals("3 More Days Till Their Birthday!",
+                new Birthday("6Jun2006").getDaysUntilBirthdayWithRepresentation(dayClock));
+        assertEquals("Birthday is unspecified!", new Birthday().getDaysUntilBirthdayWithRepresentation(dayClock));
     }
 
     @Test
-    public void getDaysUntilBirthdayWithRepresentation_birthdayNotPresent_returnsDefaultString() {
-        // Create Birthday object with birthday not present
-        Birthday birthday = new Birthday();
+    public void getDaysUntil_february29_fallsOnMarch1InCommonYears() {
+        int february29 = Birthday.toDayOfLeapYear(Calendar.FEBRUARY, 29);
 
-        // Test
-        assertEquals("Birthday is unspecified!", birthday.getDaysUntilBirthdayWithRepresentation());
+        // next 29 Feb is in a leap year
+        assertEquals(1, Birthday.getDaysUntil(february29, LocalDate.of(2024, 2, 28)));
+
+        // 1 Mar in a common year
+        assertEquals(1, Birthday.getDaysUntil(february29, LocalDate.of(2023, 2, 28)));
+        assertEquals(0, Birthday.getDaysUntil(february29, LocalDate.of(2023, 3, 1)));
+        assertEquals(364, Birthday.getDaysUntil(february29, LocalDate.of(2023, 3, 2)));
     }
 
     @Test
@@ -182,54 +224,63 @@ public class BirthdayTest {
         assertFalse(birthday1.hashCode() == birthday3.hashCode());
     }
 
-    /**
-     * Returns the number of days from the current system date to the birthday.
-     * If the birthday has already passed this year, it returns the number of days
-     * from the current date of next year to the birthday.
-     */
-    private Long getDaysUntilBirthdayStub(Date currentDate, Date birthdayDate) {
-        // Remove time component from the dates for accurate comparison
-        Calendar currentCal = returnInstanceOfCalendar(currentDate);
-        Calendar birthdayCal = returnInstanceOfCalendar(birthdayDate);
-
-        int currentYear = currentCal.get(Calendar.YEAR);
-        int currentMonth = currentCal.get(Calendar.MONTH);
-        int currentDay = currentCal.get(Calendar.DAY_OF_MONTH);
-        int birthdayMonth = birthdayCal.get(Calendar.MONTH);
-        int birthdayDay = birthdayCal.get(Calendar.DAY_OF_MONTH);
+    @Test
+    public void isValidBirthday_leapYear() {
+        // Equivalence partitioning: Leap year
+        assertTrue(Birthday.isValidBirthday("29Feb2024", TODAY)); // Leap year
+        assertFalse(Birthday.isValidBirthday("29Feb2023", TODAY)); // Not a leap year
+    }
 
-        // Check if the birthday has already passed this year
-        if (currentMonth > birthdayMonth || (currentMonth == birthdayMonth && currentDay > birthdayDay)) {
-            // If yes, set the birthday year to the next year
-            birthdayCal.set(Calendar.YEAR, currentYear + 1);
-        } else {
-            birthdayCal.set(Calendar.YEAR, currentYear);
-        }
 
-        // Calculate the difference in milliseconds between the two dates and convert it to days
-        long diff = birthdayCal.getTimeInMillis() - currentCal.getTimeInMillis();
-        return diff / (1000 * 60 * 60 * 24); // Convert milliseconds to days
+    @Test
+    public void getMonth() {
+        assertEquals(OptionalInt.of(Calendar.JUNE), new Birthday("15Jun2023").getMonth());
+        assertEquals(OptionalInt.empty(), new Birthday("").getMonth());
     }
 
-    public String getDaysUntilBirthdayWithRepresentationStub(Date currentDate, Date birthdayDate) {
-        return getDaysUntilBirthdayStub(currentDate, birthdayDate) + " More Days Till Their Birthday!";
+    @Test
+    public void isInMonth() {
+        assertTrue(new Birthday("15Jun2023").isInMonth(Calendar.JUNE));
+        assertFalse(new Birthday("15Jun2023").isInMonth(Calendar.JULY));
+        assertFalse(new Birthday("").isInMonth(Calendar.JUNE));
+        assertFalse(new Birthday("").isInMonth(-1));
+    }
 
+    @Test
+    public void getDayOfLeapYear() {
+        assertEquals(OptionalInt.of(1), new Birthday("1Jan2023").getDayOfLeapYear());
+        assertEquals(OptionalInt.of(60), new Birthday("29Feb2024").getDayOfLeapYear());
+        // 1 March has the same day in leap and common years
+        assertEquals(OptionalInt.of(61), new Birthday("1Mar2023").getDayOfLeapYear());
+        assertEquals(OptionalInt.of(61), new Birthday("1Mar2024").getDayOfLeapYear());
+        assertEquals(OptionalInt.of(Birthday.DAYS_IN_LEAP_YEAR), new Birthday("31Dec2023").getDayOfLeapYear());
+        assertEquals(OptionalInt.empty(), new Birthday("").getDayOfLeapYear());
     }
 
-    private Calendar returnInstanceOfCalendar(Date date) {
-        Calendar toReturn = Calendar.getInstance();
-        toReturn.setTime(date);
-        toReturn.set(Calendar.HOUR_OF_DAY, 0);
-        toReturn.set(Calendar.MINUTE, 0);
-        toReturn.set(Calendar.SECOND, 0);
-        toReturn.set(Calendar.MILLISECOND, 0);
-        return toReturn;
+    @Test
+    public void toDayOfLeapYear() {
+        assertEquals(1, Birthday.toDayOfLeapYear(Calendar.JANUARY, 1));
+        assertEquals(60, Birthday.toDayOfLeapYear(Calendar.FEBRUARY, 29));
+        assertEquals(61, Birthday.toDayOfLeapYear(Calendar.MARCH, 1));
+        assertEquals(Birthday.DAYS_IN_LEAP_YEAR, Birthday.toDayOfLeapYear(Calendar.DECEMBER, 31));
     }
+
     @Test
-    public void isValidBirthday_leapYear() {
-        // Equivalence partitioning: Leap year
-        assertTrue(Birthday.isValidBirthday("29Feb2024")); // Leap year
-        assertFalse(Birthday.isValidBirthday("29Feb2023")); // Not a leap year
+    public void getDaysFrom() {
+        assertEquals(0, new Birthday("1Jan2023").getDaysFrom(1));
+        assertEquals(59, new Birthday("1Mar2023").getDaysFrom(2));
+        // wraps around the end of the year
+        assertEquals(1, new Birthday("1Jan2023").getDaysFrom(Birthday.DAYS_IN_LEAP_YEAR));
+        assertEquals(Birthday.DAYS_IN_LEAP_YEAR - 1, new Birthday("1Jan2023").getDaysFrom(2));
+        // unspecified birthdays come after every specified birthday
+        assertEquals(Birthday.DAYS_IN_LEAP_YEAR, new Birthday("").getDaysFrom(1));
     }
 
+    @Test
+    public void of() {
+        assertThrows(NullPointerException.class, () -> Birthday.of(null));
+        assertSame(Birthday.of(""), Birthday.of("  "));
+        assertEquals(new Birthday(), Birthday.of(""));
+        assertEquals(new Birthday("15Jun2023"), Birthday.of("15Jun2023"));
+    }
 }
@@ -1,5 +1,6 @@
 package seedu.realodex.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.realodex.testutil.Assert.assertThrows;
@@ -36,7 +37,9 @@ public class FamilyTest {
         // valid family numbers
         assertTrue(Family.isValidFamily("2")); // more than 1
         assertTrue(Family.isValidFamily("93121")); // huge family
-        assertTrue(Family.isValidFamily("12422131313131938")); // very huge family
+        assertTrue(Family.isValidFamily("2147483647")); // largest family size
+        assertFalse(Family.isValidFamily("2147483648")); // too large for a family size
+        assertFalse(Family.isValidFamily("12422131313131938")); // too large for a family size
     }
 
     @Test
@@ -51,12 +54,14 @@ public class FamilyTest {
     public void isValidFamily_validFamilySizes_returnsTrue() {
         assertTrue(Family.isValidFamily("1")); // Minimum valid value
         assertTrue(Family.isValidFamily("123")); // Positive integer
-        assertTrue(Family.isValidFamily("999999999999999")); // Large positive integer
+        assertTrue(Family.isValidFamily("999999999")); // Large positive integer
+        assertFalse(Family.isValidFamily("999999999999999")); // Too large positive integer
         assertTrue(Family.isValidFamily("01")); // Prepended 0s
         assertTrue(Family.isValidFamily("001")); // Double prepended 0s
         assertTrue(Family.isValidFamily("0001")); // Three prepended 0s
         assertTrue(Family.isValidFamily("00000000000000000000000000001")); // Many prepended 0s
-        assertTrue(Family.isValidFamily("01232132131313312313131")); // Single prepended 0 with large value
+        assertTrue(Family.isValidFamily("0123213213")); // Single prepended 0 with large value
+        assertFalse(Family.isValidFamily("01232132131313312313131")); // Single prepended 0 with too large value
 
 
         assertFalse(Family.isValidFamily("0000000000000000000000000000")); // Many prepended 0s with no 1-9 value
@@ -70,7 +75,8 @@ public class FamilyTest {
         assertTrue(Family.isValidFamily("1")); // Minimum valid value
         assertTrue(Family.isValidFamily("2")); // More than 1
         assertTrue(Family.isValidFamily("123")); // Positive integer
-        assertTrue(Family.isValidFamily("999999999999999")); // Large positive integer
+        assertTrue(Family.isValidFamily("999999999")); // Large positive integer
+        assertFalse(Family.isValidFamily("999999999999999")); // Too large positive integer
     }
 
     @Test
@@ -80,7 +86,8 @@ public class FamilyTest {
         assertTrue(Family.isValidFamily("001")); // Double prepended 0s
         assertTrue(Family.isValidFamily("0001")); // Three prepended 0s
         assertTrue(Family.isValidFamily("00000000000000000000000000001")); // Many prepended 0s
-        assertTrue(Family.isValidFamily("01232132131313312313131")); // Single prepended 0 with large value
+        assertTrue(Family.isValidFamily("0123213213")); // Single prepended 0 with large value
+        assertFalse(Family.isValidFamily("01232132131313312313131")); // Single prepended 0 with too large value
     }
 
 
@@ -106,4 +113,20 @@ public class FamilyTest {
         // different values -> returns false
         assertFalse(family.equals(new Family("995")));
     }
+
+    @Test
+    public void getValue() {
+        assertEquals(3, new Family("003").getValue());
+        assertEquals("3", new Family("003").toString());
+    }
+
+    @Test
+    public void clampToValidRange() {
+        // too large -> largest family size
+        assertEquals(Integer.toString(Integer.MAX_VALUE), Family.clampToValidRange("12422131313131938"));
+
+        // valid or not a positive whole number -> unchanged
+        assertEquals("3", Family.clampToValidRange("3"));
+        assertEquals("0", Family.clampToValidRange("0"));
+    }
 }
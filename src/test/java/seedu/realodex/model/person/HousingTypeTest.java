@@ -2,6 +2,7 @@ package seedu.realodex.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.realodex.testutil.Assert.assertThrows;
 
@@ -23,6 +24,15 @@ public class HousingTypeTest {
         assertThrows(IllegalArgumentException.class, () -> new HousingType(invalidHousingType));
     }
 
+    @Test
+    public void of() {
+        assertThrows(NullPointerException.class, () -> HousingType.of((HousingType.House) null));
+        assertThrows(NullPointerException.class, () -> HousingType.of((String) null));
+        assertThrows(IllegalArgumentException.class, () -> HousingType.of("good_class_bungalow"));
+        assertEquals(new HousingType("good class bungalow"), HousingType.of(HousingType.House.GOOD_CLASS_BUNGALOW));
+        assertSame(HousingType.of(HousingType.House.GOOD_CLASS_BUNGALOW), HousingType.of("Good Class Bungalow"));
+    }
+
     @Test
     public void isValidHousingType() {
         // EP: Null housing type passed to isValidHousingType method -> throws NullPointerException
@@ -33,6 +43,7 @@ public class HousingTypeTest {
         assertFalse(HousingType.isValidHousingType("HDBB")); // Does not match any housing type
         assertFalse(HousingType.isValidHousingType("HDB ")); // Extra space at the end
         assertFalse(HousingType.isValidHousingType("H DB")); // Space within the housing type
+        assertFalse(HousingType.isValidHousingType("condom\u0131n\u0131um")); // Non-ASCII letter that upper-cases to I
 
         // EP: Valid housing types
         assertTrue(HousingType.isValidHousingType("hdb"));
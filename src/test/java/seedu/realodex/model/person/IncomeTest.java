@@ -1,5 +1,6 @@
 package seedu.realodex.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.realodex.testutil.Assert.assertThrows;
@@ -38,6 +39,8 @@ public class IncomeTest {
         assertTrue(Income.isValidIncome("2")); // more than 1
         assertTrue(Income.isValidIncome("93121")); // large positive income
         assertTrue(Income.isValidIncome("1242938231332131313")); // very large positive income
+        assertTrue(Income.isValidIncome("9223372036854775807")); // largest income
+        assertFalse(Income.isValidIncome("9223372036854775808")); // too large for an income
 
         // EP: income with prepended zeros
         assertTrue(Income.isValidIncome("000001")); // one prepended zero
@@ -107,7 +110,26 @@ public class IncomeTest {
         // different types (integer vs word) -> returns false
         assertFalse(income.equals("imaword!"));
 
+        // same value with prepended zeros -> returns true
+        assertTrue(income.equals(new Income("000999")));
+
         // different values -> returns false
         assertFalse(income.equals(new Income("995")));
     }
+
+    @Test
+    public void getValue() {
+        assertEquals(12000, new Income("0012000").getValue());
+        assertEquals("12000", new Income("0012000").toString());
+    }
+
+    @Test
+    public void clampToValidRange() {
+        // too large -> largest income
+        assertEquals(Long.toString(Long.MAX_VALUE), Income.clampToValidRange("99999999999999999999"));
+
+        // valid or not a whole number -> unchanged
+        assertEquals("12000", Income.clampToValidRange("12000"));
+        assertEquals("-1", Income.clampToValidRange("-1"));
+    }
 }
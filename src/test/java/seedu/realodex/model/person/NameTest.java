@@ -1,9 +1,13 @@
 package seedu.realodex.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.realodex.testutil.Assert.assertThrows;
 
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
 public class NameTest {
@@ -78,4 +82,14 @@ public class NameTest {
         // different values -> returns false
         assertFalse(name.equals(new Name("Other Valid Name")));
     }
+
+    @Test
+    public void getSoundexCodes() {
+        Name name = new Name("John Smith Smyth");
+        assertEquals(Set.of("J500", "S530"), name.getSoundexCodes());
+
+        // encoded once
+        assertSame(name.getSoundexCodes(), name.getSoundexCodes());
+        assertThrows(UnsupportedOperationException.class, () -> name.getSoundexCodes().add("A000"));
+    }
 }
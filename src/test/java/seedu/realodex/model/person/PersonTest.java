@@ -33,6 +33,13 @@ public class PersonTest {
         assertThrows(UnsupportedOperationException.class, () -> person.getTags().remove(0));
     }
 
+    @Test
+    public void hasTag() {
+        Person person = new PersonBuilder().withTags("buyer").build();
+        assertTrue(person.hasTag(new Tag("buyer")));
+        assertFalse(person.hasTag(new Tag("seller")));
+    }
+
     @Test
     public void isSamePerson() {
         // same object -> returns true
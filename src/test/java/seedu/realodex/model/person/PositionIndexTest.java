@@ -0,0 +1,72 @@
+package seedu.realodex.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.realodex.testutil.TypicalPersons.ALICE;
+import static seedu.realodex.testutil.TypicalPersons.BENSON;
+import static seedu.realodex.testutil.TypicalPersons.CARL;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.realodex.testutil.PersonBuilder;
+
+public class PositionIndexTest {
+
+    private final PositionIndex positionIndex = new PositionIndex();
+
+    @Test
+    public void append_returnsSlotsInListOrder() {
+        assertEquals(0, positionIndex.append(ALICE));
+        assertEquals(1, positionIndex.append(BENSON));
+        assertEquals(ALICE, positionIndex.get(0));
+        assertEquals(1, positionIndex.positionOf(1));
+    }
+
+    @Test
+    public void remove_shiftsPositionsOfLaterSlots() {
+        positionIndex.append(ALICE);
+        positionIndex.append(BENSON);
+        int carlSlot = positionIndex.append(CARL);
+        positionIndex.remove(0);
+        assertNull(positionIndex.get(0));
+        assertEquals(1, positionIndex.positionOf(carlSlot));
+    }
+
+    @Test
+    public void append_beyondInitialCapacity_keepsPositions() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Person person = new PersonBuilder().withName("Person " + i).build();
+            persons.add(person);
+            positionIndex.append(person);
+        }
+        for (int i = 0; i < 60; i += 2) {
+            positionIndex.remove(i);
+        }
+        assertEquals(25, positionIndex.positionOf(51));
+        assertFalse(positionIndex.isSparse());
+        for (int i = 1; i < 60; i += 2) {
+            positionIndex.remove(i);
+        }
+        assertTrue(positionIndex.isSparse());
+        assertEquals(1, positionIndex.positionOf(61));
+        assertEquals(persons.get(99), positionIndex.get(99));
+    }
+
+    @Test
+    public void reset_assignsSlotsByPosition() {
+        positionIndex.append(CARL);
+        positionIndex.remove(0);
+        positionIndex.reset(Arrays.asList(ALICE, BENSON));
+        assertEquals(2, positionIndex.getSlotCount());
+        assertEquals(BENSON, positionIndex.get(1));
+        assertEquals(1, positionIndex.positionOf(1));
+        assertFalse(positionIndex.isSparse());
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.realodex.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.realodex.testutil.Assert.assertThrows;
 
@@ -13,6 +15,13 @@ public class RemarkTest {
         assertThrows(NullPointerException.class, () -> new Remark(null));
     }
 
+    @Test
+    public void of() {
+        assertThrows(NullPointerException.class, () -> Remark.of(null));
+        assertSame(Remark.of(""), Remark.of(""));
+        assertEquals(new Remark("Likes cats"), Remark.of("Likes cats"));
+    }
+
     @Test
     public void isValidRemark_equivalencePartitioning() {
         // null remark
@@ -1,6 +1,8 @@
 package seedu.realodex.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.realodex.testutil.Assert.assertThrows;
 
@@ -22,6 +24,15 @@ public class TagTest {
         assertThrows(IllegalArgumentException.class, () -> new Tag(invalidTagName));
     }
 
+    @Test
+    public void of() {
+        assertThrows(NullPointerException.class, () -> Tag.of((Tag.Role) null));
+        assertThrows(NullPointerException.class, () -> Tag.of((String) null));
+        assertThrows(IllegalArgumentException.class, () -> Tag.of("friend"));
+        assertEquals(new Tag("seller"), Tag.of(Tag.Role.SELLER));
+        assertSame(Tag.of(Tag.Role.SELLER), Tag.of("sElLeR"));
+    }
+
     @Test
     public void isValidTagName() {
         // EP: Null tag name passed to isValidTagName method -> throws NullPointerException
@@ -32,6 +43,7 @@ public class TagTest {
         assertFalse(Tag.isValidTagName("Buyers")); // Tag should not be plural
         assertFalse(Tag.isValidTagName("Sellers ")); // Extra space at the end
         assertFalse(Tag.isValidTagName("Invalid Tag")); // Space within the tag name
+        assertFalse(Tag.isValidTagName("\u017feller")); // Non-ASCII letter that upper-cases to S
 
         // EP: Valid tag names
         assertTrue(Tag.isValidTagName("buyer"));
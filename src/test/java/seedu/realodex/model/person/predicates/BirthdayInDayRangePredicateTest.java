@@ -0,0 +1,112 @@
+package seedu.realodex.model.person.predicates;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.realodex.testutil.Assert.assertThrows;
+import static seedu.realodex.testutil.TypicalPersons.ALICE;
+import static seedu.realodex.testutil.TypicalPersons.BENSON;
+import static seedu.realodex.testutil.TypicalPersons.CARL;
+import static seedu.realodex.testutil.TypicalPersons.DANIEL;
+import static seedu.realodex.testutil.TypicalPersons.ELLE;
+import static seedu.realodex.testutil.TypicalPersons.FIONA;
+import static seedu.realodex.testutil.TypicalPersons.getTypicalRealodex;
+
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.realodex.model.Realodex;
+import seedu.realodex.model.person.Birthday;
+import seedu.realodex.testutil.PersonBuilder;
+
+public class BirthdayInDayRangePredicateTest {
+
+    @Test
+    public void constructor_invalidDay_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new BirthdayInDayRangePredicate(0, 10));
+        assertThrows(IllegalArgumentException.class, () ->
+                new BirthdayInDayRangePredicate(1, Birthday.DAYS_IN_LEAP_YEAR + 1));
+    }
+
+    @Test
+    public void equals() {
+        BirthdayInDayRangePredicate firstPredicate = new BirthdayInDayRangePredicate(1, 10);
+        BirthdayInDayRangePredicate secondPredicate = new BirthdayInDayRangePredicate(10, 1);
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new BirthdayInDayRangePredicate(1, 10)));
+        assertEquals(firstPredicate.hashCode(), new BirthdayInDayRangePredicate(1, 10).hashCode());
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different range -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_birthdayInRange_returnsTrue() {
+        BirthdayInDayRangePredicate predicate = new BirthdayInDayRangePredicate(155, 158);
+        assertTrue(predicate.test(new PersonBuilder().withBirthday("3Jun2003").build()));
+        assertTrue(predicate.test(new PersonBuilder().withBirthday("6Jun2006").build()));
+
+        // range wrapping around the end of the year
+        predicate = new BirthdayInDayRangePredicate(360, 1);
+        assertTrue(predicate.test(new PersonBuilder().withBirthday("25Dec1999").build()));
+        assertTrue(predicate.test(new PersonBuilder().withBirthday("31Dec1999").build()));
+        assertTrue(predicate.test(new PersonBuilder().withBirthday("1Jan2004").build()));
+    }
+
+    @Test
+    public void test_birthdayOutOfRange_returnsFalse() {
+        BirthdayInDayRangePredicate predicate = new BirthdayInDayRangePredicate(155, 158);
+        assertFalse(predicate.test(new PersonBuilder().withBirthday("2Jun2003").build()));
+        assertFalse(predicate.test(new PersonBuilder().withBirthday("7Jun2006").build()));
+        assertFalse(predicate.test(new PersonBuilder().withBirthday("").build()));
+
+        predicate = new BirthdayInDayRangePredicate(360, 1);
+        assertFalse(predicate.test(new PersonBuilder().withBirthday("24Dec1999").build()));
+        assertFalse(predicate.test(new PersonBuilder().withBirthday("2Jan2004").build()));
+    }
+
+    @Test
+    public void lookUp_typicalRealodex_matchesTest() {
+        Realodex realodex = getTypicalRealodex();
+        BirthdayInDayRangePredicate predicate = new BirthdayInDayRangePredicate(155, 158);
+        BitSet expected = new BitSet();
+        expected.set(0); // ALICE
+        expected.set(1); // BENSON
+        expected.set(2); // CARL
+        expected.set(5); // FIONA
+        assertEquals(expected, predicate.lookUp(realodex));
+        assertEquals(List.of(ALICE, BENSON, CARL, FIONA), realodex.filterPersons(predicate));
+        assertEquals(4, predicate.estimateMatches(realodex));
+    }
+
+    @Test
+    public void lookUp_wrappingRange_matchesTest() {
+        Realodex realodex = getTypicalRealodex();
+        BirthdayInDayRangePredicate predicate = new BirthdayInDayRangePredicate(360, 1);
+        BitSet expected = new BitSet();
+        expected.set(3); // DANIEL
+        expected.set(4); // ELLE
+        assertEquals(expected, predicate.lookUp(realodex));
+        assertEquals(List.of(DANIEL, ELLE), realodex.filterPersons(predicate));
+        assertEquals(2, predicate.estimateMatches(realodex));
+    }
+
+    @Test
+    public void toStringMethod() {
+        BirthdayInDayRangePredicate predicate = new BirthdayInDayRangePredicate(360, 1);
+        String expected = BirthdayInDayRangePredicate.class.getCanonicalName() + "{fromDay=360, toDay=1}";
+        assertEquals(expected, predicate.toString());
+    }
+}
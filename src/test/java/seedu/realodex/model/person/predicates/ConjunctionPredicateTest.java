@@ -0,0 +1,123 @@
+package seedu.realodex.model.person.predicates;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.realodex.testutil.Assert.assertThrows;
+import static seedu.realodex.testutil.TypicalPersons.ALICE;
+import static seedu.realodex.testutil.TypicalPersons.BENSON;
+import static seedu.realodex.testutil.TypicalPersons.ELLE;
+import static seedu.realodex.testutil.TypicalPersons.FIONA;
+import static seedu.realodex.testutil.TypicalPersons.getTypicalRealodex;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.realodex.model.Realodex;
+import seedu.realodex.model.person.HousingType;
+import seedu.realodex.model.person.Tag;
+
+public class ConjunctionPredicateTest {
+
+    // typical persons: 3 with HDB, 6 buyers and 7 earning at most 100000
+    private final HousingTypeMatchPredicate hdbPredicate = new HousingTypeMatchPredicate(new HousingType("HDB"));
+    private final TagsMatchPredicate buyerPredicate =
+            new TagsMatchPredicate(Collections.singleton(new Tag("buyer")));
+    private final IncomeInRangePredicate incomePredicate = new IncomeInRangePredicate(new NumericRange(0, 100000));
+    private final NameContainsKeyphrasePredicate namePredicate = new NameContainsKeyphrasePredicate("e");
+
+    @Test
+    public void constructor_invalidPredicates_throwsException() {
+        assertThrows(NullPointerException.class, () -> new ConjunctionPredicate(null));
+        assertThrows(IllegalArgumentException.class, () -> new ConjunctionPredicate(Collections.emptyList()));
+    }
+
+    @Test
+    public void equals() {
+        ConjunctionPredicate firstPredicate = new ConjunctionPredicate(List.of(hdbPredicate, buyerPredicate));
+        ConjunctionPredicate secondPredicate = new ConjunctionPredicate(List.of(hdbPredicate));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new ConjunctionPredicate(List.of(hdbPredicate, buyerPredicate))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different predicates -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_allPredicatesMatch_returnsTrue() {
+        ConjunctionPredicate predicate = new ConjunctionPredicate(List.of(hdbPredicate, buyerPredicate));
+        assertTrue(predicate.test(ALICE));
+        assertTrue(predicate.test(ELLE));
+    }
+
+    @Test
+    public void test_somePredicateDoesNotMatch_returnsFalse() {
+        ConjunctionPredicate predicate = new ConjunctionPredicate(List.of(hdbPredicate, buyerPredicate));
+        assertFalse(predicate.test(BENSON));
+        assertFalse(predicate.test(FIONA));
+    }
+
+    @Test
+    public void plan_indexedPredicates_drivesFromMostSelectiveThenCheapestFirst() {
+        Realodex realodex = getTypicalRealodex();
+        ConjunctionPredicate predicate = new ConjunctionPredicate(
+                List.of(namePredicate, buyerPredicate, incomePredicate, hdbPredicate));
+        assertEquals(Arrays.asList(hdbPredicate, incomePredicate, buyerPredicate, namePredicate),
+                predicate.plan(realodex));
+    }
+
+    @Test
+    public void lookUp_indexedPredicates_returnsSlotsMatchingAll() {
+        Realodex realodex = getTypicalRealodex();
+        ConjunctionPredicate predicate = new ConjunctionPredicate(
+                List.of(buyerPredicate, incomePredicate, hdbPredicate));
+        BitSet expected = new BitSet();
+        expected.set(0); // ALICE
+        expected.set(4); // ELLE
+        assertEquals(expected, predicate.lookUp(realodex));
+        assertEquals(Arrays.asList(ALICE, ELLE), realodex.filterPersons(predicate));
+    }
+
+    @Test
+    public void estimateMatches_indexedPredicates_returnsSmallestEstimate() {
+        ConjunctionPredicate predicate = new ConjunctionPredicate(List.of(buyerPredicate, hdbPredicate));
+        assertEquals(3, predicate.estimateMatches(getTypicalRealodex()));
+    }
+
+    @Test
+    public void implies() {
+        ConjunctionPredicate predicate = new ConjunctionPredicate(List.of(hdbPredicate, namePredicate));
+
+        // component of the conjunction -> returns true
+        assertTrue(predicate.implies(hdbPredicate));
+        assertTrue(predicate.implies(new ConjunctionPredicate(List.of(namePredicate))));
+
+        // other predicate has a component this conjunction does not imply -> returns false
+        assertFalse(predicate.implies(new ConjunctionPredicate(List.of(hdbPredicate, buyerPredicate))));
+        assertFalse(predicate.implies(buyerPredicate));
+
+        // added component implies the conjunction it extends
+        assertTrue(new ConjunctionPredicate(List.of(hdbPredicate, namePredicate, buyerPredicate)).implies(predicate));
+    }
+
+    @Test
+    public void toStringMethod() {
+        ConjunctionPredicate predicate = new ConjunctionPredicate(List.of(hdbPredicate));
+        String expected = ConjunctionPredicate.class.getCanonicalName() + "{predicates=" + List.of(hdbPredicate) + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
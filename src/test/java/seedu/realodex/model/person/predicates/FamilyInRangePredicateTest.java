@@ -0,0 +1,69 @@
+package seedu.realodex.model.person.predicates;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.realodex.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.realodex.testutil.PersonBuilder;
+
+public class FamilyInRangePredicateTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new FamilyInRangePredicate(null));
+    }
+
+    @Test
+    public void equals() {
+        FamilyInRangePredicate firstPredicate = new FamilyInRangePredicate(new NumericRange(1, 5));
+        FamilyInRangePredicate secondPredicate = new FamilyInRangePredicate(new NumericRange(2, 5));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new FamilyInRangePredicate(new NumericRange(1, 5))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different range -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_valueInRange_returnsTrue() {
+        FamilyInRangePredicate predicate = new FamilyInRangePredicate(new NumericRange(3, 4));
+        assertTrue(predicate.test(new PersonBuilder().withFamily("3").build()));
+        assertTrue(predicate.test(new PersonBuilder().withFamily("4").build()));
+    }
+
+    @Test
+    public void test_valueOutOfRange_returnsFalse() {
+        FamilyInRangePredicate predicate = new FamilyInRangePredicate(new NumericRange(3, 4));
+        assertFalse(predicate.test(new PersonBuilder().withFamily("2").build()));
+        assertFalse(predicate.test(new PersonBuilder().withFamily("5").build()));
+    }
+
+    @Test
+    public void implies() {
+        FamilyInRangePredicate predicate = new FamilyInRangePredicate(new NumericRange(3, 5));
+        assertTrue(predicate.implies(new FamilyInRangePredicate(new NumericRange(1, 5))));
+        assertTrue(predicate.implies(new FamilyInRangePredicate(new NumericRange(3, 5))));
+        assertFalse(predicate.implies(new FamilyInRangePredicate(new NumericRange(4, 5))));
+        assertFalse(predicate.implies(new IncomeInRangePredicate(new NumericRange(1, 5))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        NumericRange range = new NumericRange(1, 5);
+        String expected = FamilyInRangePredicate.class.getCanonicalName() + "{range=" + range + "}";
+        assertEquals(expected, new FamilyInRangePredicate(range).toString());
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.realodex.model.person.predicates;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.realodex.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.realodex.testutil.PersonBuilder;
+
+public class IncomeInRangePredicateTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new IncomeInRangePredicate(null));
+    }
+
+    @Test
+    public void equals() {
+        IncomeInRangePredicate firstPredicate = new IncomeInRangePredicate(new NumericRange(1, 5));
+        IncomeInRangePredicate secondPredicate = new IncomeInRangePredicate(new NumericRange(2, 5));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new IncomeInRangePredicate(new NumericRange(1, 5))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different range -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_valueInRange_returnsTrue() {
+        IncomeInRangePredicate predicate = new IncomeInRangePredicate(new NumericRange(5000, 12000));
+        assertTrue(predicate.test(new PersonBuilder().withIncome("5000").build()));
+        assertTrue(predicate.test(new PersonBuilder().withIncome("12000").build()));
+    }
+
+    @Test
+    public void test_valueOutOfRange_returnsFalse() {
+        IncomeInRangePredicate predicate = new IncomeInRangePredicate(new NumericRange(5000, 12000));
+        assertFalse(predicate.test(new PersonBuilder().withIncome("4999").build()));
+        assertFalse(predicate.test(new PersonBuilder().withIncome("12001").build()));
+    }
+
+    @Test
+    public void implies() {
+        IncomeInRangePredicate predicate = new IncomeInRangePredicate(new NumericRange(3, 5));
+        assertTrue(predicate.implies(new IncomeInRangePredicate(new NumericRange(1, 5))));
+        assertTrue(predicate.implies(new IncomeInRangePredicate(new NumericRange(3, 5))));
+        assertFalse(predicate.implies(new IncomeInRangePredicate(new NumericRange(4, 5))));
+        assertFalse(predicate.implies(new FamilyInRangePredicate(new NumericRange(1, 5))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        NumericRange range = new NumericRange(1, 5);
+        String expected = IncomeInRangePredicate.class.getCanonicalName() + "{range=" + range + "}";
+        assertEquals(expected, new IncomeInRangePredicate(range).toString());
+    }
+}
@@ -0,0 +1,42 @@
+package seedu.realodex.model.person.predicates;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.realodex.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class KeyphraseMatcherTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new KeyphraseMatcher(null));
+    }
+
+    @Test
+    public void isFoundIn_textContainsKeyphrase_returnsTrue() {
+        assertTrue(new KeyphraseMatcher("meier").isFoundIn("Benson Meier"));
+        assertTrue(new KeyphraseMatcher("BEN").isFoundIn("Benson Meier"));
+        assertTrue(new KeyphraseMatcher("son me").isFoundIn("Benson Meier"));
+        assertTrue(new KeyphraseMatcher("Benson Meier").isFoundIn("benson meier"));
+
+        // keyphrase found only after a partial match
+        assertTrue(new KeyphraseMatcher("abcab").isFoundIn("abcabcab"));
+        assertTrue(new KeyphraseMatcher("aab").isFoundIn("aaab"));
+
+        // \u0161 shares its bucket of the shift table with a
+        assertTrue(new KeyphraseMatcher("\u0161a").isFoundIn("xa\u0161a"));
+
+        // empty keyphrase is found in every text
+        assertTrue(new KeyphraseMatcher("").isFoundIn(""));
+        assertTrue(new KeyphraseMatcher("").isFoundIn("Alice"));
+    }
+
+    @Test
+    public void isFoundIn_textDoesNotContainKeyphrase_returnsFalse() {
+        assertFalse(new KeyphraseMatcher("meyer").isFoundIn("Benson Meier"));
+        assertFalse(new KeyphraseMatcher("Benson Meier ").isFoundIn("Benson Meier"));
+        assertFalse(new KeyphraseMatcher("a").isFoundIn(""));
+        assertFalse(new KeyphraseMatcher("abcab").isFoundIn("abcacbab"));
+    }
+}
@@ -97,6 +97,23 @@ public class NameContainsKeyphrasePredicateTest {
         assertFalse(predicate.test(alice));
     }
 
+    @Test
+    public void implies() {
+        NameContainsKeyphrasePredicate predicate = new NameContainsKeyphrasePredicate("Alice");
+
+        // keyphrase contains the other keyphrase, ignoring case -> returns true
+        assertTrue(predicate.implies(new NameContainsKeyphrasePredicate("al")));
+        assertTrue(predicate.implies(new NameContainsKeyphrasePredicate("LIC")));
+        assertTrue(predicate.implies(new NameContainsKeyphrasePredicate("Alice")));
+
+        // longer or different keyphrase -> returns false
+        assertFalse(predicate.implies(new NameContainsKeyphrasePredicate("Alice Pauline")));
+        assertFalse(predicate.implies(new NameContainsKeyphrasePredicate("Bob")));
+
+        // different field -> returns false
+        assertFalse(predicate.implies(new RemarkContainsKeyphrasePredicate("al")));
+    }
+
     @Test
     // Test toString method to ensure it returns correct string representation
     public void toStringMethod() {
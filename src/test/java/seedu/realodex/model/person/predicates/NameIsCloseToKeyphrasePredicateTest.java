@@ -0,0 +1,91 @@
+package seedu.realodex.model.person.predicates;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.realodex.testutil.Assert.assertThrows;
+import static seedu.realodex.testutil.TypicalPersons.BENSON;
+import static seedu.realodex.testutil.TypicalPersons.ELLE;
+import static seedu.realodex.testutil.TypicalPersons.getTypicalRealodex;
+
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.realodex.model.Realodex;
+import seedu.realodex.testutil.PersonBuilder;
+
+public class NameIsCloseToKeyphrasePredicateTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new NameIsCloseToKeyphrasePredicate(null));
+    }
+
+    @Test
+    public void equals() {
+        NameIsCloseToKeyphrasePredicate firstPredicate = new NameIsCloseToKeyphrasePredicate("jonh tann");
+        NameIsCloseToKeyphrasePredicate secondPredicate = new NameIsCloseToKeyphrasePredicate("jon tan");
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new NameIsCloseToKeyphrasePredicate("jonh tann")));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different keyphrase -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void getMaxDistance_keyphrase_oneEditPerFourCharactersPlusOne() {
+        assertEquals(1, new NameIsCloseToKeyphrasePredicate("Tan").getMaxDistance());
+        assertEquals(2, new NameIsCloseToKeyphrasePredicate("John").getMaxDistance());
+        assertEquals(3, new NameIsCloseToKeyphrasePredicate("jonh tann").getMaxDistance());
+    }
+
+    @Test
+    public void test_nameCloseToKeyphrase_returnsTrue() {
+        NameIsCloseToKeyphrasePredicate predicate = new NameIsCloseToKeyphrasePredicate("jonh tann");
+        assertTrue(predicate.test(new PersonBuilder().withName("John Tan").build()));
+        assertTrue(predicate.test(new PersonBuilder().withName("JONH TANN").build()));
+        assertTrue(predicate.test(new PersonBuilder().withName("Jon Tang").build()));
+    }
+
+    @Test
+    public void test_nameFarFromKeyphrase_returnsFalse() {
+        NameIsCloseToKeyphrasePredicate predicate = new NameIsCloseToKeyphrasePredicate("jonh tann");
+        assertFalse(predicate.test(new PersonBuilder().withName("Johnathan Tan").build()));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice").build()));
+
+        // keyphrase contained in a longer name is not close to it
+        predicate = new NameIsCloseToKeyphrasePredicate("Benson");
+        assertFalse(predicate.test(BENSON));
+    }
+
+    @Test
+    public void lookUp_typicalRealodex_matchesTest() {
+        Realodex realodex = getTypicalRealodex();
+        NameIsCloseToKeyphrasePredicate predicate = new NameIsCloseToKeyphrasePredicate("bensen meyer");
+        BitSet expected = new BitSet();
+        expected.set(1); // BENSON, 2 edits away
+        expected.set(4); // ELLE, 4 edits away
+        assertEquals(expected, predicate.lookUp(realodex));
+        assertEquals(List.of(BENSON, ELLE), realodex.filterPersons(predicate));
+        assertEquals(realodex.getPersonList().size(), predicate.estimateMatches(realodex));
+    }
+
+    @Test
+    public void toStringMethod() {
+        NameIsCloseToKeyphrasePredicate predicate = new NameIsCloseToKeyphrasePredicate("jonh");
+        String expected = NameIsCloseToKeyphrasePredicate.class.getCanonicalName() + "{keyphrase=jonh}";
+        assertEquals(expected, predicate.toString());
+    }
+}
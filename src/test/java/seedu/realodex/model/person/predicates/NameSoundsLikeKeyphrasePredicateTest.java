@@ -0,0 +1,99 @@
+package seedu.realodex.model.person.predicates;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.realodex.testutil.Assert.assertThrows;
+import static seedu.realodex.testutil.TypicalPersons.BENSON;
+import static seedu.realodex.testutil.TypicalPersons.DANIEL;
+import static seedu.realodex.testutil.TypicalPersons.ELLE;
+import static seedu.realodex.testutil.TypicalPersons.getTypicalRealodex;
+
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.realodex.model.Realodex;
+import seedu.realodex.testutil.PersonBuilder;
+
+public class NameSoundsLikeKeyphrasePredicateTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new NameSoundsLikeKeyphrasePredicate(null));
+    }
+
+    @Test
+    public void equals() {
+        NameSoundsLikeKeyphrasePredicate firstPredicate = new NameSoundsLikeKeyphrasePredicate("jon smyth");
+        NameSoundsLikeKeyphrasePredicate secondPredicate = new NameSoundsLikeKeyphrasePredicate("jon");
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new NameSoundsLikeKeyphrasePredicate("jon smyth")));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different keyphrase -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_nameSoundsLikeKeyphrase_returnsTrue() {
+        NameSoundsLikeKeyphrasePredicate predicate = new NameSoundsLikeKeyphrasePredicate("jon smyth");
+        assertTrue(predicate.test(new PersonBuilder().withName("John Smith").build()));
+        assertTrue(predicate.test(new PersonBuilder().withName("Smith John Lee").build()));
+        assertTrue(predicate.test(new PersonBuilder().withName("JOHN SMITH").build()));
+    }
+
+    @Test
+    public void test_nameDoesNotSoundLikeKeyphrase_returnsFalse() {
+        NameSoundsLikeKeyphrasePredicate predicate = new NameSoundsLikeKeyphrasePredicate("jon smyth");
+        // only some words sound alike
+        assertFalse(predicate.test(new PersonBuilder().withName("John Tan").build()));
+        // same sounds but different first letters
+        assertFalse(predicate.test(new PersonBuilder().withName("Gon Smith").build()));
+    }
+
+    @Test
+    public void implies() {
+        NameSoundsLikeKeyphrasePredicate predicate = new NameSoundsLikeKeyphrasePredicate("jon smyth");
+
+        // sound-alike words of other predicate are a subset -> returns true
+        assertTrue(predicate.implies(new NameSoundsLikeKeyphrasePredicate("John")));
+        assertTrue(predicate.implies(new NameSoundsLikeKeyphrasePredicate("smith jon")));
+
+        // other predicate requires another sound -> returns false
+        assertFalse(predicate.implies(new NameSoundsLikeKeyphrasePredicate("john tan")));
+
+        // different type -> returns false
+        assertFalse(predicate.implies(new NameContainsKeyphrasePredicate("jon")));
+    }
+
+    @Test
+    public void lookUp_typicalRealodex_matchesTest() {
+        Realodex realodex = getTypicalRealodex();
+        NameSoundsLikeKeyphrasePredicate predicate = new NameSoundsLikeKeyphrasePredicate("mayer");
+        BitSet expected = new BitSet();
+        expected.set(1); // BENSON
+        expected.set(3); // DANIEL
+        expected.set(4); // ELLE
+        assertEquals(expected, predicate.lookUp(realodex));
+        assertEquals(List.of(BENSON, DANIEL, ELLE), realodex.filterPersons(predicate));
+        assertEquals(3, predicate.estimateMatches(realodex));
+    }
+
+    @Test
+    public void toStringMethod() {
+        NameSoundsLikeKeyphrasePredicate predicate = new NameSoundsLikeKeyphrasePredicate("jon");
+        String expected = NameSoundsLikeKeyphrasePredicate.class.getCanonicalName() + "{keyphrase=jon}";
+        assertEquals(expected, predicate.toString());
+    }
+}
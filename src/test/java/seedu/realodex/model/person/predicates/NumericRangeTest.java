@@ -0,0 +1,70 @@
+package seedu.realodex.model.person.predicates;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class NumericRangeTest {
+
+    @Test
+    public void contains() {
+        NumericRange range = new NumericRange(3, 5);
+        assertTrue(range.contains(3));
+        assertTrue(range.contains(5));
+        assertFalse(range.contains(2));
+        assertFalse(range.contains(6));
+        assertTrue(NumericRange.ALL.contains(0));
+        assertTrue(NumericRange.ALL.contains(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void intersect() {
+        assertEquals(new NumericRange(4, 5), new NumericRange(3, 5).intersect(new NumericRange(4, 9)));
+        assertEquals(new NumericRange(3, 5), NumericRange.ALL.intersect(new NumericRange(3, 5)));
+        assertTrue(new NumericRange(3, 5).intersect(new NumericRange(6, 9)).isEmpty());
+    }
+
+    @Test
+    public void isEmpty() {
+        assertFalse(new NumericRange(5, 5).isEmpty());
+        assertTrue(new NumericRange(6, 5).isEmpty());
+    }
+
+    @Test
+    public void isWithin() {
+        assertTrue(new NumericRange(3, 5).isWithin(new NumericRange(3, 5)));
+        assertTrue(new NumericRange(3, 5).isWithin(NumericRange.ALL));
+        assertFalse(new NumericRange(3, 5).isWithin(new NumericRange(4, 10)));
+        // an empty range is within every range
+        assertTrue(new NumericRange(5, 3).isWithin(new NumericRange(10, 20)));
+    }
+
+    @Test
+    public void equals() {
+        NumericRange range = new NumericRange(3, 5);
+
+        // same values -> returns true
+        assertTrue(range.equals(new NumericRange(3, 5)));
+
+        // same object -> returns true
+        assertTrue(range.equals(range));
+
+        // null -> returns false
+        assertFalse(range.equals(null));
+
+        // different types -> returns false
+        assertFalse(range.equals(5));
+
+        // different values -> returns false
+        assertFalse(range.equals(new NumericRange(3, 6)));
+        assertFalse(range.equals(new NumericRange(2, 5)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        String expected = NumericRange.class.getCanonicalName() + "{min=3, max=5}";
+        assertEquals(expected, new NumericRange(3, 5).toString());
+    }
+}
@@ -4,14 +4,26 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static seedu.realodex.logic.parser.CliSyntax.PREFIX_BIRTHDAY;
+import static seedu.realodex.logic.parser.CliSyntax.PREFIX_FAMILY;
+import static seedu.realodex.logic.parser.CliSyntax.PREFIX_FUZZY_NAME;
+import static seedu.realodex.logic.parser.CliSyntax.PREFIX_HOUSINGTYPE;
+import static seedu.realodex.logic.parser.CliSyntax.PREFIX_INCOME;
 import static seedu.realodex.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.realodex.logic.parser.CliSyntax.PREFIX_PHONETIC_NAME;
 import static seedu.realodex.logic.parser.CliSyntax.PREFIX_REMARK;
 import static seedu.realodex.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.realodex.testutil.TypicalPersons.getFirstTypicalPersons;
 
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
 import java.util.List;
 
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
+import com.sun.management.ThreadMXBean;
 import seedu.realodex.logic.commands.FilterCommand;
 import seedu.realodex.logic.parser.Prefix;
 import seedu.realodex.logic.parser.exceptions.ParseException;
@@ -34,6 +46,30 @@ class PredicateProducerTest {
         assertTrue(predicateProducer.createPredicate(PREFIX_NAME, keyphrase).test(alice));
     }
 
+    @Test
+    // Test for creating predicate based on fuzzy name prefix
+    void createPredicate_validFuzzyNamePrefix_createsCorrectPredicate() throws ParseException {
+        PredicateProducer predicateProducer = new PredicateProducer();
+        List<String> keyphrase = List.of("Alise");
+
+        Person alice = new PersonBuilder().withName("Alice").build();
+        assertEquals(predicateProducer.createPredicate(PREFIX_FUZZY_NAME, keyphrase),
+                     new NameIsCloseToKeyphrasePredicate("Alise"));
+        assertTrue(predicateProducer.createPredicate(PREFIX_FUZZY_NAME, keyphrase).test(alice));
+    }
+
+    @Test
+    // Test for creating predicate based on phonetic name prefix
+    void createPredicate_validPhoneticNamePrefix_createsCorrectPredicate() throws ParseException {
+        PredicateProducer predicateProducer = new PredicateProducer();
+        List<String> keyphrase = List.of("Alyse");
+
+        Person alice = new PersonBuilder().withName("Alice").build();
+        assertEquals(predicateProducer.createPredicate(PREFIX_PHONETIC_NAME, keyphrase),
+                     new NameSoundsLikeKeyphrasePredicate("Alyse"));
+        assertTrue(predicateProducer.createPredicate(PREFIX_PHONETIC_NAME, keyphrase).test(alice));
+    }
+
     @Test
     // Test for creating predicate based on remark prefix
     void createPredicate_validRemarkPrefix_createsCorrectPredicate() throws ParseException {
@@ -113,6 +149,63 @@ class PredicateProducerTest {
         assertTrue(exception.getMessage().contains(FilterCommand.MESSAGE_USAGE));
     }
 
+    @Test
+    @Tag("allocation")
+    // Test that compiled predicates test persons without allocating memory. The result depends on how the JVM
+    // compiles and allocates, so it runs in the allocationTest task rather than in test.
+    void createPredicate_allPrefixes_testsWithoutAllocating() throws ParseException {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof ThreadMXBean,
+                "JVM does not count the bytes allocated by a thread");
+        ThreadMXBean threadBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported(), "JVM does not count the bytes allocated by a thread");
+        assumeTrue(threadBean.isThreadAllocatedMemoryEnabled(), "Counting the bytes allocated by a thread is disabled");
+
+        PredicateProducer predicateProducer = new PredicateProducer();
+        List<IndexedPredicate> predicates = new ArrayList<>();
+        predicates.add(predicateProducer.createPredicate(PREFIX_NAME, List.of("e")));
+        predicates.add(predicateProducer.createPredicate(PREFIX_PHONETIC_NAME, List.of("Alis")));
+        predicates.add(predicateProducer.createPredicate(PREFIX_REMARK, List.of("remark")));
+        predicates.add(predicateProducer.createPredicate(PREFIX_TAG, List.of("buyer")));
+        predicates.add(predicateProducer.createPredicate(PREFIX_BIRTHDAY, List.of("Jun")));
+        predicates.add(predicateProducer.createPredicate(PREFIX_HOUSINGTYPE, List.of("HDB")));
+        predicates.add(predicateProducer.createPredicate(PREFIX_INCOME, List.of(">=5000")));
+        predicates.add(predicateProducer.createPredicate(PREFIX_FAMILY, List.of("<=10")));
+        IndexedPredicate conjunction = new ConjunctionPredicate(predicates);
+        Person[] persons = getFirstTypicalPersons().toArray(new Person[0]);
+
+        long threadId = Thread.currentThread().getId();
+        int iterations = 100_000;
+        int matches = testAll(conjunction, persons, iterations); // warm up
+        long allocatedBefore = threadBean.getThreadAllocatedBytes(threadId);
+        matches += testAll(conjunction, persons, iterations);
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        assertEquals(2 * iterations, matches); // only ALICE satisfies every predicate
+        // reading the counter may itself allocate a few bytes, far less than one byte per person tested
+        assertTrue(allocated < iterations, "allocated " + allocated + " bytes");
+
+        // the sound-alike predicate on its own tests every person, not only those passing cheaper predicates
+        IndexedPredicate soundsLike = predicates.get(1);
+        testAll(soundsLike, persons, iterations); // warm up
+        allocatedBefore = threadBean.getThreadAllocatedBytes(threadId);
+        matches = testAll(soundsLike, persons, iterations);
+        allocated = threadBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        assertEquals(iterations, matches);
+        assertTrue(allocated < iterations, "allocated " + allocated + " bytes");
+    }
+
+    private static int testAll(IndexedPredicate predicate, Person[] persons, int iterations) {
+        int matches = 0;
+        for (int i = 0; i < iterations; i++) {
+            for (Person person : persons) {
+                if (predicate.test(person)) {
+                    matches++;
+                }
+            }
+        }
+        return matches;
+    }
+
     @Test
     // Test for handling unknown prefix when creating predicate
     void createPredicate_returnsNullWhenInvalidPrefix() {
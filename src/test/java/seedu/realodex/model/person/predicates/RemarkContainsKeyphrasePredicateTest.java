@@ -111,6 +111,14 @@ public class RemarkContainsKeyphrasePredicateTest {
         assertFalse(predicate.test(alice));
     }
 
+    @Test
+    public void implies() {
+        RemarkContainsKeyphrasePredicate predicate = new RemarkContainsKeyphrasePredicate("Loves cats");
+        assertTrue(predicate.implies(new RemarkContainsKeyphrasePredicate("loves")));
+        assertFalse(predicate.implies(new RemarkContainsKeyphrasePredicate("loves dogs")));
+        assertFalse(predicate.implies(new NameContainsKeyphrasePredicate("loves")));
+    }
+
     @Test
     // Test for checking toString method
     public void toStringMethod() {
@@ -118,6 +118,15 @@ public class TagsMatchPredicateTest {
         assertFalse(predicate.test(person));
     }
 
+    @Test
+    public void implies() {
+        TagsMatchPredicate buyerAndSellerPredicate =
+                new TagsMatchPredicate(Set.of(new Tag("buyer"), new Tag("seller")));
+        TagsMatchPredicate buyerPredicate = new TagsMatchPredicate(Set.of(new Tag("buyer")));
+        assertTrue(buyerAndSellerPredicate.implies(buyerPredicate));
+        assertFalse(buyerPredicate.implies(buyerAndSellerPredicate));
+    }
+
     @Test
     // Test for checking toString method
     public void toStringMethod() {
@@ -8,11 +8,16 @@ import java.time.format.DateTimeFormatter;
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.ObservableList;
+import seedu.realodex.model.DayClock;
 import seedu.realodex.model.person.Person;
+import seedu.realodex.testutil.ManualClock;
 import seedu.realodex.testutil.PersonBuilder;
 
 public class BirthdayComparatorTest {
 
+    // counts days from 1 Jan
+    private static final int FROM_DAY = 1;
+
     @Test
     public void compare_bothPersonsHaveSpecifiedBirthdays() {
         // Create two persons with specified birthdays
@@ -20,7 +25,7 @@ public class BirthdayComparatorTest {
         Person validPerson2 = new PersonBuilder().withBirthday("15Feb1992").build();
 
         // Create the comparator
-        BirthdayComparator comparator = new BirthdayComparator();
+        BirthdayComparator comparator = new BirthdayComparator(FROM_DAY);
 
         // Compare the two persons
         int result = comparator.compare(validPerson, validPerson2);
@@ -36,7 +41,7 @@ public class BirthdayComparatorTest {
         Person validPerson2 = new PersonBuilder().withBirthday("15Feb1992").build();
 
         // Create the comparator
-        BirthdayComparator comparator = new BirthdayComparator();
+        BirthdayComparator comparator = new BirthdayComparator(FROM_DAY);
 
         // Compare the two persons
         int result = comparator.compare(validPerson, validPerson2);
@@ -48,10 +53,19 @@ public class BirthdayComparatorTest {
         assertEquals(-1, result2); // validperson2 over validperson
     }
 
+    @Test
+    public void compare_neitherPersonHasSpecifiedBirthday_returnsZero() {
+        Person validPerson = new PersonBuilder().withBirthday("").build();
+        Person validPerson2 = new PersonBuilder().withName("Bob Choo").withBirthday("").build();
+        BirthdayComparator comparator = new BirthdayComparator(FROM_DAY);
+        assertEquals(0, comparator.compare(validPerson, validPerson2));
+        assertEquals(0, comparator.compare(validPerson2, validPerson));
+    }
+
     @Test
     public void sortingFunctionality_test() {
-        // Creating some arbitrary dates relative to now to test that the sorting works as expected
-        LocalDate today = LocalDate.now();
+        // Creating some arbitrary dates relative to a fixed today to test that the sorting works as expected
+        LocalDate today = LocalDate.of(2023, 6, 1);
         LocalDate date1 = today.minusDays(100); // 265 days to bday
         LocalDate date2 = today.minusDays(3); // 362 days to bday
         LocalDate date3 = today.minusDays(234); // 131 days to bday
@@ -98,7 +112,8 @@ public class BirthdayComparatorTest {
                 .withEmail("hans@example.com").withAddress("chicago ave")
                 .withTags("buyer").withBirthday(date5Formatted).build());
 
-        BirthdayComparator bc = new BirthdayComparator();
+        DayClock dayClock = new DayClock(new ManualClock(today));
+        BirthdayComparator bc = new BirthdayComparator(dayClock.getTodayDayOfLeapYear());
         unsortedList.sort(bc);
         String target = "Daniel Meier, Benson Meier, Fiona Kunz, Ida Mueller, Carl Kurz, Alice Pauline, ";
         String result = "";
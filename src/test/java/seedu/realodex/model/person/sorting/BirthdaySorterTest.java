@@ -0,0 +1,64 @@
+package seedu.realodex.model.person.sorting;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.realodex.testutil.Assert.assertThrows;
+import static seedu.realodex.testutil.TypicalPersons.ALICE;
+import static seedu.realodex.testutil.TypicalPersons.BENSON;
+import static seedu.realodex.testutil.TypicalPersons.CARL;
+import static seedu.realodex.testutil.TypicalPersons.DANIEL;
+import static seedu.realodex.testutil.TypicalPersons.ELLE;
+import static seedu.realodex.testutil.TypicalPersons.GEORGE;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.realodex.model.person.Person;
+import seedu.realodex.testutil.PersonBuilder;
+
+public class BirthdaySorterTest {
+
+    private final Person noBirthday = new PersonBuilder(CARL).withBirthday("").build();
+    private final Person otherNoBirthday = new PersonBuilder(GEORGE).withBirthday("").build();
+
+    @Test
+    public void sortByDaysFrom_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> BirthdaySorter.sortByDaysFrom(null, 1));
+    }
+
+    @Test
+    public void sortByDaysFrom_specifiedBirthdays_sortsByDaysUntilBirthday() {
+        // ALICE 3 Jun (155), DANIEL 25 Dec (360), ELLE 1 Jan (1)
+        List<Person> persons = List.of(DANIEL, ALICE, ELLE);
+        assertEquals(List.of(ELLE, ALICE, DANIEL), BirthdaySorter.sortByDaysFrom(persons, 1));
+        assertEquals(List.of(ALICE, DANIEL, ELLE), BirthdaySorter.sortByDaysFrom(persons, 100));
+
+        // wraps around the end of the year
+        assertEquals(List.of(DANIEL, ELLE, ALICE), BirthdaySorter.sortByDaysFrom(persons, 300));
+    }
+
+    @Test
+    public void sortByDaysFrom_unspecifiedBirthdays_comeLastInOriginalOrder() {
+        List<Person> persons = List.of(otherNoBirthday, DANIEL, noBirthday, ALICE);
+        assertEquals(List.of(ALICE, DANIEL, otherNoBirthday, noBirthday), BirthdaySorter.sortByDaysFrom(persons, 1));
+    }
+
+    @Test
+    public void sortByDaysFrom_sharedBirthday_keepsOriginalOrder() {
+        // ALICE and BENSON are both born on 3 Jun
+        assertEquals(List.of(BENSON, ALICE, DANIEL), BirthdaySorter.sortByDaysFrom(List.of(DANIEL, BENSON, ALICE), 1));
+        assertEquals(List.of(ALICE, BENSON, DANIEL), BirthdaySorter.sortByDaysFrom(List.of(ALICE, DANIEL, BENSON), 1));
+    }
+
+    @Test
+    public void sortByDaysFrom_anyPersons_agreesWithBirthdayComparator() {
+        List<Person> sortedPersons = BirthdaySorter.sortByDaysFrom(
+                List.of(noBirthday, DANIEL, ALICE, ELLE, GEORGE, otherNoBirthday), 200);
+        BirthdayComparator comparator = new BirthdayComparator(200);
+        for (int i = 1; i < sortedPersons.size(); i++) {
+            assertTrue(comparator.compare(sortedPersons.get(i - 1), sortedPersons.get(i)) <= 0);
+        }
+        assertEquals(6, sortedPersons.size());
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.realodex.model.person.sorting;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.realodex.testutil.TypicalPersons.ALICE;
+import static seedu.realodex.testutil.TypicalPersons.BENSON;
+import static seedu.realodex.testutil.TypicalPersons.CARL;
+import static seedu.realodex.testutil.TypicalPersons.DANIEL;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.realodex.model.person.Person;
+import seedu.realodex.testutil.PersonBuilder;
+
+public class SortKeyTest {
+
+    private static final int FROM_DAY = 150;
+
+    @Test
+    public void fromKeyword() {
+        assertEquals(Optional.of(SortKey.HOUSING_TYPE), SortKey.fromKeyword("housing"));
+        assertEquals(Optional.of(SortKey.FAMILY), SortKey.fromKeyword("FaMiLy"));
+        assertEquals(Optional.empty(), SortKey.fromKeyword("housingtype"));
+    }
+
+    @Test
+    public void getComparator_eachKey_ordersBySmallestFirst() {
+        Person richAlice = new PersonBuilder(ALICE).withIncome("99999").withFamily("1").build();
+        assertTrue(SortKey.INCOME.getComparator(FROM_DAY).compare(BENSON, richAlice) < 0);
+        assertTrue(SortKey.FAMILY.getComparator(FROM_DAY).compare(richAlice, BENSON) < 0);
+        assertTrue(SortKey.NAME.getComparator(FROM_DAY).compare(ALICE, BENSON) < 0);
+        // HDB comes before Good Class Bungalow
+        assertTrue(SortKey.HOUSING_TYPE.getComparator(FROM_DAY).compare(ALICE, DANIEL) < 0);
+    }
+
+    @Test
+    public void comparing_multipleKeys_breaksTiesByLaterKeys() {
+        // all four share a family size, so they are ordered by housing type
+        List<Person> persons = new ArrayList<>(Arrays.asList(CARL, BENSON, DANIEL, ALICE));
+        persons.sort(SortKey.comparing(List.of(SortKey.FAMILY, SortKey.HOUSING_TYPE), FROM_DAY));
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL, DANIEL), persons);
+    }
+
+    @Test
+    public void comparing_equalKeys_ordersByName() {
+        Comparator<Person> comparator = SortKey.comparing(List.of(SortKey.FAMILY), FROM_DAY);
+        assertTrue(comparator.compare(ALICE, BENSON) < 0);
+        assertTrue(comparator.compare(BENSON, ALICE) > 0);
+        assertEquals(0, comparator.compare(ALICE, new PersonBuilder(ALICE).build()));
+    }
+
+    @Test
+    public void describe() {
+        assertEquals("days to their birthday", SortKey.describe(List.of(SortKey.BIRTHDAY)));
+        assertEquals("housing type, then by income", SortKey.describe(List.of(SortKey.HOUSING_TYPE, SortKey.INCOME)));
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.realodex.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.realodex.storage.JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.realodex.testutil.Assert.assertThrows;
 import static seedu.realodex.testutil.TypicalPersons.BENSON;
@@ -19,6 +20,7 @@ import seedu.realodex.model.person.Family;
 import seedu.realodex.model.person.HousingType;
 import seedu.realodex.model.person.Income;
 import seedu.realodex.model.person.Name;
+import seedu.realodex.model.person.Person;
 import seedu.realodex.model.person.Phone;
 
 public class JsonAdaptedPersonTest {
@@ -52,6 +54,19 @@ public class JsonAdaptedPersonTest {
         assertEquals(BENSON, person.toModelType());
     }
 
+    @Test
+    public void toModelType_repeatedFields_sharesStrings() throws Exception {
+        Person first = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_INCOME, new String(VALID_EMAIL),
+                new String(VALID_ADDRESS), VALID_FAMILY, VALID_TAGS, VALID_HOUSINGTYPE, new String(VALID_REMARK),
+                VALID_BIRTHDAY).toModelType();
+        Person second = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_INCOME, new String(VALID_EMAIL),
+                new String(VALID_ADDRESS), VALID_FAMILY, VALID_TAGS, VALID_HOUSINGTYPE, new String(VALID_REMARK),
+                VALID_BIRTHDAY).toModelType();
+        assertSame(first.getAddress().value, second.getAddress().value);
+        assertSame(first.getEmail().value, second.getEmail().value);
+        assertSame(first.getRemark().remarkName, second.getRemark().remarkName);
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedPerson person =
@@ -95,6 +110,16 @@ public class JsonAdaptedPersonTest {
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
 
+    @Test
+    public void toModelType_oversizedIncomeAndFamily_returnsClampedPerson() throws Exception {
+        JsonAdaptedPerson person =
+                new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, "99999999999999999999", VALID_EMAIL, VALID_ADDRESS,
+                                      "12422131313131938", VALID_TAGS, VALID_HOUSINGTYPE, VALID_REMARK, VALID_BIRTHDAY);
+        Person modelPerson = person.toModelType();
+        assertEquals(Long.MAX_VALUE, modelPerson.getIncome().getValue());
+        assertEquals(Integer.MAX_VALUE, modelPerson.getFamily().getValue());
+    }
+
     @Test
     public void toModelType_nullIncome_throwsIllegalValueException() {
         JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, null, VALID_EMAIL,
@@ -206,6 +231,16 @@ public class JsonAdaptedPersonTest {
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
 
+    @Test
+    public void toModelType_birthdayAfterToday_returnsPerson() throws Exception {
+        // a birthday is only checked against the date when it is entered
+        String futureBirthday = "1Jan9999";
+        JsonAdaptedPerson person =
+                new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_INCOME, VALID_EMAIL, VALID_ADDRESS,
+                                      VALID_FAMILY, VALID_TAGS, VALID_HOUSINGTYPE, VALID_REMARK, futureBirthday);
+        assertEquals(new Birthday(futureBirthday), person.toModelType().getBirthday());
+    }
+
     @Test
     public void toModelType_nullBirthday_throwsIllegalValueException() {
         JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME,
@@ -5,12 +5,14 @@ import static seedu.realodex.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.realodex.commons.exceptions.IllegalValueException;
 import seedu.realodex.commons.util.JsonUtil;
 import seedu.realodex.model.Realodex;
+import seedu.realodex.model.person.Person;
 import seedu.realodex.testutil.TypicalPersons;
 
 public class JsonSerializableRealodexTest {
@@ -19,6 +21,7 @@ public class JsonSerializableRealodexTest {
     private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsRealodex.json");
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonRealodex.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonRealodex.json");
+    private static final Path OVERSIZED_VALUES_FILE = TEST_DATA_FOLDER.resolve("oversizedValuesRealodex.json");
 
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
@@ -36,6 +39,17 @@ public class JsonSerializableRealodexTest {
         assertThrows(IllegalValueException.class, dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_oversizedValues_clampsValuesAndKeepsAllPersons() throws Exception {
+        JsonSerializableRealodex dataFromFile = JsonUtil.readJsonFile(OVERSIZED_VALUES_FILE,
+                                                                      JsonSerializableRealodex.class).get();
+        List<Person> persons = dataFromFile.toModelType().getPersonList();
+        assertEquals(2, persons.size());
+        assertEquals(Long.MAX_VALUE, persons.get(0).getIncome().getValue());
+        assertEquals(Integer.MAX_VALUE, persons.get(0).getFamily().getValue());
+        assertEquals(20000, persons.get(1).getIncome().getValue());
+    }
+
     @Test
     public void toModelType_duplicatePersons_throwsIllegalValueException() throws Exception {
         JsonSerializableRealodex dataFromFile = JsonUtil.readJsonFile(DUPLICATE_PERSON_FILE,
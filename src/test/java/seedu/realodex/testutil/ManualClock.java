@@ -0,0 +1,51 @@
+package seedu.realodex.testutil;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * A {@code Clock} in UTC that stays at the time it is set to, for tests that depend on today's date.
+ */
+public class ManualClock extends Clock {
+    private Instant instant;
+
+    /**
+     * Creates a {@code ManualClock} set to the start of {@code date}.
+     */
+    public ManualClock(LocalDate date) {
+        setDate(date);
+    }
+
+    /**
+     * Sets the clock to the start of {@code date}.
+     */
+    public void setDate(LocalDate date) {
+        instant = date.atStartOfDay(ZoneOffset.UTC).toInstant();
+    }
+
+    /**
+     * Moves the clock forward by {@code duration}.
+     */
+    public void advance(Duration duration) {
+        instant = instant.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        throw new UnsupportedOperationException("ManualClock only keeps time in UTC");
+    }
+
+    @Override
+    public Instant instant() {
+        return instant;
+    }
+}